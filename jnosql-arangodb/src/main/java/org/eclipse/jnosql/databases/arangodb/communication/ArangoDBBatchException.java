@@ -0,0 +1,45 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.arangodb.communication;
+
+
+import com.arangodb.entity.ErrorEntity;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * An exception when one or more documents of a multi-document operation fail. The other documents of the same
+ * operation are still applied; {@link #failures()} returns the server error of each document that failed.
+ */
+public class ArangoDBBatchException extends ArangoDBException {
+
+    private final Map<Integer, ErrorEntity> failures;
+
+    ArangoDBBatchException(Map<Integer, ErrorEntity> failures) {
+        super("The multi-document operation failed at the positions: " + failures.keySet());
+        this.failures = Collections.unmodifiableMap(failures);
+    }
+
+    /**
+     * Returns the server error for each document that failed, keyed by the position of the entity at the
+     * {@link Iterable} given to the operation.
+     *
+     * @return the failures by position
+     */
+    public Map<Integer, ErrorEntity> failures() {
+        return failures;
+    }
+}
@@ -17,6 +17,10 @@ package org.eclipse.jnosql.databases.arangodb.communication;
 
 
 import com.arangodb.ArangoDB;
+import com.arangodb.entity.ErrorEntity;
+import com.arangodb.entity.MultiDocumentEntity;
+import com.arangodb.model.DocumentCreateOptions;
+import com.arangodb.model.OverwriteMode;
 import jakarta.json.Json;
 import jakarta.json.JsonObject;
 import jakarta.json.bind.Jsonb;
@@ -27,6 +31,9 @@ import org.eclipse.jnosql.communication.keyvalue.BucketManager;
 import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
 
 import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
@@ -47,6 +54,8 @@ public class ArangoDBBucketManager implements BucketManager, ArangoDBAccessor {
     private static final String VALUE = "_value";
     private static final Function<JsonObject, String> TO_JSON = e -> e.getString(VALUE);
     private static final Jsonb JSONB = JsonbSupplier.getInstance().get();
+    private static final DocumentCreateOptions UPSERT = new DocumentCreateOptions()
+            .overwriteMode(OverwriteMode.replace);
 
     private final ArangoDB arangoDB;
 
@@ -67,17 +76,8 @@ public class ArangoDBBucketManager implements BucketManager, ArangoDBAccessor {
 
     @Override
     public <K, V> void put(K key, V value) throws NullPointerException {
-        Objects.requireNonNull(key, "Key is required");
-        Objects.requireNonNull(value, "value is required");
-        JsonObject jsonObject = Json.createObjectBuilder()
-                .add(KEY, key.toString())
-                .add(VALUE, JSONB.toJson(value))
-                .build();
-        if (arangoDB.db(bucketName).collection(namespace).documentExists(key.toString())) {
-            arangoDB.db(bucketName).collection(namespace).deleteDocument(key.toString());
-        }
         arangoDB.db(bucketName).collection(namespace)
-                .insertDocument(jsonObject);
+                .insertDocument(toJsonObject(key, value), UPSERT);
     }
 
     @Override
@@ -88,7 +88,25 @@ public class ArangoDBBucketManager implements BucketManager, ArangoDBAccessor {
 
     @Override
     public  void put(Iterable<KeyValueEntity> keyValueEntities) throws NullPointerException {
-        keyValueEntities.forEach(this::put);
+        Objects.requireNonNull(keyValueEntities, "keyValueEntities is required");
+        List<JsonObject> documents = stream(keyValueEntities.spliterator(), false)
+                .map(e -> toJsonObject(e.key(), e.value()))
+                .toList();
+        if (documents.isEmpty()) {
+            return;
+        }
+        MultiDocumentEntity<?> result = arangoDB.db(bucketName).collection(namespace)
+                .insertDocuments(documents, UPSERT);
+        Map<Integer, ErrorEntity> failures = new LinkedHashMap<>();
+        List<Object> responses = result.getDocumentsAndErrors();
+        for (int index = 0; index < responses.size(); index++) {
+            if (responses.get(index) instanceof ErrorEntity error) {
+                failures.put(index, error);
+            }
+        }
+        if (!failures.isEmpty()) {
+            throw new ArangoDBBatchException(failures);
+        }
     }
 
 
@@ -106,11 +124,16 @@ public class ArangoDBBucketManager implements BucketManager, ArangoDBAccessor {
 
     @Override
     public <K> Iterable<Value> get(Iterable<K> keys) throws NullPointerException {
-        return stream(keys.spliterator(), false)
+        Objects.requireNonNull(keys, "Keys is required");
+        List<String> ids = stream(keys.spliterator(), false)
                 .map(Object::toString)
-                .map(k -> arangoDB.db(bucketName).collection(namespace)
-                        .getDocument(k, JsonObject.class))
-                .filter(Objects::nonNull)
+                .toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return arangoDB.db(bucketName).collection(namespace)
+                .getDocuments(ids, JsonObject.class)
+                .getDocuments().stream()
                 .map(TO_JSON)
                 .map(ValueJSON::of)
                 .collect(toList());
@@ -150,4 +173,13 @@ public class ArangoDBBucketManager implements BucketManager, ArangoDBAccessor {
         return arangoDB;
     }
 
+    private static <K, V> JsonObject toJsonObject(K key, V value) {
+        Objects.requireNonNull(key, "Key is required");
+        Objects.requireNonNull(value, "value is required");
+        return Json.createObjectBuilder()
+                .add(KEY, key.toString())
+                .add(VALUE, JSONB.toJson(value))
+                .build();
+    }
+
 }
@@ -17,11 +17,14 @@ package org.eclipse.jnosql.databases.arangodb.communication;
 import com.arangodb.ArangoDB;
 import com.arangodb.Protocol;
 import com.arangodb.entity.LoadBalancingStrategy;
+import com.arangodb.serde.ArangoSerde;
 
 public class ArangoDBBuilder {
 
     private final ArangoDB.Builder arangoDB;
 
+    private ArangoSerde serde;
+
     ArangoDBBuilder(ArangoDB.Builder arangoDB) {
         this.arangoDB = arangoDB;
     }
@@ -58,6 +61,16 @@ public class ArangoDBBuilder {
         arangoDB.protocol(protocol);
     }
 
+    /**
+     * Sets the serde of the {@link ArangoDB} instances of this builder. The driver builder is shared by the
+     * configuration, so the serde is kept here and only set on it, with the lock of the driver builder, when building.
+     *
+     * @param serde the serde
+     */
+    public void serde(ArangoSerde serde) {
+        this.serde = serde;
+    }
+
     public void acquireHostList(boolean acquireHostList) {
         arangoDB.acquireHostList(acquireHostList);
     }
@@ -67,6 +80,11 @@ public class ArangoDBBuilder {
     }
 
     public ArangoDB build() {
-        return arangoDB.build();
+        synchronized (arangoDB) {
+            if (serde != null) {
+                arangoDB.serde(serde);
+            }
+            return arangoDB.build();
+        }
     }
 }
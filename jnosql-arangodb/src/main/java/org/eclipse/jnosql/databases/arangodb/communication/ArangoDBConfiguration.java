@@ -21,6 +21,8 @@ import com.arangodb.entity.LoadBalancingStrategy;
 import com.arangodb.serde.ArangoSerde;
 import org.eclipse.jnosql.communication.Settings;
 
+import java.util.Locale;
+
 import static java.util.Objects.requireNonNull;
 
 /**
@@ -30,8 +32,10 @@ import static java.util.Objects.requireNonNull;
  */
 public abstract class ArangoDBConfiguration {
 
+    private ArangoSerde serde = new JsonbSerde();
+
     protected ArangoDB.Builder builder = new ArangoDB.Builder()
-            .serde(new JsonbSerde());
+            .serde(serde);
 
     /**
      * Adds a host in the arangodb builder
@@ -99,18 +103,58 @@ public abstract class ArangoDBConfiguration {
      * By default, the builder is configured to use {@link JsonbSerde};
      * this setter allows overriding it, i.e. providing an instance of
      * {@link JsonbSerde} that uses a specific {@link jakarta.json.bind.Jsonb}
-     * instance.
+     * instance, or {@link StreamingSerde}.
      *
      * @param serde the serde
      */
     public void setSerde(ArangoSerde serde) {
+        requireNonNull(serde, "serde is required");
+        this.serde = serde;
         builder.serde(serde);
     }
 
+    /**
+     * Returns true when the serde maps the {@link org.eclipse.jnosql.communication.semistructured.CommunicationEntity}
+     * straight from and to the driver bytes, so the document manager does not need to build a JsonP tree.
+     *
+     * @param serde the serde
+     * @return true when the serde is a {@link StreamingSerde}
+     */
+    protected static boolean isEntitySerde(ArangoSerde serde) {
+        return serde instanceof StreamingSerde;
+    }
+
+    /**
+     * Returns the serde of the {@link ArangoDBConfigurations#SERDE} setting, or the one of {@link #setSerde(ArangoSerde)}
+     * when the setting is not present; the configuration is not changed.
+     *
+     * @param settings the settings
+     * @return the serde
+     */
+    protected ArangoSerde getSerde(Settings settings) {
+        return settings.get(ArangoDBConfigurations.SERDE)
+                .map(Object::toString)
+                .map(ArangoDBConfiguration::serde)
+                .orElse(serde);
+    }
+
     protected ArangoDBBuilder getArangoDBBuilder(Settings settings) {
+        return getArangoDBBuilder(settings, getSerde(settings));
+    }
+
+    protected ArangoDBBuilder getArangoDBBuilder(Settings settings, ArangoSerde serde) {
         ArangoDBBuilder aragonDB = new ArangoDBBuilder(builder);
+        aragonDB.serde(serde);
         ArangoDBBuilders.load(settings, aragonDB);
         return aragonDB;
     }
 
+    private static ArangoSerde serde(String name) {
+        return switch (name.toLowerCase(Locale.US)) {
+            case "jsonb" -> new JsonbSerde();
+            case "streaming" -> new StreamingSerde();
+            default -> throw new IllegalArgumentException("The serde is not supported: " + name);
+        };
+    }
+
 }
@@ -66,7 +66,17 @@ public enum ArangoDBConfigurations implements Supplier<String> {
     /**
      *Set hosts split by comma
      */
-    HOST_LIST("jnosql.arangodb.acquire.host.list");
+    HOST_LIST("jnosql.arangodb.acquire.host.list"),
+    /**
+     * The maximum number of documents sent in a single multi-document request by the document manager,
+     * by default 1000.
+     */
+    BATCH_SIZE("jnosql.arangodb.batch.size"),
+    /**
+     * The serde for the user data: {@code jsonb}, the default, uses {@link JsonbSerde};
+     * {@code streaming} uses {@link StreamingSerde}, which maps the documents straight from and to the driver bytes.
+     */
+    SERDE("jnosql.arangodb.serde");
     private final String configuration;
 
     ArangoDBConfigurations(String configuration) {
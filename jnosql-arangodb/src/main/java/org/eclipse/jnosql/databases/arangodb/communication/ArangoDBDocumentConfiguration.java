@@ -15,6 +15,7 @@
 
 package org.eclipse.jnosql.databases.arangodb.communication;
 
+import com.arangodb.serde.ArangoSerde;
 import org.eclipse.jnosql.communication.Settings;
 import org.eclipse.jnosql.communication.semistructured.DatabaseConfiguration;
 
@@ -35,8 +36,12 @@ public final class ArangoDBDocumentConfiguration extends ArangoDBConfiguration
     public ArangoDBDocumentManagerFactory apply(Settings settings) throws NullPointerException {
         requireNonNull(settings, "settings is required");
 
-        ArangoDBBuilder arangoDBBuilder = getArangoDBBuilder(settings);
-        return new ArangoDBDocumentManagerFactory(arangoDBBuilder);
+        ArangoSerde serde = getSerde(settings);
+        ArangoDBBuilder arangoDBBuilder = getArangoDBBuilder(settings, serde);
+        int batchSize = settings.get(ArangoDBConfigurations.BATCH_SIZE)
+                .map(Object::toString).map(Integer::valueOf)
+                .orElse(DefaultArangoDBDocumentManager.DEFAULT_BATCH_SIZE);
+        return new ArangoDBDocumentManagerFactory(arangoDBBuilder, batchSize, isEntitySerde(serde));
     }
 
 }
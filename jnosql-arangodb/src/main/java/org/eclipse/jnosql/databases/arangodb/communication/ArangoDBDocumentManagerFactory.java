@@ -24,15 +24,25 @@ public final class ArangoDBDocumentManagerFactory implements DatabaseManagerFact
 
     private final ArangoDBBuilder arangoDBBuilder;
 
-    ArangoDBDocumentManagerFactory(ArangoDBBuilder arangoDBBuilder) {
+    private final int batchSize;
+
+    private final boolean entitySerde;
+
+    ArangoDBDocumentManagerFactory(ArangoDBBuilder arangoDBBuilder, int batchSize, boolean entitySerde) {
         this.arangoDBBuilder = arangoDBBuilder;
+        this.batchSize = batchSize;
+        this.entitySerde = entitySerde;
     }
 
     @Override
     public ArangoDBDocumentManager apply(String database) {
-        ArangoDB arangoDB = arangoDBBuilder.build();
+        ArangoDB arangoDB = build();
         ArangoDBUtil.checkDatabase(database, arangoDB);
-        return new DefaultArangoDBDocumentManager(database, arangoDB);
+        return new DefaultArangoDBDocumentManager(database, arangoDB, batchSize, entitySerde);
+    }
+
+    ArangoDB build() {
+        return arangoDBBuilder.build();
     }
 
     @Override
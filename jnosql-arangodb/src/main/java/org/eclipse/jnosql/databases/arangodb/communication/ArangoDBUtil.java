@@ -50,6 +50,7 @@ public final class ArangoDBUtil {
     public static final String ID = "_id";
     public static final String REV = "_rev";
     private static final Logger LOGGER = Logger.getLogger(ArangoDBUtil.class.getName());
+    private static final int ERROR_ARANGO_DUPLICATE_NAME = 1207;
 
     private ArangoDBUtil() {
     }
@@ -62,8 +63,11 @@ public final class ArangoDBUtil {
             if (!databases.contains(database)) {
                 arangoDB.createDatabase(database);
             }
-        } catch (ArangoDBException e) {
-            LOGGER.log(Level.WARNING, "Failed to create database: " + database, e);
+        } catch (com.arangodb.ArangoDBException e) {
+            if (!isDuplicateName(e)) {
+                throw e;
+            }
+            LOGGER.log(Level.FINEST, "The database was created concurrently: " + database);
         }
     }
 
@@ -74,10 +78,21 @@ public final class ArangoDBUtil {
                 .map(CollectionEntity::getName)
                 .toList();
         if (!collections.contains(namespace)) {
-            arangoDB.db(bucketName).createCollection(namespace);
+            try {
+                arangoDB.db(bucketName).createCollection(namespace);
+            } catch (com.arangodb.ArangoDBException e) {
+                if (!isDuplicateName(e)) {
+                    throw e;
+                }
+                LOGGER.log(Level.FINEST, "The collection was created concurrently: " + namespace);
+            }
         }
     }
 
+    private static boolean isDuplicateName(com.arangodb.ArangoDBException exception) {
+        return Integer.valueOf(ERROR_ARANGO_DUPLICATE_NAME).equals(exception.getErrorNum());
+    }
+
     static CommunicationEntity toEntity(JsonObject jsonObject) {
         List<Element> documents = toDocuments(jsonObject);
 
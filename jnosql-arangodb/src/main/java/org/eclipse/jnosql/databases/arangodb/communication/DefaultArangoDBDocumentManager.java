@@ -18,7 +18,10 @@ import com.arangodb.ArangoCursor;
 import com.arangodb.ArangoDB;
 import com.arangodb.entity.BaseDocument;
 import com.arangodb.entity.DocumentCreateEntity;
+import com.arangodb.entity.DocumentEntity;
 import com.arangodb.entity.DocumentUpdateEntity;
+import com.arangodb.entity.ErrorEntity;
+import com.arangodb.entity.MultiDocumentEntity;
 import jakarta.json.JsonObject;
 import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
 import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
@@ -26,7 +29,14 @@ import org.eclipse.jnosql.communication.semistructured.Element;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -45,13 +55,26 @@ class DefaultArangoDBDocumentManager implements ArangoDBDocumentManager {
     public static final String ID = "_id";
     public static final String REV = "_rev";
 
+    static final int DEFAULT_BATCH_SIZE = 1_000;
+
     private final String database;
 
     private final ArangoDB arangoDB;
 
-    DefaultArangoDBDocumentManager(String database, ArangoDB arangoDB) {
+    private final int batchSize;
+
+    private final boolean entitySerde;
+
+    private final Set<String> collections = ConcurrentHashMap.newKeySet();
+
+    DefaultArangoDBDocumentManager(String database, ArangoDB arangoDB, int batchSize, boolean entitySerde) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("The batch size must be greater than zero: " + batchSize);
+        }
         this.database = database;
         this.arangoDB = arangoDB;
+        this.batchSize = batchSize;
+        this.entitySerde = entitySerde;
     }
 
     @Override
@@ -63,10 +86,9 @@ class DefaultArangoDBDocumentManager implements ArangoDBDocumentManager {
     public CommunicationEntity insert(CommunicationEntity entity)  {
         requireNonNull(entity, "entity is required");
         String collectionName = entity.name();
-        checkCollection(collectionName);
-        JsonObject jsonObject = ArangoDBUtil.toJsonObject(entity);
-        DocumentCreateEntity<Void> arangoDocument = arangoDB.db(database)
-                .collection(collectionName).insertDocument(jsonObject);
+        Object document = toDocument(entity);
+        DocumentCreateEntity<Void> arangoDocument = execute(collectionName, () -> arangoDB.db(database)
+                .collection(collectionName).insertDocument(document));
         updateEntity(entity, arangoDocument.getKey(), arangoDocument.getId(), arangoDocument.getRev());
         return entity;
     }
@@ -75,13 +97,10 @@ class DefaultArangoDBDocumentManager implements ArangoDBDocumentManager {
     public CommunicationEntity update(CommunicationEntity entity) {
         requireNonNull(entity, "entity is required");
         String collectionName = entity.name();
-        checkCollection(collectionName);
-        entity.find(KEY, String.class)
-                .orElseThrow(() -> new IllegalArgumentException("The document does not provide" +
-                        " the _key column"));
-        JsonObject jsonObject = ArangoDBUtil.toJsonObject(entity);
-        DocumentUpdateEntity<Void> arangoDocument = arangoDB.db(database)
-                .collection(collectionName).updateDocument(jsonObject.getString(KEY), jsonObject);
+        String key = requireKey(entity);
+        Object document = toDocument(entity);
+        DocumentUpdateEntity<Void> arangoDocument = execute(collectionName, () -> arangoDB.db(database)
+                .collection(collectionName).updateDocument(key, document));
         updateEntity(entity, arangoDocument.getKey(), arangoDocument.getId(), arangoDocument.getRev());
         return entity;
     }
@@ -90,9 +109,11 @@ class DefaultArangoDBDocumentManager implements ArangoDBDocumentManager {
     @Override
     public Iterable<CommunicationEntity> update(Iterable<CommunicationEntity> entities) {
         requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::update)
-                .collect(Collectors.toList());
+        List<CommunicationEntity> values = StreamSupport.stream(entities.spliterator(), false)
+                .toList();
+        values.forEach(DefaultArangoDBDocumentManager::requireKey);
+        return batch(values, (collectionName, documents) -> arangoDB.db(database)
+                .collection(collectionName).updateDocuments(documents));
     }
 
     @Override
@@ -111,6 +132,7 @@ class DefaultArangoDBDocumentManager implements ArangoDBDocumentManager {
                     null);
         } catch (com.arangodb.ArangoDBException exception) {
             if (ERROR_ARANGO_DATA_SOURCE_NOT_FOUND.equals(exception.getErrorNum())) {
+                collections.remove(query.name());
                 LOGGER.log(Level.FINEST, exception, () -> "An error to run query, that is related to delete " +
                         "a document collection that does not exist");
             } else {
@@ -122,15 +144,9 @@ class DefaultArangoDBDocumentManager implements ArangoDBDocumentManager {
     @Override
     public Stream<CommunicationEntity> select(SelectQuery query) throws NullPointerException {
         requireNonNull(query, "query is required");
-        checkCollection(query.name());
         AQLQueryResult result = QueryAQLConverter.select(query);
         LOGGER.finest("Executing AQL: " + result.query());
-        ArangoCursor<JsonObject> documents = arangoDB.db(database).query(result.query(),
-                JsonObject.class,
-                result.values(), null);
-
-        return StreamSupport.stream(documents.spliterator(), false)
-                .map(ArangoDBUtil::toEntity);
+        return execute(query.name(), () -> entities(result.query(), result.values()));
     }
 
     @Override
@@ -147,9 +163,7 @@ class DefaultArangoDBDocumentManager implements ArangoDBDocumentManager {
     public Stream<CommunicationEntity> aql(String query, Map<String, Object> params) throws NullPointerException {
         requireNonNull(query, "query is required");
         requireNonNull(params, "values is required");
-        ArangoCursor<JsonObject> result = arangoDB.db(database).query(query, JsonObject.class, params, null);
-        return StreamSupport.stream(result.spliterator(), false)
-                .map(ArangoDBUtil::toEntity);
+        return entities(query, params);
     }
 
     @Override
@@ -177,7 +191,32 @@ class DefaultArangoDBDocumentManager implements ArangoDBDocumentManager {
 
 
     private void checkCollection(String collectionName) {
+        if (collections.contains(collectionName)) {
+            return;
+        }
         ArangoDBUtil.checkCollection(database, arangoDB, collectionName);
+        collections.add(collectionName);
+    }
+
+    /**
+     * Runs the operation on a collection that is known to exist. The collection check is cached by this manager;
+     * when the collection turns out to be missing, e.g. it was dropped, the cache entry is invalidated,
+     * the collection is created again and the operation is retried once.
+     */
+    private <T> T execute(String collectionName, Supplier<T> operation) {
+        checkCollection(collectionName);
+        try {
+            return operation.get();
+        } catch (com.arangodb.ArangoDBException exception) {
+            if (!ERROR_ARANGO_DATA_SOURCE_NOT_FOUND.equals(exception.getErrorNum())) {
+                throw exception;
+            }
+            LOGGER.log(Level.FINEST, exception, () -> "The collection " + collectionName
+                    + " was not found, checking it again");
+            collections.remove(collectionName);
+            checkCollection(collectionName);
+            return operation.get();
+        }
     }
 
     @Override
@@ -188,9 +227,10 @@ class DefaultArangoDBDocumentManager implements ArangoDBDocumentManager {
     @Override
     public Iterable<CommunicationEntity> insert(Iterable<CommunicationEntity> entities) {
         requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::insert)
-                .collect(Collectors.toList());
+        List<CommunicationEntity> values = StreamSupport.stream(entities.spliterator(), false)
+                .toList();
+        return batch(values, (collectionName, documents) -> arangoDB.db(database)
+                .collection(collectionName).insertDocuments(documents));
     }
 
     @Override
@@ -207,6 +247,68 @@ class DefaultArangoDBDocumentManager implements ArangoDBDocumentManager {
         return arangoDB;
     }
 
+    /**
+     * Sends the entities grouped by collection, at most {@code batchSize} documents per request, and writes
+     * {@code _key}, {@code _id} and {@code _rev} back on each entity that succeeded. The documents that failed
+     * do not stop the others; they are reported together by a {@link ArangoDBBatchException} at the end.
+     */
+    private List<CommunicationEntity> batch(List<CommunicationEntity> entities,
+                                            BiFunction<String, List<Object>,
+                                                    MultiDocumentEntity<? extends DocumentEntity>> operation) {
+        Map<String, List<Integer>> positionsByCollection = new LinkedHashMap<>();
+        for (int index = 0; index < entities.size(); index++) {
+            CommunicationEntity entity = requireNonNull(entities.get(index), "entity is required");
+            positionsByCollection.computeIfAbsent(entity.name(), k -> new ArrayList<>()).add(index);
+        }
+        Map<Integer, ErrorEntity> failures = new LinkedHashMap<>();
+        positionsByCollection.forEach((collectionName, positions) -> {
+            for (int start = 0; start < positions.size(); start += batchSize) {
+                List<Integer> chunk = positions.subList(start, Math.min(start + batchSize, positions.size()));
+                List<Object> documents = chunk.stream().map(entities::get)
+                        .map(this::toDocument)
+                        .toList();
+                MultiDocumentEntity<? extends DocumentEntity> result = execute(collectionName,
+                        () -> operation.apply(collectionName, documents));
+                List<Object> responses = result.getDocumentsAndErrors();
+                for (int index = 0; index < chunk.size(); index++) {
+                    int position = chunk.get(index);
+                    Object response = responses.get(index);
+                    if (response instanceof DocumentEntity document) {
+                        updateEntity(entities.get(position), document.getKey(), document.getId(), document.getRev());
+                    } else if (response instanceof ErrorEntity error) {
+                        failures.put(position, error);
+                    }
+                }
+            }
+        });
+        if (!failures.isEmpty()) {
+            throw new ArangoDBBatchException(failures);
+        }
+        return entities;
+    }
+
+    private static String requireKey(CommunicationEntity entity) {
+        requireNonNull(entity, "entity is required");
+        return entity.find(KEY, String.class)
+                .orElseThrow(() -> new IllegalArgumentException("The document does not provide" +
+                        " the _key column"));
+    }
+
+    private Object toDocument(CommunicationEntity entity) {
+        return entitySerde ? entity : ArangoDBUtil.toJsonObject(entity);
+    }
+
+    private Stream<CommunicationEntity> entities(String query, Map<String, Object> values) {
+        if (entitySerde) {
+            ArangoCursor<CommunicationEntity> result = arangoDB.db(database)
+                    .query(query, CommunicationEntity.class, values, null);
+            return StreamSupport.stream(result.spliterator(), false);
+        }
+        ArangoCursor<JsonObject> result = arangoDB.db(database).query(query, JsonObject.class, values, null);
+        return StreamSupport.stream(result.spliterator(), false)
+                .map(ArangoDBUtil::toEntity);
+    }
+
     private void updateEntity(CommunicationEntity entity, String key, String id, String rev) {
         entity.add(Element.of(KEY, key));
         entity.add(Element.of(ID, id));
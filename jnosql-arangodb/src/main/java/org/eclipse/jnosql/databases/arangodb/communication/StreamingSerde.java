@@ -0,0 +1,194 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.arangodb.communication;
+
+import com.arangodb.serde.ArangoSerde;
+import jakarta.json.Json;
+import jakarta.json.bind.Jsonb;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonParser;
+import org.eclipse.jnosql.communication.ValueUtil;
+import org.eclipse.jnosql.communication.driver.JsonbSupplier;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.Element;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static java.util.stream.StreamSupport.stream;
+import static org.eclipse.jnosql.databases.arangodb.communication.ArangoDBUtil.ID;
+import static org.eclipse.jnosql.databases.arangodb.communication.ArangoDBUtil.KEY;
+
+/**
+ * ArangoDB user-data serde that reads and writes the driver bytes as streams, without an intermediary
+ * {@link String}. A {@link CommunicationEntity} is written from and read into its {@link Element}s straight
+ * from the JSON stream, without a {@link jakarta.json.JsonObject} tree; any other type, including the JsonP types,
+ * goes through JSONB. An integral number becomes an {@link Integer} or a {@link Long} when it fits, and any other
+ * number a {@link Double}, as the Elasticsearch documents are read.
+ * <p>It is selected with {@code jnosql.arangodb.serde=streaming}, see {@link ArangoDBConfigurations#SERDE}.</p>
+ */
+public class StreamingSerde implements ArangoSerde {
+
+    private final Jsonb jsonb;
+
+    public StreamingSerde() {
+        this(JsonbSupplier.getInstance().get());
+    }
+
+    /**
+     * Alternative constructor to provide {@link Jsonb} instance to use for the types other than
+     * {@link CommunicationEntity}
+     * @param jsonb Jsonb
+     */
+    public StreamingSerde(Jsonb jsonb) {
+        this.jsonb = jsonb;
+    }
+
+    @Override
+    public byte[] serialize(Object value) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        if (value instanceof CommunicationEntity entity) {
+            try (JsonGenerator generator = Json.createGenerator(output)) {
+                writeElements(generator, entity.elements());
+            }
+        } else {
+            jsonb.toJson(value, output);
+        }
+        return output.toByteArray();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T deserialize(byte[] content, Class<T> type) {
+        ByteArrayInputStream input = new ByteArrayInputStream(content);
+        if (CommunicationEntity.class.equals(type)) {
+            try (JsonParser parser = Json.createParser(input)) {
+                parser.next();
+                return (T) toEntity(readElements(parser));
+            }
+        }
+        return jsonb.fromJson(input, type);
+    }
+
+    private static CommunicationEntity toEntity(List<Element> elements) {
+        String id = elements.stream().filter(e -> ID.equals(e.name()))
+                .map(e -> e.get(String.class))
+                .findFirst()
+                .orElseThrow(() -> new ArangoDBException("The document does not provide the _id column"));
+        return CommunicationEntity.of(id.split("/")[0], elements);
+    }
+
+    private static List<Element> readElements(JsonParser parser) {
+        List<Element> elements = new ArrayList<>();
+        while (parser.next() != JsonParser.Event.END_OBJECT) {
+            String name = parser.getString();
+            elements.add(Element.of(name, readValue(parser, parser.next())));
+        }
+        return elements;
+    }
+
+    private static List<Object> readArray(JsonParser parser) {
+        List<Object> values = new ArrayList<>();
+        JsonParser.Event event;
+        while ((event = parser.next()) != JsonParser.Event.END_ARRAY) {
+            values.add(readValue(parser, event));
+        }
+        return values;
+    }
+
+    private static Object readValue(JsonParser parser, JsonParser.Event event) {
+        return switch (event) {
+            case START_OBJECT -> readElements(parser);
+            case START_ARRAY -> readArray(parser);
+            case VALUE_STRING -> parser.getString();
+            case VALUE_NUMBER -> readNumber(parser);
+            case VALUE_TRUE -> true;
+            case VALUE_FALSE -> false;
+            case VALUE_NULL -> null;
+            default -> throw new ArangoDBException("Unexpected JSON event at the document: " + event);
+        };
+    }
+
+    private static Number readNumber(JsonParser parser) {
+        if (parser.isIntegralNumber()) {
+            long value = parser.getLong();
+            if (value == (int) value) {
+                return (int) value;
+            }
+            BigDecimal decimal = parser.getBigDecimal();
+            return decimal.compareTo(BigDecimal.valueOf(value)) == 0 ? value : decimal;
+        }
+        return parser.getBigDecimal().doubleValue();
+    }
+
+    private static void writeElements(JsonGenerator generator, Iterable<Element> elements) {
+        generator.writeStartObject();
+        for (Element element : elements) {
+            if (KEY.equals(element.name()) && Objects.isNull(element.get())) {
+                continue;
+            }
+            generator.writeKey(element.name());
+            writeValue(generator, ValueUtil.convert(element.value(), ArangoDBValueWriteDecorator.ARANGO_DB_VALUE_WRITER));
+        }
+        generator.writeEnd();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void writeValue(JsonGenerator generator, Object value) {
+        if (value instanceof Element element) {
+            writeElements(generator, Collections.singletonList(element));
+        } else if (value instanceof Iterable<?> iterable) {
+            if (stream(iterable.spliterator(), false).allMatch(Element.class::isInstance)) {
+                writeElements(generator, (Iterable<Element>) iterable);
+            } else {
+                generator.writeStartArray();
+                for (Object it : iterable) {
+                    writeValue(generator, it);
+                }
+                generator.writeEnd();
+            }
+        } else if (value instanceof Map<?, ?> map) {
+            generator.writeStartObject();
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                generator.writeKey((String) entry.getKey());
+                writeValue(generator, entry.getValue());
+            }
+            generator.writeEnd();
+        } else if (Objects.isNull(value)) {
+            generator.writeNull();
+        } else if (value instanceof BigDecimal number) {
+            generator.write(number);
+        } else if (value instanceof BigInteger number) {
+            generator.write(number);
+        } else if (value instanceof Double || value instanceof Float) {
+            generator.write(((Number) value).doubleValue());
+        } else if (value instanceof Number number) {
+            generator.write(number.longValue());
+        } else if (value instanceof String string) {
+            generator.write(string);
+        } else if (value instanceof Boolean bool) {
+            generator.write(bool);
+        } else {
+            throw new IllegalArgumentException("Unsupported type: " + value.getClass());
+        }
+    }
+}
@@ -15,6 +15,7 @@
 
 package org.eclipse.jnosql.databases.arangodb.communication;
 
+import com.arangodb.ArangoDB;
 import org.eclipse.jnosql.communication.Settings;
 import org.eclipse.jnosql.communication.semistructured.DatabaseConfiguration;
 import org.junit.jupiter.api.Assertions;
@@ -33,6 +34,43 @@ public class ArangoDBDocumentConfigurationTest {
         assertNotNull(managerFactory);
     }
 
+    @Test
+    public void shouldSelectStreamingSerde() {
+        ArangoDBDocumentConfiguration configuration = new ArangoDBDocumentConfiguration();
+        configuration.addHost("localhost", 8529);
+        Settings settings = Settings.builder().put(ArangoDBConfigurations.SERDE, "streaming").build();
+        assertNotNull(configuration.apply(settings));
+        Assertions.assertTrue(ArangoDBConfiguration.isEntitySerde(configuration.getSerde(settings)));
+    }
+
+    @Test
+    public void shouldNotKeepTheSerdeOfPreviousSettings() {
+        ArangoDBDocumentConfiguration configuration = new ArangoDBDocumentConfiguration();
+        configuration.addHost("localhost", 8529);
+        assertNotNull(configuration.apply(Settings.builder().put(ArangoDBConfigurations.SERDE, "streaming").build()));
+        Assertions.assertInstanceOf(JsonbSerde.class, configuration.getSerde(Settings.builder().build()));
+    }
+
+    @Test
+    public void shouldBuildEachFactoryWithItsOwnSerde() {
+        ArangoDBDocumentConfiguration configuration = new ArangoDBDocumentConfiguration();
+        configuration.addHost("localhost", 8529);
+        ArangoDBDocumentManagerFactory streaming = configuration
+                .apply(Settings.builder().put(ArangoDBConfigurations.SERDE, "streaming").build());
+        ArangoDBDocumentManagerFactory jsonb = configuration
+                .apply(Settings.builder().put(ArangoDBConfigurations.SERDE, "jsonb").build());
+
+        ArangoDB streamingArangoDB = streaming.build();
+        ArangoDB jsonbArangoDB = jsonb.build();
+        try {
+            Assertions.assertInstanceOf(StreamingSerde.class, streamingArangoDB.getSerde().getUserSerde());
+            Assertions.assertInstanceOf(JsonbSerde.class, jsonbArangoDB.getSerde().getUserSerde());
+        } finally {
+            streamingArangoDB.shutdown();
+            jsonbArangoDB.shutdown();
+        }
+    }
+
     @Test
     public void shouldReturnFromConfiguration() {
         ArangoDBDocumentConfiguration configuration = DatabaseConfiguration.getConfiguration();
@@ -48,6 +48,7 @@ import static org.eclipse.jnosql.communication.semistructured.SelectQuery.select
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @EnabledIfSystemProperty(named = NAMED, matches = MATCHES)
@@ -321,6 +322,42 @@ public class ArangoDBDocumentManagerTest {
         org.assertj.core.api.Assertions.assertThat(indexes).hasSize(15);
     }
 
+    @Test
+    void shouldInsertIterable() {
+        var entities = getEntitiesWithValues();
+        entityManager.insert(entities);
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(entities).allMatch(e -> e.find("_key").isPresent());
+            softly.assertThat(entities).allMatch(e -> e.find("_id").isPresent());
+            softly.assertThat(entities).allMatch(e -> e.find("_rev").isPresent());
+            softly.assertThat(entityManager.count(COLLECTION_NAME)).isEqualTo(3L);
+        });
+    }
+
+    @Test
+    void shouldUpdateIterable() {
+        var entities = getEntitiesWithValues();
+        entityManager.insert(entities);
+        entities.forEach(e -> e.add(Element.of("type", "U")));
+        entityManager.update(entities);
+        var query = select().from(COLLECTION_NAME).where("type").eq("U").build();
+        assertThat(entityManager.select(query)).hasSize(3);
+    }
+
+    @Test
+    void shouldReturnFailuresAtInsertIterable() {
+        var entity = getEntity();
+        var duplicated = getEntity();
+        duplicated.add(Element.of(KEY_NAME, entity.find(KEY_NAME).orElseThrow().get()));
+
+        var exception = assertThrows(ArangoDBBatchException.class,
+                () -> entityManager.insert(List.of(entity, duplicated)));
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(exception.failures()).containsOnlyKeys(1);
+            softly.assertThat(entity.find("_rev")).isPresent();
+        });
+    }
+
     @Test
     void shouldExposeArangoDB() {
         ArangoDB adb = entityManager.getArangoDB();
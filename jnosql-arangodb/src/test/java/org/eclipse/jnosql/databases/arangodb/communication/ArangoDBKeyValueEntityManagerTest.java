@@ -95,6 +95,24 @@ public class ArangoDBKeyValueEntityManagerTest {
 
     }
 
+    @Test
+    public void shouldReplaceValue() {
+        keyValueEntityManager.put("otavio", userOtavio);
+        keyValueEntityManager.put("otavio", userSoro);
+        Optional<Value> otavio = keyValueEntityManager.get("otavio");
+        assertTrue(otavio.isPresent());
+        assertEquals(userSoro, otavio.get().get(User.class));
+    }
+
+    @Test
+    public void shouldIgnoreMissingKeysAtMultiGet() {
+        keyValueEntityManager.put(asList(keyValueSoro, keyValueOtavio));
+        Iterable<Value> values = keyValueEntityManager.get(asList("otavio", "soro", "not-found"));
+        assertThat(StreamSupport.stream(values.spliterator(), false).map(value -> value.get(User.class))
+                .collect(Collectors.toList()))
+                .containsExactlyInAnyOrder(userOtavio, userSoro);
+    }
+
     @Test
     public void shouldRemoveKey() {
 
@@ -0,0 +1,86 @@
+/*
+ *  Copyright (c) 2024 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.arangodb.communication;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.Element;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StreamingSerdeTest {
+
+    private final StreamingSerde serde = new StreamingSerde();
+
+    @Test
+    void shouldWriteEntityAsDocument() {
+        var entity = CommunicationEntity.of("person");
+        entity.add(Element.of("_key", null));
+        entity.add(Element.of("name", "Ada"));
+        entity.add(Element.of("age", 36));
+        entity.add(Element.of("address", List.of(Element.of("city", "London"))));
+
+        JsonObject json = Json.createReader(new ByteArrayInputStream(serde.serialize(entity))).readObject();
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(json.containsKey("_key")).isFalse();
+            softly.assertThat(json.getString("name")).isEqualTo("Ada");
+            softly.assertThat(json.getInt("age")).isEqualTo(36);
+            softly.assertThat(json.getJsonObject("address").getString("city")).isEqualTo("London");
+        });
+    }
+
+    @Test
+    void shouldWriteUUIDAsString() {
+        var uuid = UUID.randomUUID();
+        var entity = CommunicationEntity.of("person");
+        entity.add(Element.of("uuid", uuid));
+        String json = new String(serde.serialize(entity), StandardCharsets.UTF_8);
+        assertThat(json).contains(uuid.toString());
+    }
+
+    @Test
+    void shouldReadEntityFromDocument() {
+        byte[] content = """
+                {"_key":"ada","_id":"person/ada","_rev":"1","name":"Ada","age":36,"salary":10.5,
+                "phones":["1","2"],"address":{"city":"London"},"nickname":null}
+                """.getBytes(StandardCharsets.UTF_8);
+
+        CommunicationEntity entity = serde.deserialize(content, CommunicationEntity.class);
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(entity.name()).isEqualTo("person");
+            softly.assertThat(entity.find("_key", String.class)).contains("ada");
+            softly.assertThat(entity.find("name", String.class)).contains("Ada");
+            softly.assertThat(entity.find("age").orElseThrow().get()).isEqualTo(36);
+            softly.assertThat(entity.find("salary").orElseThrow().get()).isEqualTo(10.5D);
+            softly.assertThat(entity.find("phones").orElseThrow().get()).isEqualTo(List.of("1", "2"));
+            softly.assertThat(entity.find("address").orElseThrow().get())
+                    .isEqualTo(List.of(Element.of("city", "London")));
+        });
+    }
+
+    @Test
+    void shouldUseJsonbToOtherTypes() {
+        byte[] content = serde.serialize(new User("otavio"));
+        assertThat(serde.deserialize(content, User.class)).isEqualTo(new User("otavio"));
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchbase.communication;
+
+import com.couchbase.client.core.error.UnambiguousTimeoutException;
+import com.couchbase.client.java.Bucket;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Waits for a {@link Bucket} to be ready once and caches the result, so the operations do not pay a readiness
+ * round trip on every call. When an operation fails with {@link UnambiguousTimeoutException}, the bucket might not
+ * be ready anymore; it waits again and retries that operation once, which is safe because the server did not
+ * apply it. The reactive operations, such as each key of a bulk operation or a streamed query, use
+ * {@link #retry(Supplier)}, so the timeout is handled per operation before it is wrapped or deferred.
+ */
+final class BucketReadiness {
+
+    private static final Logger LOGGER = Logger.getLogger(BucketReadiness.class.getName());
+
+    private final Bucket bucket;
+
+    private final Duration timeout;
+
+    private volatile boolean ready;
+
+    BucketReadiness(Bucket bucket, Duration timeout) {
+        this.bucket = bucket;
+        this.timeout = Optional.ofNullable(timeout)
+                .orElseGet(() -> bucket.environment().timeoutConfig().kvDurableTimeout());
+    }
+
+    void run(Runnable runnable) {
+        get(() -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    <T> T get(Supplier<T> supplier) {
+        waitUntilReady();
+        try {
+            return supplier.get();
+        } catch (UnambiguousTimeoutException exception) {
+            LOGGER.log(Level.FINEST, "Operation timed out at the bucket " + bucket.name()
+                    + ", waiting for it to be ready again", exception);
+            this.ready = false;
+            waitUntilReady();
+            return supplier.get();
+        }
+    }
+
+    /**
+     * Subscribes to the operation and, when it fails with {@link UnambiguousTimeoutException}, waits for the bucket
+     * to be ready again, off the event loop, and subscribes to a new operation once.
+     *
+     * @param operation the reactive operation
+     * @param <T>       the result type
+     * @return the operation that retries once on timeout
+     */
+    <T> Mono<T> retry(Supplier<? extends Mono<? extends T>> operation) {
+        return Mono.defer(operation).onErrorResume(UnambiguousTimeoutException.class, exception -> {
+            LOGGER.log(Level.FINEST, "Operation timed out at the bucket " + bucket.name()
+                    + ", waiting for it to be ready again", exception);
+            this.ready = false;
+            return Mono.fromRunnable(this::waitUntilReady)
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .then(Mono.defer(operation));
+        });
+    }
+
+    void waitUntilReady() {
+        if (ready) {
+            return;
+        }
+        synchronized (this) {
+            if (!ready) {
+                bucket.waitUntilReady(timeout);
+                ready = true;
+            }
+        }
+    }
+}
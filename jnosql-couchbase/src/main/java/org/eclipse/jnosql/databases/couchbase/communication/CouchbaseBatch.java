@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchbase.communication;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Fans out a bulk operation through the reactive API with a bounded number of requests in flight,
+ * so N keys cost about one network round trip instead of N.
+ */
+final class CouchbaseBatch {
+
+    private CouchbaseBatch() {
+    }
+
+    /**
+     * Executes the operation for each element and waits for all of them. The results keep the elements order,
+     * an operation that completes empty does not produce a result.
+     *
+     * @param elements    the elements
+     * @param key         the key of an element, used to report failures
+     * @param operation   the reactive operation of a single element
+     * @param concurrency the maximum of operations in flight
+     * @param <E>         the element type
+     * @param <T>         the result type
+     * @return the results
+     * @throws CouchbaseBatchException when at least one element fails
+     */
+    static <E, T> List<T> execute(Iterable<E> elements, Function<E, String> key,
+                                  Function<E, Mono<T>> operation, int concurrency) {
+        return executeAsync(elements, key, operation, concurrency).block();
+    }
+
+    /**
+     * The non-blocking version of {@link #execute(Iterable, Function, Function, int)}, it signals
+     * {@link CouchbaseBatchException} when at least one element fails.
+     *
+     * @param elements    the elements
+     * @param key         the key of an element, used to report failures
+     * @param operation   the reactive operation of a single element
+     * @param concurrency the maximum of operations in flight
+     * @param <E>         the element type
+     * @param <T>         the result type
+     * @return the results
+     */
+    static <E, T> Mono<List<T>> executeAsync(Iterable<E> elements, Function<E, String> key,
+                                             Function<E, Mono<T>> operation, int concurrency) {
+        return Mono.defer(() -> {
+            Map<String, Throwable> failures = new ConcurrentHashMap<>();
+            return Flux.fromIterable(elements)
+                    .flatMapSequential(element -> Mono.defer(() -> operation.apply(element))
+                            .onErrorResume(error -> {
+                                failures.put(key.apply(element), error);
+                                return Mono.empty();
+                            }), concurrency)
+                    .collectList()
+                    .flatMap(results -> failures.isEmpty() ? Mono.just(results)
+                            : Mono.error(new CouchbaseBatchException(failures)));
+        });
+    }
+}
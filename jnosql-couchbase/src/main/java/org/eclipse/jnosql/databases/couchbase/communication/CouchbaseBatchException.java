@@ -0,0 +1,45 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchbase.communication;
+
+
+import org.eclipse.jnosql.communication.CommunicationException;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * An exception when one or more keys of a bulk operation fail. The other keys of the same operation are still
+ * applied; {@link #failures()} returns the cause of each key that failed.
+ */
+public class CouchbaseBatchException extends CommunicationException {
+
+    private final Map<String, Throwable> failures;
+
+    CouchbaseBatchException(Map<String, Throwable> failures) {
+        super("The bulk operation failed at the keys: " + failures.keySet());
+        this.failures = Collections.unmodifiableMap(failures);
+        failures.values().forEach(this::addSuppressed);
+    }
+
+    /**
+     * Returns the failure cause for each key that failed
+     *
+     * @return the failures by key
+     */
+    public Map<String, Throwable> failures() {
+        return failures;
+    }
+}
@@ -18,20 +18,19 @@ package org.eclipse.jnosql.databases.couchbase.communication;
 import com.couchbase.client.core.error.DocumentNotFoundException;
 import com.couchbase.client.java.Bucket;
 import com.couchbase.client.java.Collection;
+import com.couchbase.client.java.ReactiveCollection;
 import com.couchbase.client.java.Scope;
 import com.couchbase.client.java.kv.GetResult;
 import com.couchbase.client.java.kv.UpsertOptions;
 import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.communication.keyvalue.BucketManager;
 import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
+import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import java.util.Optional;
-import java.util.function.Supplier;
 
 import static java.util.Objects.requireNonNull;
-import static java.util.stream.Collectors.toList;
-import static java.util.stream.StreamSupport.stream;
 import static org.eclipse.jnosql.communication.ValueUtil.convert;
 
 /**
@@ -49,9 +48,16 @@ public class CouchbaseBucketManager implements BucketManager {
 
     private final String scopeName;
 
+    private final BucketReadiness readiness;
 
-    CouchbaseBucketManager(Bucket bucket, String bucketName, String scopeName, String collectionName) {
+    private final int batchConcurrency;
+
+
+    CouchbaseBucketManager(Bucket bucket, String bucketName, String scopeName, String collectionName,
+                           CouchbaseSettings settings) {
         this.bucket = bucket;
+        this.readiness = new BucketReadiness(bucket, settings.getReadinessTimeout().orElse(null));
+        this.batchConcurrency = settings.getBatchConcurrency();
         this.bucketName = bucketName;
         this.collectionName = collectionName;
         this.scopeName = scopeName;
@@ -68,7 +74,7 @@ public class CouchbaseBucketManager implements BucketManager {
     public <K, V> void put(K key, V value) {
         requireNonNull(key, "key is required");
         requireNonNull(value, "value is required");
-        waitBucketBeReadyAndGet(() -> collection.upsert(key.toString(), value));
+        readiness.get(() -> collection.upsert(key.toString(), value));
     }
 
     @Override
@@ -81,7 +87,7 @@ public class CouchbaseBucketManager implements BucketManager {
     public void put(final KeyValueEntity entity, final Duration ttl) {
         requireNonNull(entity, "entity is required");
         requireNonNull(ttl, "ttl is required");
-        waitBucketBeReadyAndDo(() -> {
+        readiness.run(() -> {
             String key = entity.key(String.class);
             Object value = convert(Value.of(entity.value()));
             collection.upsert(key, value, UpsertOptions.upsertOptions().expiry(ttl));
@@ -91,21 +97,27 @@ public class CouchbaseBucketManager implements BucketManager {
     @Override
     public void put(Iterable<KeyValueEntity> keyValueEntities) {
         requireNonNull(keyValueEntities, "keyValueEntities is required");
-        keyValueEntities.forEach(this::put);
+        ReactiveCollection reactive = collection.reactive();
+        readiness.run(() -> CouchbaseBatch.execute(keyValueEntities, k -> k.key().toString(),
+                k -> readiness.retry(() -> reactive.upsert(k.key().toString(), convert(Value.of(k.value())))),
+                batchConcurrency));
     }
 
     @Override
     public void put(Iterable<KeyValueEntity> keyValueEntities, Duration ttl) {
         requireNonNull(keyValueEntities, "keyValueEntities is required");
         requireNonNull(ttl, "ttl is required");
-        keyValueEntities.forEach(k -> this.put(k, ttl));
+        ReactiveCollection reactive = collection.reactive();
+        readiness.run(() -> CouchbaseBatch.execute(keyValueEntities, k -> k.key().toString(),
+                k -> readiness.retry(() -> reactive.upsert(k.key().toString(), convert(Value.of(k.value())),
+                        UpsertOptions.upsertOptions().expiry(ttl))), batchConcurrency));
     }
 
     @Override
     public <K> Optional<Value> get(K key) throws NullPointerException {
         requireNonNull(key, "key is required");
         try {
-            return waitBucketBeReadyAndGet(() -> {
+            return readiness.get(() -> {
                 GetResult result = this.collection.get(key.toString());
                 return Optional.of(new CouchbaseValue(result));
             });
@@ -117,35 +129,26 @@ public class CouchbaseBucketManager implements BucketManager {
     @Override
     public <K> Iterable<Value> get(Iterable<K> keys) {
         requireNonNull(keys, "keys is required");
-        return stream(keys.spliterator(), false)
-                .map(this::get)
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .collect(toList());
+        ReactiveCollection reactive = collection.reactive();
+        return readiness.get(() -> CouchbaseBatch.execute(keys, Object::toString,
+                k -> readiness.retry(() -> reactive.get(k.toString()))
+                        .<Value>map(CouchbaseValue::new)
+                        .onErrorResume(DocumentNotFoundException.class, e -> Mono.empty()), batchConcurrency));
     }
 
     @Override
     public <K> void delete(K key) {
         requireNonNull(key, "key is required");
-        waitBucketBeReadyAndDo(() -> collection.remove(key.toString()));
-    }
-
-    private void waitBucketBeReadyAndDo(Runnable runnable) {
-        bucket.waitUntilReady(bucket.environment().timeoutConfig().kvDurableTimeout());
-        runnable.run();
-    }
-
-
-    private <T> T waitBucketBeReadyAndGet(Supplier<T> supplier) {
-        bucket.waitUntilReady(bucket.environment().timeoutConfig().kvDurableTimeout());
-        return supplier.get();
+        readiness.run(() -> collection.remove(key.toString()));
     }
 
 
     @Override
     public <K> void delete(Iterable<K> keys) {
         requireNonNull(keys, "keys is required");
-        keys.forEach(this::delete);
+        ReactiveCollection reactive = collection.reactive();
+        readiness.run(() -> CouchbaseBatch.execute(keys, Object::toString,
+                k -> readiness.retry(() -> reactive.remove(k.toString())), batchConcurrency));
     }
 
     @Override
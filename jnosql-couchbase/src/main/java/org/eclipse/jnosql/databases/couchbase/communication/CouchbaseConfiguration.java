@@ -18,6 +18,7 @@ package org.eclipse.jnosql.databases.couchbase.communication;
 import org.eclipse.jnosql.communication.Configurations;
 import org.eclipse.jnosql.communication.Settings;
 
+import java.time.Duration;
 import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Set;
@@ -43,6 +44,10 @@ public abstract class CouchbaseConfiguration {
     protected String collection;
     protected Set<String> collections = new LinkedHashSet<>();
 
+    protected Duration readinessTimeout;
+
+    protected Integer batchConcurrency;
+
 
     protected void update(Settings settings) {
         this.host = getHost(settings);
@@ -52,6 +57,8 @@ public abstract class CouchbaseConfiguration {
         this.collections = getCollections(settings);
         this.index = getIndex(settings);
         this.collection = getCollection(settings);
+        this.readinessTimeout = getReadinessTimeout(settings);
+        this.batchConcurrency = getBatchConcurrency(settings);
     }
 
     protected String getUser(Settings settings) {
@@ -75,6 +82,15 @@ public abstract class CouchbaseConfiguration {
                 .map(Object::toString).orElse(null);
     }
 
+    private Duration getReadinessTimeout(Settings settings) {
+        return settings.get(CouchbaseConfigurations.READINESS_TIMEOUT, Long.class)
+                .map(Duration::ofMillis).orElse(null);
+    }
+
+    private Integer getBatchConcurrency(Settings settings) {
+        return settings.get(CouchbaseConfigurations.BATCH_CONCURRENCY, Integer.class).orElse(null);
+    }
+
     private Set<String> getCollections(Settings settings) {
         Set<String> collections = new LinkedHashSet<>();
         settings.get(CouchbaseConfigurations.COLLECTIONS)
@@ -142,6 +158,22 @@ public abstract class CouchbaseConfiguration {
         this.collection = collection;
     }
 
+    /**
+     * Set the maximum time to wait for a bucket to be ready
+     * @param readinessTimeout the readiness timeout
+     */
+    public void setReadinessTimeout(Duration readinessTimeout) {
+        this.readinessTimeout = readinessTimeout;
+    }
+
+    /**
+     * Set the maximum number of key-value requests in flight on a bulk operation
+     * @param batchConcurrency the batch concurrency
+     */
+    public void setBatchConcurrency(Integer batchConcurrency) {
+        this.batchConcurrency = batchConcurrency;
+    }
+
     /**
      * add collection in the settings
      *
@@ -159,7 +191,8 @@ public abstract class CouchbaseConfiguration {
      */
     public CouchbaseSettings toCouchbaseSettings() {
         return new CouchbaseSettings(this.host, this.user, this.password,
-                this.scope, this.index, this.collection, this.collections.stream().toList());
+                this.scope, this.index, this.collection, this.collections.stream().toList(), this.readinessTimeout,
+                this.batchConcurrency);
     }
 
     @Override
@@ -175,12 +208,14 @@ public abstract class CouchbaseConfiguration {
                 && Objects.equals(password, that.password)
                 && Objects.equals(scope, that.scope)
                 && Objects.equals(collections, that.collections)
-                && Objects.equals(index, that.index);
+                && Objects.equals(index, that.index)
+                && Objects.equals(readinessTimeout, that.readinessTimeout)
+                && Objects.equals(batchConcurrency, that.batchConcurrency);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(host, user, password, scope, collections, index);
+        return Objects.hash(host, user, password, scope, collections, index, readinessTimeout, batchConcurrency);
     }
 
     @Override
@@ -192,6 +227,8 @@ public abstract class CouchbaseConfiguration {
                 ", scope='" + scope + '\'' +
                 ", collections=" + collections +
                 ", index='" + index + '\'' +
+                ", readinessTimeout=" + readinessTimeout +
+                ", batchConcurrency=" + batchConcurrency +
                 '}';
     }
 }
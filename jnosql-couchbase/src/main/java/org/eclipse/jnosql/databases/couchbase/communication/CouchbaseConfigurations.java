@@ -61,7 +61,17 @@ public enum CouchbaseConfigurations implements Supplier<String> {
      * At the start-up of a {@link CouchbaseConfiguration}, it will read this property to check if the index does exist,
      * if not it will create combined by scope and the database.
      */
-    INDEX("jnosql.couchbase.index");
+    INDEX("jnosql.couchbase.index"),
+    /**
+     * The maximum time in milliseconds to wait for a bucket to be ready, it is checked once per manager
+     * and again only when an operation times out.
+     * When it is not defined the default value comes from the KV durable timeout of the cluster environment.
+     */
+    READINESS_TIMEOUT("jnosql.couchbase.readiness.timeout"),
+    /**
+     * The maximum number of key-value requests in flight on a bulk operation, the default value is 16.
+     */
+    BATCH_CONCURRENCY("jnosql.couchbase.batch.concurrency");
 
     private final String configuration;
 
@@ -19,6 +19,7 @@ import com.couchbase.client.java.json.JsonObject;
 import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
 import org.eclipse.jnosql.communication.semistructured.DatabaseManager;
 
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Stream;
 
 /**
@@ -27,7 +28,10 @@ import java.util.stream.Stream;
 public interface CouchbaseDocumentManager extends DatabaseManager {
 
     /**
-     * Executes the N1QL with params and then result que result
+     * Executes the N1QL with params and then result que result.
+     * The statement is prepared once and reused by the next executions with other params.
+     * The rows are streamed on demand, so the query runs, and its errors are raised, when the stream is consumed;
+     * closing the stream cancels the query.
      *
      * @param n1ql   the query
      * @param params the params
@@ -38,7 +42,9 @@ public interface CouchbaseDocumentManager extends DatabaseManager {
 
 
     /**
-     * Executes the n1qlquery  plain query and then result que result
+     * Executes the n1qlquery  plain query and then result que result.
+     * The rows are streamed on demand, so the query runs, and its errors are raised, when the stream is consumed;
+     * closing the stream cancels the query.
      *
      * @param n1ql the query
      * @return the query result
@@ -46,4 +52,48 @@ public interface CouchbaseDocumentManager extends DatabaseManager {
      */
     Stream<CommunicationEntity> n1qlQuery(String n1ql) throws NullPointerException;
 
+    /**
+     * Inserts the entity without blocking the caller thread
+     *
+     * @param entity the entity
+     * @return a {@link CompletionStage} completed with the inserted entity
+     * @throws NullPointerException         when entity is null
+     * @throws CouchbaseNoKeyFoundException when the entity does not have the id
+     */
+    CompletionStage<CommunicationEntity> insertAsync(CommunicationEntity entity);
+
+    /**
+     * Inserts the entities without blocking the caller thread, the requests are sent concurrently
+     * bounded by {@link CouchbaseConfigurations#BATCH_CONCURRENCY}
+     *
+     * @param entities the entities
+     * @return a {@link CompletionStage} completed with the inserted entities or with a
+     * {@link CouchbaseBatchException} when at least one entity fails
+     * @throws NullPointerException         when entities is null
+     * @throws CouchbaseNoKeyFoundException when an entity does not have the id
+     */
+    CompletionStage<Iterable<CommunicationEntity>> insertAsync(Iterable<CommunicationEntity> entities);
+
+    /**
+     * Updates the entity without blocking the caller thread
+     *
+     * @param entity the entity
+     * @return a {@link CompletionStage} completed with the updated entity
+     * @throws NullPointerException         when entity is null
+     * @throws CouchbaseNoKeyFoundException when the entity does not have the id
+     */
+    CompletionStage<CommunicationEntity> updateAsync(CommunicationEntity entity);
+
+    /**
+     * Updates the entities without blocking the caller thread, the requests are sent concurrently
+     * bounded by {@link CouchbaseConfigurations#BATCH_CONCURRENCY}
+     *
+     * @param entities the entities
+     * @return a {@link CompletionStage} completed with the updated entities or with a
+     * {@link CouchbaseBatchException} when at least one entity fails
+     * @throws NullPointerException         when entities is null
+     * @throws CouchbaseNoKeyFoundException when an entity does not have the id
+     */
+    CompletionStage<Iterable<CommunicationEntity>> updateAsync(Iterable<CommunicationEntity> entities);
+
 }
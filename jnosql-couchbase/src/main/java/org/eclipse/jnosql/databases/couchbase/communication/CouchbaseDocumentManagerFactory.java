@@ -33,7 +33,7 @@ public class CouchbaseDocumentManagerFactory implements DatabaseManagerFactory {
     @Override
     public CouchbaseDocumentManager apply(String database)  {
         Objects.requireNonNull(database, "database is required");
-        return new DefaultCouchbaseDocumentManager(cluster, database);
+        return new DefaultCouchbaseDocumentManager(cluster, database, settings);
     }
 
 
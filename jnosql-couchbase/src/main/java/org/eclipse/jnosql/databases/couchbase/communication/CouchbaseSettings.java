@@ -41,6 +41,8 @@ import static com.couchbase.client.java.manager.query.GetAllQueryIndexesOptions.
  */
 public final class CouchbaseSettings {
 
+    static final int DEFAULT_BATCH_CONCURRENCY = 16;
+
     private static final Logger LOGGER = Logger.getLogger(CouchbaseSettings.class.getName());
 
     private final String host;
@@ -56,9 +58,14 @@ public final class CouchbaseSettings {
     private final String collection;
     private final List<String> collections;
 
+    private final Duration readinessTimeout;
+
+    private final Integer batchConcurrency;
+
     CouchbaseSettings(String host, String user, String password,
                       String scope, String index, String collection,
-                      List<String> collections) {
+                      List<String> collections, Duration readinessTimeout,
+                      Integer batchConcurrency) {
         this.host = host;
         this.user = user;
         this.password = password;
@@ -66,6 +73,8 @@ public final class CouchbaseSettings {
         this.index = index;
         this.collection = collection;
         this.collections = collections;
+        this.readinessTimeout = readinessTimeout;
+        this.batchConcurrency = batchConcurrency;
     }
 
 
@@ -135,6 +144,24 @@ public final class CouchbaseSettings {
         return index;
     }
 
+    /**
+     * Returns the readiness timeout {@link CouchbaseConfigurations#READINESS_TIMEOUT}
+     *
+     * @return the readiness timeout {@link CouchbaseConfigurations#READINESS_TIMEOUT}
+     */
+    public Optional<Duration> getReadinessTimeout() {
+        return Optional.ofNullable(readinessTimeout);
+    }
+
+    /**
+     * Returns the batch concurrency {@link CouchbaseConfigurations#BATCH_CONCURRENCY}
+     *
+     * @return the batch concurrency {@link CouchbaseConfigurations#BATCH_CONCURRENCY}, the default value is 16
+     */
+    public int getBatchConcurrency() {
+        return Optional.ofNullable(batchConcurrency).orElse(DEFAULT_BATCH_CONCURRENCY);
+    }
+
 
     /**
      * Create a new {@link Cluster} instance using {@link CouchbaseSettings#getHost()}
@@ -242,12 +269,14 @@ public final class CouchbaseSettings {
         return Objects.equals(host, that.host) && Objects.equals(user, that.user)
                 && Objects.equals(password, that.password) && Objects.equals(scope, that.scope)
                 && Objects.equals(index, that.index) && Objects.equals(collection, that.collection)
-                && Objects.equals(collections, that.collections);
+                && Objects.equals(collections, that.collections)
+                && Objects.equals(readinessTimeout, that.readinessTimeout)
+                && Objects.equals(batchConcurrency, that.batchConcurrency);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(host, user, password, scope, index, collection, collections);
+        return Objects.hash(host, user, password, scope, index, collection, collections, readinessTimeout, batchConcurrency);
     }
 
     @Override
@@ -260,6 +289,8 @@ public final class CouchbaseSettings {
                 ", index='" + index + '\'' +
                 ", collection='" + collection + '\'' +
                 ", collections=" + collections +
+                ", readinessTimeout=" + readinessTimeout +
+                ", batchConcurrency=" + batchConcurrency +
                 '}';
     }
 }
@@ -23,17 +23,19 @@ import com.couchbase.client.java.json.JsonObject;
 import com.couchbase.client.java.kv.GetResult;
 import com.couchbase.client.java.kv.InsertOptions;
 import com.couchbase.client.java.query.QueryOptions;
-import com.couchbase.client.java.query.QueryResult;
+import com.couchbase.client.java.query.ReactiveQueryResult;
 import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
 import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
 import org.eclipse.jnosql.communication.semistructured.Element;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import reactor.core.publisher.Mono;
 
 import java.time.Duration;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.function.Supplier;
+import java.util.concurrent.CompletionStage;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -54,10 +56,16 @@ class DefaultCouchbaseDocumentManager implements CouchbaseDocumentManager {
 
     private final Cluster cluster;
 
-    DefaultCouchbaseDocumentManager(Cluster cluster, String database) {
+    private final BucketReadiness readiness;
+
+    private final int batchConcurrency;
+
+    DefaultCouchbaseDocumentManager(Cluster cluster, String database, CouchbaseSettings settings) {
         this.bucket = cluster.bucket(database);
         this.database = database;
         this.cluster = cluster;
+        this.readiness = new BucketReadiness(bucket, settings.getReadinessTimeout().orElse(null));
+        this.batchConcurrency = settings.getBatchConcurrency();
     }
 
     @Override
@@ -68,7 +76,7 @@ class DefaultCouchbaseDocumentManager implements CouchbaseDocumentManager {
     @Override
     public CommunicationEntity insert(CommunicationEntity entity) throws NullPointerException {
         requireNonNull(entity, "entity is required");
-        return waitBucketBeReadyAndGet(() -> {
+        return readiness.get(() -> {
             entity.add(EntityConverter.COLLECTION_FIELD, entity.name());
             JsonObject json = EntityConverter.convert(entity);
             Element id = entity.find(EntityConverter.ID_FIELD)
@@ -83,7 +91,7 @@ class DefaultCouchbaseDocumentManager implements CouchbaseDocumentManager {
     public CommunicationEntity insert(CommunicationEntity entity, Duration ttl) {
         requireNonNull(entity, "entity is required");
         requireNonNull(ttl, "ttl is required");
-        return waitBucketBeReadyAndGet(() -> {
+        return readiness.get(() -> {
             JsonObject json = EntityConverter.convert(entity);
             Element id = entity.find(EntityConverter.ID_FIELD)
                     .orElseThrow(() -> new CouchbaseNoKeyFoundException(entity.toString()));
@@ -96,22 +104,21 @@ class DefaultCouchbaseDocumentManager implements CouchbaseDocumentManager {
     @Override
     public Iterable<CommunicationEntity> insert(Iterable<CommunicationEntity> entities) {
         Objects.requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::insert).collect(Collectors.toList());
+        return bulk(entities, true, (collection, id) -> json -> collection.reactive().insert(id, json));
     }
 
     @Override
     public Iterable<CommunicationEntity> insert(Iterable<CommunicationEntity> entities, Duration ttl) {
         Objects.requireNonNull(entities, "entities is required");
         Objects.requireNonNull(ttl, "ttl is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(e -> insert(e, ttl)).collect(Collectors.toList());
+        return bulk(entities, false, (collection, id) -> json -> collection.reactive()
+                .insert(id, json, InsertOptions.insertOptions().expiry(ttl)));
     }
 
     @Override
     public CommunicationEntity update(CommunicationEntity entity) {
         requireNonNull(entity, "entity is required");
-        return waitBucketBeReadyAndGet(() -> {
+        return readiness.get(() -> {
             entity.add(EntityConverter.COLLECTION_FIELD, entity.name());
             JsonObject json = EntityConverter.convert(entity);
             Element id = entity.find(EntityConverter.ID_FIELD)
@@ -125,13 +132,86 @@ class DefaultCouchbaseDocumentManager implements CouchbaseDocumentManager {
     @Override
     public Iterable<CommunicationEntity> update(Iterable<CommunicationEntity> entities) {
         Objects.requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::update).collect(Collectors.toList());
+        return bulk(entities, true, (collection, id) -> json -> collection.reactive().upsert(id, json));
+    }
+
+    @Override
+    public CompletionStage<CommunicationEntity> insertAsync(CommunicationEntity entity) {
+        requireNonNull(entity, "entity is required");
+        return async(entity, (collection, id) -> json -> collection.reactive().insert(id, json));
+    }
+
+    @Override
+    public CompletionStage<CommunicationEntity> updateAsync(CommunicationEntity entity) {
+        requireNonNull(entity, "entity is required");
+        return async(entity, (collection, id) -> json -> collection.reactive().upsert(id, json));
+    }
+
+    @Override
+    public CompletionStage<Iterable<CommunicationEntity>> insertAsync(Iterable<CommunicationEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        return asyncBulk(entities, (collection, id) -> json -> collection.reactive().insert(id, json));
+    }
+
+    @Override
+    public CompletionStage<Iterable<CommunicationEntity>> updateAsync(Iterable<CommunicationEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        return asyncBulk(entities, (collection, id) -> json -> collection.reactive().upsert(id, json));
+    }
+
+    private Iterable<CommunicationEntity> bulk(Iterable<CommunicationEntity> entities, boolean collectionField,
+                                               BiFunction<Collection, String, Function<JsonObject, Mono<?>>> operation) {
+        List<CommunicationEntity> values = StreamSupport.stream(entities.spliterator(), false)
+                .collect(Collectors.toList());
+        values.forEach(this::requireId);
+        return readiness.get(() -> CouchbaseBatch.execute(values, this::id,
+                entity -> write(entity, collectionField, operation), batchConcurrency));
+    }
+
+    private CompletionStage<CommunicationEntity> async(CommunicationEntity entity,
+                                                       BiFunction<Collection, String, Function<JsonObject, Mono<?>>> operation) {
+        requireId(entity);
+        readiness.waitUntilReady();
+        return write(entity, true, operation).toFuture();
+    }
+
+    private CompletionStage<Iterable<CommunicationEntity>> asyncBulk(Iterable<CommunicationEntity> entities,
+                                                                     BiFunction<Collection, String, Function<JsonObject, Mono<?>>> operation) {
+        List<CommunicationEntity> values = StreamSupport.stream(entities.spliterator(), false)
+                .collect(Collectors.toList());
+        values.forEach(this::requireId);
+        readiness.waitUntilReady();
+        return CouchbaseBatch.executeAsync(values, this::id, entity -> write(entity, true, operation), batchConcurrency)
+                .<Iterable<CommunicationEntity>>map(list -> list)
+                .toFuture();
+    }
+
+    private Mono<CommunicationEntity> write(CommunicationEntity entity, boolean collectionField,
+                                            BiFunction<Collection, String, Function<JsonObject, Mono<?>>> operation) {
+        if (collectionField) {
+            entity.add(EntityConverter.COLLECTION_FIELD, entity.name());
+        }
+        JsonObject json = EntityConverter.convert(entity);
+        Collection collection = bucket.collection(entity.name());
+        String id = id(entity);
+        return readiness.retry(() -> operation.apply(collection, id).apply(json)).thenReturn(entity);
+    }
+
+    private void requireId(CommunicationEntity entity) {
+        if (entity.find(EntityConverter.ID_FIELD).isEmpty()) {
+            throw new CouchbaseNoKeyFoundException(entity.toString());
+        }
+    }
+
+    private String id(CommunicationEntity entity) {
+        return entity.find(EntityConverter.ID_FIELD)
+                .orElseThrow(() -> new CouchbaseNoKeyFoundException(entity.toString()))
+                .get(String.class);
     }
 
     @Override
     public void delete(DeleteQuery query) {
-        waitBucketBeReadyAndDo(() -> {
+        readiness.run(() -> {
             Objects.requireNonNull(query, "query is required");
             Collection collection = bucket.collection(query.name());
             SelectQuery delete = DeleteQueryWrapper.of(query);
@@ -143,44 +223,29 @@ class DefaultCouchbaseDocumentManager implements CouchbaseDocumentManager {
         });
     }
 
-    private void waitBucketBeReadyAndDo(Runnable runnable) {
-        bucket.waitUntilReady(bucket.environment().timeoutConfig().kvDurableTimeout());
-        runnable.run();
-    }
-
-
-    private <T> T waitBucketBeReadyAndGet(Supplier<T> supplier) {
-        bucket.waitUntilReady(bucket.environment().timeoutConfig().kvDurableTimeout());
-        return supplier.get();
-    }
-
     @Override
     public Stream<CommunicationEntity> select(final SelectQuery query) throws NullPointerException {
         Objects.requireNonNull(query, "query is required");
-        return waitBucketBeReadyAndGet(() -> {
+        return readiness.get(() -> {
             N1QLQuery n1QLQuery = N1QLBuilder.of(query, database, bucket.defaultScope().name()).get();
-            List<JsonObject> jsons = new ArrayList<>();
+            Stream<JsonObject> jsons = Stream.empty();
             if (n1QLQuery.hasIds()) {
                 Collection collection = bucket.collection(query.name());
-                for (String id : n1QLQuery.ids()) {
-                    try {
-                        GetResult result = collection.get(id);
-                        jsons.add(result.contentAsObject());
-                    } catch (DocumentNotFoundException exp) {
-                        LOGGER.log(Level.FINEST, "The id was not found: " + id);
-                    }
-                }
+                jsons = CouchbaseBatch.execute(n1QLQuery.ids(), id -> id,
+                        id -> readiness.retry(() -> collection.reactive().get(id))
+                                .map(GetResult::contentAsObject)
+                                .onErrorResume(DocumentNotFoundException.class, exp -> {
+                                    LOGGER.log(Level.FINEST, "The id was not found: " + id);
+                                    return Mono.empty();
+                                }), batchConcurrency).stream();
             }
 
             if (!n1QLQuery.hasOnlyIds()) {
-                QueryResult result;
-                if (n1QLQuery.isParameterEmpty()) {
-                    result = cluster.query(n1QLQuery.query());
-                } else {
-                    result = cluster.query(n1QLQuery.query(), QueryOptions
-                            .queryOptions().parameters(n1QLQuery.params()));
+                QueryOptions options = QueryOptions.queryOptions();
+                if (!n1QLQuery.isParameterEmpty()) {
+                    options.parameters(n1QLQuery.params()).adhoc(false);
                 }
-                jsons.addAll(result.rowsAsObject());
+                jsons = Stream.concat(jsons, rows(n1QLQuery.query(), options));
             }
             return EntityConverter.convert(jsons, database);
         });
@@ -189,17 +254,17 @@ class DefaultCouchbaseDocumentManager implements CouchbaseDocumentManager {
     @Override
     public long count(String documentCollection) {
         Objects.requireNonNull(documentCollection, "documentCollection is required");
-        return waitBucketBeReadyAndGet(() -> {
+        return readiness.get(() -> {
             SelectQuery countQuery = SelectQuery
                     .select("COUNT(*)").from(documentCollection).build();
             N1QLQuery n1QLQuery = N1QLBuilder
                     .of(countQuery, database, bucket.defaultScope().name()).get();
-            QueryResult query = cluster.query(n1QLQuery.query());
-            List<JsonObject> result = query.rowsAsObject();
-            var count = result.stream().findFirst()
-                    .map(data -> data.getNumber("$1"))
-                    .orElse(0L);
-            return count.longValue();
+            try (Stream<JsonObject> rows = rows(n1QLQuery.query(), QueryOptions.queryOptions())) {
+                var count = rows.findFirst()
+                        .map(data -> data.getNumber("$1"))
+                        .orElse(0L);
+                return count.longValue();
+            }
         });
     }
 
@@ -207,21 +272,25 @@ class DefaultCouchbaseDocumentManager implements CouchbaseDocumentManager {
     public Stream<CommunicationEntity> n1qlQuery(final String n1ql, final JsonObject params) throws NullPointerException {
         requireNonNull(n1ql, "n1qlQuery is required");
         requireNonNull(params, "params is required");
-        return waitBucketBeReadyAndGet(() -> {
-            QueryResult query = cluster.query(n1ql, QueryOptions
-                    .queryOptions().parameters(params));
-            return EntityConverter.convert(query.rowsAsObject(), database);
-        });
+        return readiness.get(() -> EntityConverter.convert(rows(n1ql, QueryOptions
+                .queryOptions().parameters(params).adhoc(false)), database));
     }
 
 
     @Override
     public Stream<CommunicationEntity> n1qlQuery(String n1ql) throws NullPointerException {
         requireNonNull(n1ql, "n1qlQuery is required");
-        return waitBucketBeReadyAndGet(() -> {
-            QueryResult query = cluster.query(n1ql);
-            return EntityConverter.convert(query.rowsAsObject(), database);
-        });
+        return readiness.get(() -> EntityConverter.convert(rows(n1ql, QueryOptions.queryOptions()), database));
+    }
+
+    /**
+     * Streams the rows through the reactive query API, so they are fetched on demand instead of buffered
+     * in a list. Closing the stream cancels the query.
+     */
+    private Stream<JsonObject> rows(String statement, QueryOptions options) {
+        return readiness.retry(() -> cluster.reactive().query(statement, options))
+                .flatMapMany(ReactiveQueryResult::rowsAsObject)
+                .toStream();
     }
 
 
@@ -45,9 +45,9 @@ final class EntityConverter {
     }
 
 
-    static Stream<CommunicationEntity> convert(List<JsonObject> result, String database) {
+    static Stream<CommunicationEntity> convert(Stream<JsonObject> result, String database) {
         return
-                result.stream()
+                result
                         .map(JsonObject::toMap)
                         .filter(Objects::nonNull)
                         .map(map -> {
@@ -18,6 +18,7 @@ package org.eclipse.jnosql.databases.couchbase.mapping;
 import com.couchbase.client.java.json.JsonObject;
 import org.eclipse.jnosql.mapping.document.DocumentTemplate;
 
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Stream;
 
 /**
@@ -46,5 +47,44 @@ public interface CouchbaseTemplate extends DocumentTemplate {
      */
     <T> Stream<T> n1qlQuery(String n1qlQuery);
 
+    /**
+     * Inserts the entity without blocking the caller thread
+     *
+     * @param entity the entity
+     * @param <T>    the entity type
+     * @return a {@link CompletionStage} completed with the inserted entity
+     * @throws NullPointerException when entity is null
+     */
+    <T> CompletionStage<T> insertAsync(T entity);
+
+    /**
+     * Inserts the entities without blocking the caller thread, the requests are sent concurrently
+     *
+     * @param entities the entities
+     * @param <T>      the entity type
+     * @return a {@link CompletionStage} completed with the inserted entities
+     * @throws NullPointerException when entities is null
+     */
+    <T> CompletionStage<Iterable<T>> insertAsync(Iterable<T> entities);
+
+    /**
+     * Updates the entity without blocking the caller thread
+     *
+     * @param entity the entity
+     * @param <T>    the entity type
+     * @return a {@link CompletionStage} completed with the updated entity
+     * @throws NullPointerException when entity is null
+     */
+    <T> CompletionStage<T> updateAsync(T entity);
+
+    /**
+     * Updates the entities without blocking the caller thread, the requests are sent concurrently
+     *
+     * @param entities the entities
+     * @param <T>      the entity type
+     * @return a {@link CompletionStage} completed with the updated entities
+     * @throws NullPointerException when entities is null
+     */
+    <T> CompletionStage<Iterable<T>> updateAsync(Iterable<T> entities);
 
 }
@@ -20,6 +20,7 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Instance;
 import jakarta.enterprise.inject.Typed;
 import jakarta.inject.Inject;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
 import org.eclipse.jnosql.communication.semistructured.DatabaseManager;
 import org.eclipse.jnosql.databases.couchbase.communication.CouchbaseDocumentManager;
 import org.eclipse.jnosql.mapping.core.Converters;
@@ -28,7 +29,13 @@ import org.eclipse.jnosql.mapping.semistructured.AbstractSemiStructuredTemplate;
 import org.eclipse.jnosql.mapping.semistructured.EntityConverter;
 import org.eclipse.jnosql.mapping.semistructured.EventPersistManager;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static java.util.Objects.requireNonNull;
 
@@ -109,4 +116,59 @@ class DefaultCouchbaseTemplate extends AbstractSemiStructuredTemplate
                 .map(d -> (T) d);
     }
 
+    @Override
+    public <T> CompletionStage<T> insertAsync(T entity) {
+        requireNonNull(entity, "entity is required");
+        return persistAsync(entity, manager.get()::insertAsync);
+    }
+
+    @Override
+    public <T> CompletionStage<Iterable<T>> insertAsync(Iterable<T> entities) {
+        requireNonNull(entities, "entities is required");
+        return persistAsync(entities, manager.get()::insertAsync);
+    }
+
+    @Override
+    public <T> CompletionStage<T> updateAsync(T entity) {
+        requireNonNull(entity, "entity is required");
+        return persistAsync(entity, manager.get()::updateAsync);
+    }
+
+    @Override
+    public <T> CompletionStage<Iterable<T>> updateAsync(Iterable<T> entities) {
+        requireNonNull(entities, "entities is required");
+        return persistAsync(entities, manager.get()::updateAsync);
+    }
+
+    private <T> CompletionStage<T> persistAsync(T entity,
+                                                Function<CommunicationEntity, CompletionStage<CommunicationEntity>> action) {
+        persistManager.firePreEntity(entity);
+        CommunicationEntity communication = converter.toCommunication(entity);
+        return action.apply(communication).thenApply(result -> {
+            T updated = converter.toEntity(entity, result);
+            persistManager.firePostEntity(updated);
+            return updated;
+        });
+    }
+
+    private <T> CompletionStage<Iterable<T>> persistAsync(Iterable<T> entities,
+                                                          Function<Iterable<CommunicationEntity>,
+                                                                  CompletionStage<Iterable<CommunicationEntity>>> action) {
+        List<T> values = StreamSupport.stream(entities.spliterator(), false).toList();
+        values.forEach(persistManager::firePreEntity);
+        List<CommunicationEntity> communications = values.stream()
+                .map(converter::toCommunication)
+                .toList();
+        return action.apply(communications).thenApply(result -> {
+            List<T> updated = new ArrayList<>();
+            Iterator<T> iterator = values.iterator();
+            for (CommunicationEntity communication : result) {
+                T entity = converter.toEntity(iterator.next(), communication);
+                persistManager.firePostEntity(entity);
+                updated.add(entity);
+            }
+            return updated;
+        });
+    }
+
 }
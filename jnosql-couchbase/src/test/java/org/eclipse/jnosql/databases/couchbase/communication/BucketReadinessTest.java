@@ -0,0 +1,109 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchbase.communication;
+
+import com.couchbase.client.core.error.DocumentNotFoundException;
+import com.couchbase.client.core.error.UnambiguousTimeoutException;
+import com.couchbase.client.java.Bucket;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class BucketReadinessTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(1);
+
+    private Bucket bucket;
+
+    private BucketReadiness readiness;
+
+    @BeforeEach
+    void setUp() {
+        bucket = Mockito.mock(Bucket.class);
+        readiness = new BucketReadiness(bucket, TIMEOUT);
+    }
+
+    @Test
+    void shouldWaitOnce() {
+        readiness.run(() -> {
+        });
+        readiness.run(() -> {
+        });
+
+        verify(bucket, times(1)).waitUntilReady(TIMEOUT);
+    }
+
+    @Test
+    void shouldRetryOnceWhenOperationTimesOut() {
+        AtomicInteger attempts = new AtomicInteger();
+        String result = readiness.get(() -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new UnambiguousTimeoutException("timeout", null);
+            }
+            return "done";
+        });
+
+        assertThat(result).isEqualTo("done");
+        assertThat(attempts).hasValue(2);
+        verify(bucket, times(2)).waitUntilReady(TIMEOUT);
+    }
+
+    @Test
+    void shouldRetryOnceWhenReactiveOperationTimesOut() {
+        AtomicInteger attempts = new AtomicInteger();
+        Mono<String> operation = readiness.retry(() -> attempts.incrementAndGet() == 1
+                ? Mono.<String>error(new UnambiguousTimeoutException("timeout", null))
+                : Mono.just("done"));
+
+        assertThat(operation.block()).isEqualTo("done");
+        assertThat(attempts).hasValue(2);
+        verify(bucket, times(1)).waitUntilReady(TIMEOUT);
+    }
+
+    @Test
+    void shouldRetryOnlyTheKeyThatTimesOutInBatch() {
+        AtomicInteger attempts = new AtomicInteger();
+        var results = CouchbaseBatch.execute(List.of("a", "b"), key -> key,
+                key -> readiness.retry(() -> "b".equals(key) && attempts.incrementAndGet() == 1
+                        ? Mono.<String>error(new UnambiguousTimeoutException("timeout", null))
+                        : Mono.just(key)), 2);
+
+        assertThat(results).containsExactly("a", "b");
+        assertThat(attempts).hasValue(2);
+    }
+
+    @Test
+    void shouldNotRetryOtherFailures() {
+        AtomicInteger attempts = new AtomicInteger();
+        Mono<String> operation = readiness.retry(() -> {
+            attempts.incrementAndGet();
+            return Mono.<String>error(new DocumentNotFoundException(null));
+        });
+
+        assertThatThrownBy(operation::block).isInstanceOf(DocumentNotFoundException.class);
+        assertThat(attempts).hasValue(1);
+        verify(bucket, times(0)).waitUntilReady(TIMEOUT);
+    }
+}
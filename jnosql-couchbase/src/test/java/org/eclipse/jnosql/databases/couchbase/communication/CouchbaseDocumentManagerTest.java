@@ -14,6 +14,7 @@
  */
 package org.eclipse.jnosql.databases.couchbase.communication;
 
+import com.couchbase.client.core.error.CouchbaseException;
 import com.couchbase.client.core.error.DocumentNotFoundException;
 import com.couchbase.client.java.json.JsonObject;
 import org.assertj.core.api.Assertions;
@@ -39,6 +40,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -100,6 +102,17 @@ public class CouchbaseDocumentManagerTest {
         assertEquals(entity, documentEntity);
     }
 
+    @Test
+   void shouldInsertAsyncIterable() {
+        CommunicationEntity entity = getEntity();
+        CommunicationEntity entity2 = getEntity();
+        entity2.add("_id", "id2");
+        Iterable<CommunicationEntity> entities = entityManager.insertAsync(asList(entity, entity2))
+                .toCompletableFuture().join();
+        assertThat(entities).containsExactly(entity, entity2);
+        assertThat(keyValueEntityManagerForPerson.get(asList("id", "id2"))).hasSize(2);
+    }
+
     @Test
    void shouldInsertWithKey() {
         CommunicationEntity entity = getEntity();
@@ -255,6 +268,44 @@ public class CouchbaseDocumentManagerTest {
         );
     }
 
+    @Test
+    void shouldStreamN1QlRowsOnDemand() {
+        for (int index = 0; index < 3; index++) {
+            CommunicationEntity entity = getEntity();
+            entity.add("_id", "id" + index);
+            entityManager.insert(entity);
+        }
+        String n1ql = "select * from `jnosql`._default.person";
+        await().until(() -> entityManager.n1qlQuery(n1ql).count() == 3L);
+
+        try (Stream<CommunicationEntity> rows = entityManager.n1qlQuery(n1ql)) {
+            assertThat(rows.limit(1).toList()).hasSize(1);
+        }
+    }
+
+    @Test
+    void shouldDeferN1QlErrorsUntilTheStreamIsConsumed() {
+        Stream<CommunicationEntity> rows = entityManager.n1qlQuery("selec * from `jnosql`._default.person");
+        Assertions.assertThatThrownBy(rows::toList).isInstanceOf(CouchbaseException.class);
+    }
+
+    @Test
+    void shouldReusePreparedStatement() {
+        CommunicationEntity entity = getEntity();
+        entityManager.insert(entity);
+        String n1ql = "select * from `jnosql`._default.person where name = $name";
+        JsonObject params = JsonObject.create().put("name", entity.find("name", String.class).orElse(null));
+
+        await().until(() -> !entityManager.n1qlQuery(n1ql, params).toList().isEmpty());
+        assertThat(entityManager.n1qlQuery(n1ql, JsonObject.create().put("name", "not_found")).toList()).isEmpty();
+
+        var prepareds = entityManager.n1qlQuery("select p.uses from system:prepareds p"
+                + " where p.statement like \"%person where name = $name%\"").toList();
+        assertThat(prepareds).isNotEmpty().anySatisfy(prepared ->
+                assertThat(prepared.find("uses", Long.class)).hasValueSatisfying(uses ->
+                        assertThat(uses).isGreaterThanOrEqualTo(2L)));
+    }
+
     @Test
    void shouldCreateLimitOrderQuery(){
         CommunicationEntity entity = getEntity();
@@ -14,12 +14,17 @@
  */
 package org.eclipse.jnosql.databases.couchbase.communication;
 
+import org.eclipse.jnosql.communication.Settings;
 import org.eclipse.jnosql.communication.keyvalue.BucketManagerFactory;
 import org.eclipse.jnosql.communication.keyvalue.KeyValueConfiguration;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 public class CouchbaseKeyValueConfigurationTest {
@@ -52,4 +57,12 @@ public class CouchbaseKeyValueConfigurationTest {
         Assertions.assertNotNull(configuration);
         Assertions.assertTrue(configuration instanceof CouchbaseKeyValueConfiguration);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldReadReadinessTimeout() {
+        configuration.update(Settings.builder()
+                .put(CouchbaseConfigurations.READINESS_TIMEOUT, 2_000L).build());
+        CouchbaseSettings settings = configuration.toCouchbaseSettings();
+        assertEquals(Optional.of(Duration.ofMillis(2_000L)), settings.getReadinessTimeout());
+    }
+}
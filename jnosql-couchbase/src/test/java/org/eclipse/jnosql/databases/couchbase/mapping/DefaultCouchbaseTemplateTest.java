@@ -36,6 +36,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
 
 
@@ -92,4 +96,19 @@ public class DefaultCouchbaseTemplateTest {
         Mockito.verify(manager).n1qlQuery("select * from Person where name = $name");
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldInsertAsyncIterableFromTheReturnedEntities() {
+        CommunicationEntity saved = CommunicationEntity.of("Person");
+        saved.add(Element.of("_id", "Ada"));
+        saved.add(Element.of("age", 20));
+        when(manager.insertAsync(Mockito.<Iterable<CommunicationEntity>>any()))
+                .thenReturn(CompletableFuture.<Iterable<CommunicationEntity>>completedFuture(List.of(saved)));
+
+        Iterable<Person> result = template.insertAsync(List.of(Person.of("Ada", 10)))
+                .toCompletableFuture().join();
+
+        assertThat(result).singleElement()
+                .satisfies(person -> assertThat(person.getAge()).isEqualTo(20));
+    }
+
+}
@@ -0,0 +1,47 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchdb.communication;
+
+
+import org.eclipse.jnosql.communication.CommunicationException;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * An exception when one or more documents of a {@code _bulk_docs} request fail. The other documents of the same
+ * request are still applied; {@link #failures()} returns the error of each document that failed.
+ * A delete by query stops at the first request with a failure, so the documents after it are kept.
+ */
+public class CouchDBBulkException extends CommunicationException {
+
+    private final Map<Integer, String> failures;
+
+    CouchDBBulkException(Map<Integer, String> failures) {
+        super("The bulk operation failed at the positions: " + failures);
+        this.failures = Collections.unmodifiableMap(failures);
+    }
+
+    /**
+     * Returns the error and reason for each document that failed, keyed by the position of the entity at the
+     * {@link Iterable} given to the operation; on a delete, by the position of the document among the ones
+     * matched by the query.
+     *
+     * @return the failures by position
+     */
+    public Map<Integer, String> failures() {
+        return failures;
+    }
+}
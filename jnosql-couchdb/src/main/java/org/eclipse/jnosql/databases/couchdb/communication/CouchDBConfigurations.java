@@ -78,7 +78,26 @@ public enum  CouchDBConfigurations implements Supplier<String> {
     /**
      * Determines whether compressed entities should be decompressed automatically.
      */
-    COMPRESSION("jnosql.couchdb.compression");
+    COMPRESSION("jnosql.couchdb.compression"),
+
+    /**
+     * The maximum number of documents sent in a single {@code _bulk_docs} request, also the page size used
+     * to find the documents to delete. The default value is "1000".
+     */
+    BATCH_SIZE("jnosql.couchdb.batch.size"),
+
+    /**
+     * How the update finds the revision of the document, see {@link CouchDBUpdateMode}.
+     * The default value is "FETCH".
+     */
+    UPDATE_MODE("jnosql.couchdb.update.mode"),
+
+    /**
+     * When true, creates the Mango indexes the queries need: an index on the {@code @entity} field when
+     * the database is opened, and an index on {@code @entity} and the sort fields before the first sorted query
+     * of each entity. The default value is "false".
+     */
+    AUTOMATIC_INDEX("jnosql.couchdb.index.automatic");
 
     private final String configuration;
 
@@ -23,6 +23,8 @@ import org.eclipse.jnosql.communication.semistructured.DatabaseConfiguration;
 import java.util.Arrays;
 import java.util.Objects;
 
+import static org.eclipse.jnosql.databases.couchdb.communication.CouchDBConfigurations.AUTOMATIC_INDEX;
+import static org.eclipse.jnosql.databases.couchdb.communication.CouchDBConfigurations.BATCH_SIZE;
 import static org.eclipse.jnosql.databases.couchdb.communication.CouchDBConfigurations.COMPRESSION;
 import static org.eclipse.jnosql.databases.couchdb.communication.CouchDBConfigurations.CONNECTION_TIMEOUT;
 import static org.eclipse.jnosql.databases.couchdb.communication.CouchDBConfigurations.ENABLE_SSL;
@@ -31,6 +33,7 @@ import static org.eclipse.jnosql.databases.couchdb.communication.CouchDBConfigur
 import static org.eclipse.jnosql.databases.couchdb.communication.CouchDBConfigurations.MAX_OBJECT_SIZE_BYTES;
 import static org.eclipse.jnosql.databases.couchdb.communication.CouchDBConfigurations.PORT;
 import static org.eclipse.jnosql.databases.couchdb.communication.CouchDBConfigurations.SOCKET_TIMEOUT;
+import static org.eclipse.jnosql.databases.couchdb.communication.CouchDBConfigurations.UPDATE_MODE;
 
 /**
  * The CouchDB implementation of {@link DatabaseConfiguration}  that returns
@@ -67,6 +70,13 @@ public class CouchDBDocumentConfiguration implements DatabaseConfiguration {
         settings.get(ENABLE_SSL, Boolean.class).ifPresent(configuration::withEnableSSL);
         settings.get(COMPRESSION, Boolean.class).ifPresent(configuration::withCompression);
 
+        settings.get(BATCH_SIZE, Integer.class).ifPresent(configuration::withBatchSize);
+        settings.get(AUTOMATIC_INDEX, Boolean.class).ifPresent(configuration::withAutomaticIndex);
+        settings.get(UPDATE_MODE).map(Object::toString)
+                .map(String::toUpperCase)
+                .map(CouchDBUpdateMode::valueOf)
+                .ifPresent(configuration::withUpdateMode);
+
         return new CouchDBDocumentManagerFactory(configuration.build());
     }
 }
\ No newline at end of file
@@ -30,4 +30,28 @@ public interface CouchDBDocumentManager extends DatabaseManager {
      * @throws UnsupportedOperationException when the database dot not have support
      */
     long count();
+
+    /**
+     * Returns the number of documents of the entity, read from a view that counts the documents
+     * by {@code @entity} with the built-in {@code _count} reduce. The design document of this view,
+     * {@code _design/jnosql}, is created on the first call.
+     *
+     * @param documentCollection the entity name
+     * @return the number of documents of the entity
+     * @throws NullPointerException when documentCollection is null
+     */
+    @Override
+    long count(String documentCollection);
+
+    /**
+     * Creates a Mango JSON index on the {@code @entity} field followed by the given fields, so the selects
+     * that filter or sort on those fields use the index instead of a full scan.
+     * Creating an index that already exists is a no-op on CouchDB. A sorted select adds {@code @entity} as its
+     * first sort field, so a sort on the given fields, all in the same direction, uses this index.
+     *
+     * @param name   the index name
+     * @param fields the fields to index after {@code @entity}
+     * @throws NullPointerException when there is a null parameter
+     */
+    void createIndex(String name, String... fields);
 }
@@ -18,6 +18,7 @@ package org.eclipse.jnosql.databases.couchdb.communication;
 
 import org.eclipse.jnosql.communication.semistructured.DatabaseManagerFactory;
 
+import java.util.List;
 import java.util.Objects;
 
 public class CouchDBDocumentManagerFactory implements DatabaseManagerFactory {
@@ -35,6 +36,9 @@ public class CouchDBDocumentManagerFactory implements DatabaseManagerFactory {
 
         CouchDBHttpClient client = configuration.getClient(database);
         client.createDatabase();
+        if (configuration.isAutomaticIndex()) {
+            client.createIndex("jnosql-entity", List.of());
+        }
         return new DefaultCouchDBDocumentManager(client, database);
     }
 
@@ -21,7 +21,6 @@ import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -55,8 +54,10 @@ public final class CouchDBDocumentQuery implements SelectQuery {
         return Optional.ofNullable(bookmark);
     }
 
-    void setBookmark(Map<String, Object> json) {
-        json.computeIfPresent(CouchDBConstant.BOOKMARK, (k, v) -> this.bookmark = v.toString());
+    void setBookmark(String bookmark) {
+        if (Objects.nonNull(bookmark)) {
+            this.bookmark = bookmark;
+        }
     }
 
     @Override
@@ -43,7 +43,10 @@ final class CouchDBHttpClient {
         if (!databases.contains(database)) {
             httpExecute.createDatabase(database);
         }
-        return;
+    }
+
+    void createIndex(String name, List<String> fields) {
+        httpExecute.createIndex(database, name, fields);
     }
 
     public CommunicationEntity insert(CommunicationEntity entity) {
@@ -54,6 +57,14 @@ final class CouchDBHttpClient {
         return this.httpExecute.update(database, entity);
     }
 
+    public List<CommunicationEntity> insert(List<CommunicationEntity> entities) {
+        return this.httpExecute.insert(database, entities);
+    }
+
+    public List<CommunicationEntity> update(List<CommunicationEntity> entities) {
+        return this.httpExecute.update(database, entities);
+    }
+
     public Stream<CommunicationEntity> select(SelectQuery query) {
         return this.httpExecute.select(database, query);
     }
@@ -66,6 +77,10 @@ final class CouchDBHttpClient {
         return httpExecute.count(database);
     }
 
+    public long count(String entity) {
+        return httpExecute.count(database, entity);
+    }
+
 
     public void close() {
         try {
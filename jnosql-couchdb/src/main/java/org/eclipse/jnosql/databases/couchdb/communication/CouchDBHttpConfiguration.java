@@ -40,6 +40,9 @@ class CouchDBHttpConfiguration {
     private final boolean compression;
     private final int maxObjectSizeBytes;
     private final int maxCacheEntries;
+    private final int batchSize;
+    private final CouchDBUpdateMode updateMode;
+    private final boolean automaticIndex;
     private final String url;
     private String hashPassword;
 
@@ -48,7 +51,8 @@ class CouchDBHttpConfiguration {
                              int connectionTimeout, int socketTimeout,
                              boolean enableSSL, String username, String password,
                              boolean compression, int maxObjectSizeBytes,
-                             int maxCacheEntries) {
+                             int maxCacheEntries, int batchSize, CouchDBUpdateMode updateMode,
+                             boolean automaticIndex) {
         this.host = host;
         this.port = port;
         this.maxConnections = maxConnections;
@@ -60,6 +64,9 @@ class CouchDBHttpConfiguration {
         this.compression = compression;
         this.maxObjectSizeBytes = maxObjectSizeBytes;
         this.maxCacheEntries = maxCacheEntries;
+        this.batchSize = batchSize;
+        this.updateMode = updateMode;
+        this.automaticIndex = automaticIndex;
         this.url = createUrl();
     }
 
@@ -82,6 +89,18 @@ class CouchDBHttpConfiguration {
         return url;
     }
 
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public CouchDBUpdateMode getUpdateMode() {
+        return updateMode;
+    }
+
+    public boolean isAutomaticIndex() {
+        return automaticIndex;
+    }
+
 
     private CloseableHttpClient getHttpClient() {
         CacheConfig cacheConfig = CacheConfig.custom()
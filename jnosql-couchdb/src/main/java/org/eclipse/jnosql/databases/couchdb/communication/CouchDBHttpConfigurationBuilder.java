@@ -14,6 +14,8 @@
  */
 package org.eclipse.jnosql.databases.couchdb.communication;
 
+import java.util.Objects;
+
 class CouchDBHttpConfigurationBuilder {
 
     private String host = "localhost";
@@ -29,6 +31,9 @@ class CouchDBHttpConfigurationBuilder {
     private boolean compression = false;
     private int maxObjectSizeBytes = 8192;
     private int maxCacheEntries = 1000;
+    private int batchSize = 1000;
+    private CouchDBUpdateMode updateMode = CouchDBUpdateMode.FETCH;
+    private boolean automaticIndex = false;
 
     public CouchDBHttpConfigurationBuilder withPort(int port) {
         this.port = port;
@@ -86,11 +91,29 @@ class CouchDBHttpConfigurationBuilder {
         return this;
     }
 
+    public CouchDBHttpConfigurationBuilder withBatchSize(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("The batch size must be greater than zero: " + batchSize);
+        }
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    public CouchDBHttpConfigurationBuilder withUpdateMode(CouchDBUpdateMode updateMode) {
+        this.updateMode = Objects.requireNonNull(updateMode, "updateMode is required");
+        return this;
+    }
+
+    public CouchDBHttpConfigurationBuilder withAutomaticIndex(boolean automaticIndex) {
+        this.automaticIndex = automaticIndex;
+        return this;
+    }
+
     public CouchDBHttpConfiguration build() {
         return new CouchDBHttpConfiguration(host, port, maxConnections, connectionTimeout,
                 socketTimeout, enableSSL, username, password,
                 compression,
-                maxObjectSizeBytes, maxCacheEntries);
+                maxObjectSizeBytes, maxCacheEntries, batchSize, updateMode, automaticIndex);
     }
 
 
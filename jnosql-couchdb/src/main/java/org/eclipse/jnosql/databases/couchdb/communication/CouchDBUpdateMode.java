@@ -0,0 +1,36 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchdb.communication;
+
+/**
+ * Defines how an update finds the revision, {@code _rev}, that CouchDB requires to replace a document.
+ *
+ * @see CouchDBConfigurations#UPDATE_MODE
+ */
+public enum CouchDBUpdateMode {
+
+    /**
+     * Reads the current revision from the database before the update, so the update always replaces
+     * the latest version of the document. It is the default mode.
+     */
+    FETCH,
+
+    /**
+     * Uses the revision already carried on the entity, e.g. from the insert or from a select, without
+     * an additional round trip. When the document changed in the meantime, CouchDB rejects the update with
+     * a conflict. An entity without a revision falls back to {@link #FETCH}.
+     */
+    REVISION
+}
@@ -32,13 +32,16 @@ final class CouchdbDeleteQuery implements SelectQuery {
     private static final List<String> DOCUMENTS = asList(CouchDBConstant.ID, CouchDBConstant.REV);
     private final DeleteQuery query;
 
-    CouchdbDeleteQuery(DeleteQuery query) {
+    private final long limit;
+
+    CouchdbDeleteQuery(DeleteQuery query, long limit) {
         this.query = query;
+        this.limit = limit;
     }
 
     @Override
     public long limit() {
-        return 10;
+        return limit;
     }
 
     @Override
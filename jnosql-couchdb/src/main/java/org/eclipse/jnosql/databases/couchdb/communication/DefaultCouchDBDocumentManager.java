@@ -22,6 +22,7 @@ import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -57,8 +58,7 @@ class DefaultCouchDBDocumentManager implements CouchDBDocumentManager {
     @Override
     public Iterable<CommunicationEntity> insert(Iterable<CommunicationEntity> entities) {
         Objects.requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::insert).collect(Collectors.toList());
+        return connector.insert(toList(entities));
     }
 
     @Override
@@ -78,8 +78,7 @@ class DefaultCouchDBDocumentManager implements CouchDBDocumentManager {
     @Override
     public Iterable<CommunicationEntity> update(Iterable<CommunicationEntity> entities) {
         Objects.requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::update).collect(Collectors.toList());
+        return connector.update(toList(entities));
     }
 
     @Override
@@ -101,8 +100,15 @@ class DefaultCouchDBDocumentManager implements CouchDBDocumentManager {
 
     @Override
     public long count(String documentCollection) {
-       throw new UnsupportedOperationException("CouchDB does not have support to count by document Collection," +
-               " to total of elments at database use CouchDBDocumentManager#count");
+        Objects.requireNonNull(documentCollection, "documentCollection is required");
+        return connector.count(documentCollection);
+    }
+
+    @Override
+    public void createIndex(String name, String... fields) {
+        Objects.requireNonNull(name, "name is required");
+        Objects.requireNonNull(fields, "fields is required");
+        connector.createIndex(name, List.of(fields));
     }
 
     @Override
@@ -110,4 +116,10 @@ class DefaultCouchDBDocumentManager implements CouchDBDocumentManager {
         connector.close();
     }
 
+    private static List<CommunicationEntity> toList(Iterable<CommunicationEntity> entities) {
+        return StreamSupport.stream(entities.spliterator(), false)
+                .map(e -> Objects.requireNonNull(e, "entity is required"))
+                .toList();
+    }
+
 }
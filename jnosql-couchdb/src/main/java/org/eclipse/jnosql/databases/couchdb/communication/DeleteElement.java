@@ -36,6 +36,10 @@ final class DeleteElement {
         return rev;
     }
 
+    Map<String, Object> toDeletion() {
+        return Map.of(CouchDBConstant.ID, id, CouchDBConstant.REV, rev, CouchDBConstant.DELETED, true);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
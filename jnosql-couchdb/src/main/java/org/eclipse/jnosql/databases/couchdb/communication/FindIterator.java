@@ -0,0 +1,86 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchdb.communication;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Walks the documents of a Mango query page by page, following the bookmark of each {@code _find} response.
+ * The next page is only requested once the current one is consumed, and each page is read and released
+ * before the caller sees its documents, so no connection is held between pages.
+ */
+final class FindIterator implements Iterator<Map<String, Object>> {
+
+    private final Function<JsonObject, FindPage> finder;
+
+    private final JsonObject query;
+
+    private final int pageSize;
+
+    private long remaining;
+
+    private String bookmark;
+
+    private Iterator<Map<String, Object>> page = Collections.emptyIterator();
+
+    private boolean exhausted;
+
+    FindIterator(Function<JsonObject, FindPage> finder, JsonObject query, int pageSize, long limit) {
+        this.finder = finder;
+        this.query = query;
+        this.pageSize = pageSize;
+        this.remaining = limit > 0 ? limit : Long.MAX_VALUE;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!page.hasNext() && !exhausted) {
+            fetch();
+        }
+        return page.hasNext();
+    }
+
+    @Override
+    public Map<String, Object> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("There is no more documents at the query");
+        }
+        return page.next();
+    }
+
+    private void fetch() {
+        long limit = Math.min(pageSize, remaining);
+        JsonObjectBuilder request = Json.createObjectBuilder(query)
+                .add(CouchDBConstant.LIMIT_QUERY, limit);
+        if (Objects.nonNull(bookmark)) {
+            request.remove(CouchDBConstant.SKIP_QUERY)
+                    .add(CouchDBConstant.BOOKMARK, bookmark);
+        }
+        FindPage result = finder.apply(request.build());
+        remaining -= result.documents().size();
+        bookmark = result.bookmark();
+        exhausted = result.documents().size() < limit || remaining <= 0 || Objects.isNull(bookmark);
+        page = result.documents().iterator();
+    }
+}
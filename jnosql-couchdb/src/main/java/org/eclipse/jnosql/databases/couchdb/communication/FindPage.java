@@ -0,0 +1,89 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.couchdb.communication;
+
+import jakarta.json.Json;
+import jakarta.json.stream.JsonParser;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A page of a {@code _find} response, read straight from the response stream with a JSON parser, so neither
+ * the response body nor the whole result become a {@link String} or a JSON tree.
+ *
+ * @param documents the documents at the {@code docs} field
+ * @param bookmark  the bookmark to the next page, it might be null
+ */
+record FindPage(List<Map<String, Object>> documents, String bookmark) {
+
+    static FindPage parse(InputStream content) {
+        List<Map<String, Object>> documents = new ArrayList<>();
+        String bookmark = null;
+        try (JsonParser parser = Json.createParser(content)) {
+            parser.next();
+            while (parser.next() == JsonParser.Event.KEY_NAME) {
+                String key = parser.getString();
+                JsonParser.Event event = parser.next();
+                if (CouchDBConstant.DOCS_RESPONSE.equals(key) && event == JsonParser.Event.START_ARRAY) {
+                    while (parser.next() == JsonParser.Event.START_OBJECT) {
+                        documents.add(readObject(parser));
+                    }
+                } else if (CouchDBConstant.BOOKMARK.equals(key) && event == JsonParser.Event.VALUE_STRING) {
+                    bookmark = parser.getString();
+                } else if (event == JsonParser.Event.START_OBJECT) {
+                    parser.skipObject();
+                } else if (event == JsonParser.Event.START_ARRAY) {
+                    parser.skipArray();
+                }
+            }
+        }
+        return new FindPage(documents, bookmark);
+    }
+
+    private static Map<String, Object> readObject(JsonParser parser) {
+        Map<String, Object> object = new LinkedHashMap<>();
+        while (parser.next() != JsonParser.Event.END_OBJECT) {
+            String key = parser.getString();
+            object.put(key, readValue(parser, parser.next()));
+        }
+        return object;
+    }
+
+    private static List<Object> readArray(JsonParser parser) {
+        List<Object> values = new ArrayList<>();
+        JsonParser.Event event;
+        while ((event = parser.next()) != JsonParser.Event.END_ARRAY) {
+            values.add(readValue(parser, event));
+        }
+        return values;
+    }
+
+    private static Object readValue(JsonParser parser, JsonParser.Event event) {
+        return switch (event) {
+            case START_OBJECT -> readObject(parser);
+            case START_ARRAY -> readArray(parser);
+            case VALUE_STRING -> parser.getString();
+            case VALUE_NUMBER -> parser.getBigDecimal();
+            case VALUE_TRUE -> Boolean.TRUE;
+            case VALUE_FALSE -> Boolean.FALSE;
+            case VALUE_NULL -> null;
+            default -> throw new CouchDBHttpClientException("Unexpected JSON event at the _find response: " + event);
+        };
+    }
+}
@@ -14,6 +14,7 @@
  */
 package org.eclipse.jnosql.databases.couchdb.communication;
 
+import jakarta.data.Sort;
 import jakarta.json.JsonObject;
 import jakarta.json.bind.Jsonb;
 import org.apache.commons.codec.net.URLCodec;
@@ -21,7 +22,6 @@ import org.apache.http.HttpEntity;
 import org.apache.http.HttpHeaders;
 import org.apache.http.HttpStatus;
 import org.apache.http.client.methods.CloseableHttpResponse;
-import org.apache.http.client.methods.HttpDelete;
 import org.apache.http.client.methods.HttpEntityEnclosingRequestBase;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
@@ -29,19 +29,34 @@ import org.apache.http.client.methods.HttpPut;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.util.EntityUtils;
 import org.eclipse.jnosql.communication.driver.JsonbSupplier;
 import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.Element;
 import org.eclipse.jnosql.communication.semistructured.Elements;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 
 import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
 import java.lang.reflect.Type;
+import java.net.URLEncoder;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Collections.emptyList;
@@ -60,6 +75,9 @@ class HttpExecute {
     private static final Type JSON = new HashMap<String, Object>() {
     }.getClass().getGenericSuperclass();
 
+    private static final Set<Integer> BULK_STATUS = Set.of(HttpStatus.SC_CREATED, HttpStatus.SC_ACCEPTED,
+            HttpStatus.SC_EXPECTATION_FAILED);
+
 
     private final CouchDBHttpConfiguration configuration;
 
@@ -67,6 +85,10 @@ class HttpExecute {
 
     private final MangoQueryConverter converter;
 
+    private final Set<String> views = ConcurrentHashMap.newKeySet();
+
+    private final Set<String> indexes = ConcurrentHashMap.newKeySet();
+
     HttpExecute(CouchDBHttpConfiguration configuration, CloseableHttpClient client) {
         this.configuration = configuration;
         this.client = client;
@@ -87,9 +109,8 @@ class HttpExecute {
     }
 
     public CommunicationEntity insert(String database, CommunicationEntity entity) {
-        Map<String, Object> map = new HashMap<>(entity.toMap());
+        Map<String, Object> map = toJson(entity);
         String id = map.getOrDefault(CouchDBConstant.ID, "").toString();
-        map.put(CouchDBConstant.ENTITY, entity.name());
         try {
             HttpEntityEnclosingRequestBase request;
             if (id.isEmpty()) {
@@ -115,21 +136,90 @@ class HttpExecute {
 
     public CommunicationEntity update(String database, CommunicationEntity entity) {
         String id = getId(entity);
-        Map<String, Object> json = findById(database, id);
-        entity.add(CouchDBConstant.REV, json.get(CouchDBConstant.REV));
+        if (!hasRevision(entity)) {
+            Map<String, Object> json = findById(database, id);
+            entity.add(CouchDBConstant.REV, json.get(CouchDBConstant.REV));
+        }
         return insert(database, entity);
     }
 
+    public List<CommunicationEntity> insert(String database, List<CommunicationEntity> entities) {
+        Map<Integer, String> failures = new LinkedHashMap<>();
+        for (int start = 0; start < entities.size(); start += configuration.getBatchSize()) {
+            int end = Math.min(start + configuration.getBatchSize(), entities.size());
+            bulk(database, entities, IntStream.range(start, end).boxed().toList(), failures);
+        }
+        if (!failures.isEmpty()) {
+            throw new CouchDBBulkException(failures);
+        }
+        return entities;
+    }
+
+    public List<CommunicationEntity> update(String database, List<CommunicationEntity> entities) {
+        entities.forEach(this::getId);
+        Map<Integer, String> failures = new LinkedHashMap<>();
+        for (int start = 0; start < entities.size(); start += configuration.getBatchSize()) {
+            int end = Math.min(start + configuration.getBatchSize(), entities.size());
+            Set<Integer> fetch = IntStream.range(start, end)
+                    .filter(index -> !hasRevision(entities.get(index)))
+                    .boxed().collect(Collectors.toCollection(LinkedHashSet::new));
+            Map<String, String> revisions = revisions(database, fetch.stream()
+                    .map(entities::get).map(this::getId).toList());
+            List<Integer> positions = new ArrayList<>();
+            for (int index = start; index < end; index++) {
+                CommunicationEntity entity = entities.get(index);
+                if (fetch.contains(index)) {
+                    String revision = revisions.get(getId(entity));
+                    if (Objects.isNull(revision)) {
+                        failures.put(index, "not_found: the document does not exist");
+                        continue;
+                    }
+                    entity.add(CouchDBConstant.REV, revision);
+                }
+                positions.add(index);
+            }
+            bulk(database, entities, positions, failures);
+        }
+        if (!failures.isEmpty()) {
+            throw new CouchDBBulkException(failures);
+        }
+        return entities;
+    }
+
     public Stream<CommunicationEntity> select(String database, SelectQuery query) {
-        List<Map<String, Object>> entities = executeQuery(database, query);
-        return entities.stream().map(this::toEntity);
+        if (configuration.isAutomaticIndex() && !query.sorts().isEmpty()) {
+            createSortIndex(database, query);
+        }
+        if (query instanceof CouchDBDocumentQuery) {
+            return executeQuery(database, query).stream().map(this::toEntity);
+        }
+        FindIterator documents = new FindIterator(mango -> find(database, mango), converter.apply(query),
+                configuration.getBatchSize(), query.limit());
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(documents,
+                        Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .map(this::toEntity);
     }
 
     public void delete(String database, org.eclipse.jnosql.communication.semistructured.DeleteQuery query) {
-        CouchDBDocumentQuery documentQuery = CouchDBDocumentQuery.of(new CouchdbDeleteQuery(query));
+        CouchDBDocumentQuery documentQuery = CouchDBDocumentQuery.of(new CouchdbDeleteQuery(query,
+                configuration.getBatchSize()));
         List<Map<String, Object>> entities = executeQuery(database, documentQuery);
+        int offset = 0;
         while (!entities.isEmpty()) {
-            entities.stream().map(DeleteElement::new).forEach(id -> this.delete(database, id));
+            List<Map<String, Object>> results = bulkDocs(database, entities.stream().map(DeleteElement::new)
+                    .map(DeleteElement::toDeletion)
+                    .toList());
+            Map<Integer, String> failures = new LinkedHashMap<>();
+            for (int index = 0; index < results.size(); index++) {
+                Map<String, Object> result = results.get(index);
+                if (result.containsKey(CouchDBConstant.ERROR_RESPONSE)) {
+                    failures.put(offset + index, failure(result));
+                }
+            }
+            if (!failures.isEmpty()) {
+                throw new CouchDBBulkException(failures);
+            }
+            offset += entities.size();
             entities = executeQuery(database, documentQuery);
         }
     }
@@ -141,24 +231,187 @@ class HttpExecute {
         return Long.parseLong(total);
     }
 
+    public long count(String database, String entity) {
+        createCountView(database);
+        String key = URLEncoder.encode(JSONB.toJson(entity), UTF_8);
+        HttpGet request = new HttpGet(configuration.getUrl().concat(database)
+                .concat(CouchDBConstant.COUNT_VIEW).concat(key));
+        Map<String, Object> json = execute(request, JSON, HttpStatus.SC_OK);
+        List<Map<String, Object>> rows = (List<Map<String, Object>>) json
+                .getOrDefault(CouchDBConstant.ROWS_RESPONSE, emptyList());
+        return rows.stream().findFirst()
+                .map(row -> (Number) row.get(CouchDBConstant.VALUE_RESPONSE))
+                .map(Number::longValue)
+                .orElse(0L);
+    }
+
+    public void createIndex(String database, String name, List<String> fields) {
+        List<String> indexFields = new ArrayList<>();
+        indexFields.add(CouchDBConstant.ENTITY);
+        fields.stream().filter(f -> !CouchDBConstant.ENTITY.equals(f)).forEach(indexFields::add);
+        Map<String, Object> index = Map.of("index", Map.of("fields", indexFields),
+                "name", name, "type", "json");
+        HttpPost request = new HttpPost(configuration.getUrl().concat(database).concat(CouchDBConstant.INDEX));
+        setHeader(request);
+        request.setEntity(new StringEntity(JSONB.toJson(index), APPLICATION_JSON));
+        execute(request, JSON, HttpStatus.SC_OK);
+        indexes.add(indexKey(database, indexFields));
+    }
+
+
+    private void bulk(String database, List<CommunicationEntity> entities, List<Integer> positions,
+                      Map<Integer, String> failures) {
+        if (positions.isEmpty()) {
+            return;
+        }
+        List<Map<String, Object>> results = bulkDocs(database, positions.stream()
+                .map(entities::get)
+                .map(this::toJson)
+                .toList());
+        for (int index = 0; index < positions.size(); index++) {
+            Map<String, Object> result = results.get(index);
+            int position = positions.get(index);
+            if (result.containsKey(CouchDBConstant.ERROR_RESPONSE)) {
+                failures.put(position, failure(result));
+            } else {
+                CommunicationEntity entity = entities.get(position);
+                entity.add(CouchDBConstant.ID, result.get(CouchDBConstant.ID_RESPONSE));
+                entity.add(CouchDBConstant.REV, result.get(CouchDBConstant.REV_RESPONSE));
+            }
+        }
+    }
+
+    private static String failure(Map<String, Object> result) {
+        return result.get(CouchDBConstant.ERROR_RESPONSE) + ": " + result.get(CouchDBConstant.REASON_RESPONSE);
+    }
+
+    private List<Map<String, Object>> bulkDocs(String database, List<Map<String, Object>> documents) {
+        HttpPost request = new HttpPost(configuration.getUrl().concat(database).concat(CouchDBConstant.BULK_DOCS));
+        setHeader(request);
+        String json = JSONB.toJson(Map.of(CouchDBConstant.DOCS_RESPONSE, documents));
+        request.setEntity(new StringEntity(json, APPLICATION_JSON));
+        Object response = execute(request, BULK_STATUS, content -> JSONB.fromJson(content, Object.class));
+        return results(documents, response);
+    }
+
+    /**
+     * Aligns the {@code _bulk_docs} response to the documents. A 201 or 202 response has one result per document,
+     * in the same order. A 417 response, when some documents are rejected, e.g. by a {@code validate_doc_update}
+     * function, might only list the rejected ones, so they are matched by id, and the documents without a result
+     * are reported with the error of the whole request.
+     */
+    static List<Map<String, Object>> results(List<Map<String, Object>> documents, Object response) {
+        if (response instanceof List<?> list && list.size() == documents.size()) {
+            return (List<Map<String, Object>>) list;
+        }
+        Map<String, Map<String, Object>> byId = new HashMap<>();
+        Map<String, Object> rejected = Map.of(CouchDBConstant.ERROR_RESPONSE, "expectation_failed",
+                CouchDBConstant.REASON_RESPONSE, "the bulk request was rejected");
+        if (response instanceof List<?> list) {
+            for (Object item : list) {
+                Map<String, Object> result = (Map<String, Object>) item;
+                Object id = result.get(CouchDBConstant.ID_RESPONSE);
+                if (id != null) {
+                    byId.put(id.toString(), result);
+                }
+            }
+        } else if (response instanceof Map<?, ?> map && map.containsKey(CouchDBConstant.ERROR_RESPONSE)) {
+            rejected = (Map<String, Object>) map;
+        }
+        List<Map<String, Object>> results = new ArrayList<>(documents.size());
+        for (Map<String, Object> document : documents) {
+            Object id = document.get(CouchDBConstant.ID);
+            Map<String, Object> result = id == null ? null : byId.get(id.toString());
+            results.add(result == null ? rejected : result);
+        }
+        return results;
+    }
+
+    private Map<String, String> revisions(String database, List<String> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        HttpPost request = new HttpPost(configuration.getUrl().concat(database).concat(CouchDBConstant.ALL_DOCS));
+        setHeader(request);
+        request.setEntity(new StringEntity(JSONB.toJson(Map.of(CouchDBConstant.KEYS, ids)), APPLICATION_JSON));
+        Map<String, Object> json = execute(request, JSON, HttpStatus.SC_OK);
+        List<Map<String, Object>> rows = (List<Map<String, Object>>) json
+                .getOrDefault(CouchDBConstant.ROWS_RESPONSE, emptyList());
+        Map<String, String> revisions = new HashMap<>();
+        for (Map<String, Object> row : rows) {
+            if (row.get(CouchDBConstant.VALUE_RESPONSE) instanceof Map<?, ?> value
+                    && !Boolean.TRUE.equals(value.get(CouchDBConstant.DELETED_RESPONSE))) {
+                revisions.put(row.get(CouchDBConstant.ID_RESPONSE).toString(),
+                        value.get(CouchDBConstant.REV_RESPONSE).toString());
+            }
+        }
+        return revisions;
+    }
 
-    private void delete(String database, DeleteElement id) {
-        HttpDelete request = new HttpDelete(configuration.getUrl().concat(database).concat("/").concat(id.getId()));
-        request.addHeader(CouchDBConstant.REV_HEADER, id.getRev());
-        execute(request, null, HttpStatus.SC_OK, true);
+    private void createSortIndex(String database, SelectQuery query) {
+        List<String> fields = query.sorts().stream().map(Sort::property)
+                .filter(field -> !CouchDBConstant.ENTITY.equals(field)).toList();
+        List<String> indexFields = new ArrayList<>();
+        indexFields.add(CouchDBConstant.ENTITY);
+        indexFields.addAll(fields);
+        if (!indexes.contains(indexKey(database, indexFields))) {
+            createIndex(database, "jnosql-" + String.join("-", fields), fields);
+        }
+    }
+
+    private static String indexKey(String database, List<String> indexFields) {
+        return database + ":" + String.join(",", indexFields);
+    }
+
+    /**
+     * Creates, once per database, the design document whose view counts the documents by {@code @entity}
+     * with the built-in {@code _count} reduce, so counting an entity reads the view index instead of scanning.
+     */
+    private void createCountView(String database) {
+        if (views.contains(database)) {
+            return;
+        }
+        Map<String, Object> view = Map.of("map", CouchDBConstant.COUNT_VIEW_MAP, "reduce", "_count");
+        Map<String, Object> design = Map.of("language", "javascript", "views", Map.of("entities", view));
+        HttpPut request = new HttpPut(configuration.getUrl().concat(database).concat(CouchDBConstant.DESIGN_DOCUMENT));
+        setHeader(request);
+        request.setEntity(new StringEntity(JSONB.toJson(design), APPLICATION_JSON));
+        int status = executeStatus(request);
+        if (status != HttpStatus.SC_CREATED && status != HttpStatus.SC_CONFLICT) {
+            throw new CouchDBHttpClientException("There is an error to create the count view at database: "
+                    + database + " status: " + status);
+        }
+        views.add(database);
+    }
+
+    private boolean hasRevision(CommunicationEntity entity) {
+        return CouchDBUpdateMode.REVISION.equals(configuration.getUpdateMode())
+                && entity.find(CouchDBConstant.REV).map(Element::get).isPresent();
+    }
+
+    private Map<String, Object> toJson(CommunicationEntity entity) {
+        Map<String, Object> map = new HashMap<>(entity.toMap());
+        if (map.getOrDefault(CouchDBConstant.ID, "").toString().isEmpty()) {
+            map.remove(CouchDBConstant.ID);
+        }
+        map.put(CouchDBConstant.ENTITY, entity.name());
+        return map;
     }
 
 
     private List<Map<String, Object>> executeQuery(String database, SelectQuery query) {
+        FindPage page = find(database, converter.apply(query));
+        if (query instanceof CouchDBDocumentQuery documentQuery) {
+            documentQuery.setBookmark(page.bookmark());
+        }
+        return page.documents();
+    }
+
+    private FindPage find(String database, JsonObject mangoQuery) {
         HttpPost request = new HttpPost(configuration.getUrl().concat(database).concat(CouchDBConstant.FIND));
         setHeader(request);
-        JsonObject mangoQuery = converter.apply(query);
         request.setEntity(new StringEntity(mangoQuery.toString(), APPLICATION_JSON));
-        Map<String, Object> json = execute(request, JSON, HttpStatus.SC_OK);
-        if (query instanceof CouchDBDocumentQuery) {
-            CouchDBDocumentQuery.class.cast(query).setBookmark(json);
-        }
-        return (List<Map<String, Object>>) json.getOrDefault(CouchDBConstant.DOCS_RESPONSE, emptyList());
+        return execute(request, HttpStatus.SC_OK, FindPage::parse);
     }
 
 
@@ -182,14 +435,18 @@ class HttpExecute {
     }
 
     private <T> T execute(HttpUriRequest request, Type type, int expectedStatus) {
-        return execute(request, type, expectedStatus, false);
+        return execute(request, expectedStatus, content -> JSONB.fromJson(content, type));
+    }
+
+    private <T> T execute(HttpUriRequest request, int expectedStatus, Function<InputStream, T> reader) {
+        return execute(request, Set.of(expectedStatus), reader);
     }
 
-    private <T> T execute(HttpUriRequest request, Type type, int expectedStatus, boolean ignoreStatus) {
+    private <T> T execute(HttpUriRequest request, Set<Integer> expectedStatus, Function<InputStream, T> reader) {
 
         configuration.getHashPassword().ifPresent(s -> request.setHeader(HttpHeaders.AUTHORIZATION, s));
         try (CloseableHttpResponse result = client.execute(request)) {
-            if (!ignoreStatus && result.getStatusLine().getStatusCode() != expectedStatus) {
+            if (!expectedStatus.contains(result.getStatusLine().getStatusCode())) {
                 ByteArrayOutputStream stream = new ByteArrayOutputStream();
                 result.getEntity().writeTo(stream);
                 String response = new String(stream.toByteArray(), UTF_8);
@@ -197,13 +454,10 @@ class HttpExecute {
                         result.getStatusLine().getStatusCode()
                         + " error: " + response);
             }
-            if (Objects.isNull(type)) {
-                return null;
-            }
             HttpEntity entity = result.getEntity();
-            ByteArrayOutputStream stream = new ByteArrayOutputStream();
-            entity.writeTo(stream);
-            return JSONB.fromJson(new String(stream.toByteArray(), UTF_8), type);
+            try (InputStream content = entity.getContent()) {
+                return reader.apply(content);
+            }
         } catch (CouchDBHttpClientException ex) {
             throw ex;
         } catch (Exception ex) {
@@ -211,6 +465,16 @@ class HttpExecute {
         }
     }
 
+    private int executeStatus(HttpUriRequest request) {
+        configuration.getHashPassword().ifPresent(s -> request.setHeader(HttpHeaders.AUTHORIZATION, s));
+        try (CloseableHttpResponse result = client.execute(request)) {
+            EntityUtils.consume(result.getEntity());
+            return result.getStatusLine().getStatusCode();
+        } catch (Exception ex) {
+            throw new CouchDBHttpClientException("An error to access the database", ex);
+        }
+    }
+
     private void setHeader(HttpEntityEnclosingRequestBase request) {
         request.setHeader("Accept", APPLICATION_JSON.getMimeType());
         request.setHeader("Content-type", APPLICATION_JSON.getMimeType());
@@ -53,9 +53,7 @@ final class MangoQueryConverter implements Function<SelectQuery, JsonObject> {
         }
 
         if (!documentQuery.sorts().isEmpty()) {
-            JsonArrayBuilder sorts = Json.createArrayBuilder();
-            documentQuery.sorts().stream().map(this::createSortObject).forEach(sorts::add);
-            select.add(CouchDBConstant.SORT_QUERY, sorts.build());
+            select.add(CouchDBConstant.SORT_QUERY, sorts(documentQuery.sorts()));
         }
 
         if (documentQuery instanceof CouchDBDocumentQuery) {
@@ -67,6 +65,21 @@ final class MangoQueryConverter implements Function<SelectQuery, JsonObject> {
         return select.add(CouchDBConstant.SELECTOR_QUERY, selector).build();
     }
 
+    /**
+     * The indexes created by this driver start with {@code @entity}, so the sort starts with it too, in the
+     * direction of the first sort; it does not change the order because the selector fixes the entity.
+     */
+    private JsonArray sorts(List<Sort<?>> sorts) {
+        JsonArrayBuilder array = Json.createArrayBuilder();
+        boolean entity = sorts.stream().anyMatch(sort -> CouchDBConstant.ENTITY.equals(sort.property()));
+        if (!entity) {
+            array.add(createSortObject(sorts.get(0).isAscending() ? Sort.asc(CouchDBConstant.ENTITY)
+                    : Sort.desc(CouchDBConstant.ENTITY)));
+        }
+        sorts.stream().map(this::createSortObject).forEach(array::add);
+        return array.build();
+    }
+
     private void bookmark(String bookmark, JsonObjectBuilder select) {
         select.add(CouchDBConstant.BOOKMARK, bookmark);
     }
@@ -114,6 +114,36 @@ class DefaultCouchDBDocumentManagerTest {
     }
 
 
+    @Test
+    void shouldInsertIterable() {
+        var entities = List.of(getEntity(), getEntity(), getEntity());
+        entities.forEach(e -> e.remove(CouchDBConstant.ID));
+        entityManager.insert(entities);
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(entities).allMatch(e -> e.find(CouchDBConstant.ID).isPresent());
+            soft.assertThat(entities).allMatch(e -> e.find(CouchDBConstant.REV).isPresent());
+        });
+    }
+
+    @Test
+    void shouldUpdateIterable() {
+        var entities = List.of(getEntity(), getEntity());
+        entities.forEach(e -> e.remove(CouchDBConstant.ID));
+        entityManager.insert(entities);
+        entities.forEach(e -> e.add(Elements.of("newField", "10")));
+        entityManager.update(entities);
+        var query = select().from(COLLECTION_NAME).where("newField").eq("10").build();
+        assertThat(entityManager.select(query)).hasSize(2);
+    }
+
+    @Test
+    void shouldReturnBulkErrorOnUpdate() {
+        var entity = getEntity();
+        entity.add(CouchDBConstant.ID, "not_found");
+        var exception = assertThrows(CouchDBBulkException.class, () -> entityManager.update(List.of(entity)));
+        assertThat(exception.failures()).containsOnlyKeys(0);
+    }
+
     @Test
     void shouldSelect() {
         var entity = getEntity();
@@ -155,6 +185,57 @@ class DefaultCouchDBDocumentManagerTest {
         assertTrue(count > 0);
     }
 
+    @Test
+    void shouldCountByEntity() {
+        var entities = List.of(getEntity(), getEntity(), getEntity());
+        entities.forEach(e -> e.remove(CouchDBConstant.ID));
+        entityManager.insert(entities);
+        var other = CommunicationEntity.of("other");
+        other.add("name", "Ada");
+        entityManager.insert(other);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(entityManager.count(COLLECTION_NAME)).isEqualTo(3L);
+            soft.assertThat(entityManager.count("not_found")).isZero();
+        });
+        entityManager.delete(delete().from("other").build());
+    }
+
+    @Test
+    void shouldSortWithIndex() {
+        entityManager.createIndex("person-index", "index");
+        for (int index = 0; index < 3; index++) {
+            CommunicationEntity entity = getEntity();
+            entity.remove(CouchDBConstant.ID);
+            entity.add("index", index);
+            entityManager.insert(entity);
+        }
+        var query = select().from(COLLECTION_NAME).orderBy("index").desc().build();
+        var indexes = entityManager.select(query).map(e -> e.find("index").orElseThrow().get(Integer.class))
+                .toList();
+        assertThat(indexes).containsExactly(2, 1, 0);
+    }
+
+    @Test
+    void shouldSortWithAutomaticIndex() {
+        var manager = DocumentDatabase.INSTANCE.withAutomaticIndex().apply("people");
+        for (int position = 0; position < 3; position++) {
+            CommunicationEntity entity = getEntity();
+            entity.remove(CouchDBConstant.ID);
+            entity.add("position", position);
+            manager.insert(entity);
+        }
+        var ascending = select().from(COLLECTION_NAME).orderBy("position").asc().build();
+        var descending = select().from(COLLECTION_NAME).orderBy("position").desc().build();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(manager.select(ascending).map(e -> e.find("position").orElseThrow().get(Integer.class)))
+                    .containsExactly(0, 1, 2);
+            soft.assertThat(manager.select(descending).map(e -> e.find("position").orElseThrow().get(Integer.class)))
+                    .containsExactly(2, 1, 0);
+        });
+    }
+
     @Test
     void shouldSelectWithCouchDBDocumentQuery() {
 
@@ -182,6 +263,24 @@ class DefaultCouchDBDocumentManagerTest {
         assertTrue(entities.isEmpty());
     }
 
+    @Test
+    void shouldSelectBeyondTheDefaultLimit() {
+        List<CommunicationEntity> entities = new ArrayList<>();
+        for (int index = 0; index < 30; index++) {
+            CommunicationEntity entity = getEntity();
+            entity.remove(CouchDBConstant.ID);
+            entity.add("index", index);
+            entities.add(entity);
+        }
+        entityManager.insert(entities);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(entityManager.select(select().from(COLLECTION_NAME).build())).hasSize(30);
+            soft.assertThat(entityManager.select(select().from(COLLECTION_NAME).skip(5).limit(20).build()))
+                    .hasSize(20);
+        });
+    }
+
     @Test
     void shouldExecuteInStringQueryAtCouchbase() {
         for (int index = 0; index < 4; index++) {
@@ -0,0 +1,59 @@
+/*
+ *
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+package org.eclipse.jnosql.databases.couchdb.communication;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HttpExecuteTest {
+
+    private final List<Map<String, Object>> documents = List.of(Map.of("_id", "ada"), Map.of("_id", "poliana"),
+            Map.of("name", "without id"));
+
+    @Test
+    void shouldKeepTheResultsOfEachDocument() {
+        List<Map<String, Object>> response = List.of(Map.of("id", "ada", "rev", "1-a"),
+                Map.of("id", "poliana", "error", "forbidden", "reason", "invalid"),
+                Map.of("id", "generated", "rev", "1-b"));
+
+        assertThat(HttpExecute.results(documents, response)).isEqualTo(response);
+    }
+
+    @Test
+    void shouldMatchTheRejectedDocumentsById() {
+        List<Map<String, Object>> response = List.of(
+                Map.of("id", "poliana", "error", "forbidden", "reason", "invalid"));
+
+        List<Map<String, Object>> results = HttpExecute.results(documents, response);
+
+        assertThat(results).hasSize(3);
+        assertThat(results.get(0)).containsEntry("error", "expectation_failed");
+        assertThat(results.get(1)).containsEntry("error", "forbidden").containsEntry("reason", "invalid");
+        assertThat(results.get(2)).containsEntry("error", "expectation_failed");
+    }
+
+    @Test
+    void shouldReportTheRequestErrorToEveryDocument() {
+        Map<String, Object> response = Map.of("error", "expectation_failed", "reason", "all_or_nothing");
+
+        assertThat(HttpExecute.results(documents, response)).hasSize(3).allSatisfy(result ->
+                assertThat(result).containsEntry("reason", "all_or_nothing"));
+    }
+}
@@ -39,11 +39,22 @@ public enum DocumentDatabase implements Supplier<CouchDBDocumentManagerFactory>
     @Override
     public CouchDBDocumentManagerFactory get() {
         CouchDBDocumentConfiguration configuration = new CouchDBDocumentConfiguration();
+        return configuration.apply(settings().build());
+    }
+
+    public CouchDBDocumentManagerFactory withAutomaticIndex() {
+        CouchDBDocumentConfiguration configuration = new CouchDBDocumentConfiguration();
+        SettingsBuilder builder = settings();
+        builder.put(CouchDBConfigurations.AUTOMATIC_INDEX, true);
+        return configuration.apply(builder.build());
+    }
+
+    private SettingsBuilder settings() {
         SettingsBuilder builder = Settings.builder();
         builder.put(CouchDBConfigurations.PORT, couchDB.getFirstMappedPort());
         builder.put(CouchDBConfigurations.USER, "admin");
         builder.put(CouchDBConfigurations.PASSWORD, "password");
-        return configuration.apply(builder.build());
+        return builder;
     }
 
 }
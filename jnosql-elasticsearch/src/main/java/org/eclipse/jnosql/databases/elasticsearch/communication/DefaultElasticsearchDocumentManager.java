@@ -17,12 +17,15 @@ package org.eclipse.jnosql.databases.elasticsearch.communication;
 
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.Conflicts;
+import co.elastic.clients.elasticsearch._types.query_dsl.MatchAllQuery;
 import co.elastic.clients.elasticsearch._types.query_dsl.MatchQuery;
-import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
 import co.elastic.clients.elasticsearch.core.CountRequest;
+import co.elastic.clients.elasticsearch.core.DeleteByQueryRequest;
+import co.elastic.clients.elasticsearch.core.DeleteByQueryResponse;
 import co.elastic.clients.elasticsearch.core.IndexRequest;
 import co.elastic.clients.elasticsearch.core.SearchRequest;
-import co.elastic.clients.elasticsearch.core.bulk.DeleteOperation;
 import org.eclipse.jnosql.communication.CommunicationException;
 import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
 import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
@@ -30,8 +33,6 @@ import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 
 import java.io.IOException;
 import java.time.Duration;
-import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -110,36 +111,52 @@ class DefaultElasticsearchDocumentManager implements ElasticsearchDocumentManage
                 .map(this::update).collect(Collectors.toList());
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @throws CommunicationException when a matched document is not deleted, by a failure or a version conflict;
+     *                                the other documents are still deleted
+     */
     @Override
     public void delete(DeleteQuery query) throws NullPointerException {
         requireNonNull(query, "query is required");
 
-        var select = new ElasticsearchDocumentQuery(query);
-
-        List<CommunicationEntity> entities = select(select).toList();
-
-        if (entities.isEmpty()) {
-            return;
-        }
-
-        BulkRequest.Builder bulkRequest = new BulkRequest.Builder();
-
-        entities.stream()
-                .map(entity -> entity.find(EntityConverter.ID_FIELD).orElseThrow().get(String.class))
-                .forEach(id ->
-                        bulkRequest.operations(op -> op
-                                .delete(DeleteOperation.of(dp -> dp
-                                        .index(index)
-                                        .id(id)))
-                        )
-                );
+        var select = QueryConverter.select(elasticsearchClient, index, new ElasticsearchDocumentQuery(query));
+        Query statement = select.hasQuery() ? select.statement().build() : MatchAllQuery.of(m -> m)._toQuery();
+        DeleteByQueryResponse response;
         try {
-            elasticsearchClient.bulk(bulkRequest.build());
+            response = elasticsearchClient.deleteByQuery(DeleteByQueryRequest.of(d -> d
+                    .index(index)
+                    .query(statement)
+                    .conflicts(Conflicts.Proceed)));
         } catch (IOException e) {
             throw new ElasticsearchException("An error to delete entities on elasticsearch", e);
         }
+        checkDeleted(response);
+    }
+
+    /**
+     * The delete by query proceeds on version conflicts, so it deletes every document it can, and then reports
+     * the documents that were not deleted, either by a failure or by a version conflict.
+     */
+    static void checkDeleted(DeleteByQueryResponse response) {
+        long conflicts = Objects.requireNonNullElse(response.versionConflicts(), 0L);
+        if (response.failures().isEmpty() && conflicts == 0) {
+            return;
+        }
+        String failures = response.failures().stream()
+                .map(failure -> failure.index() + "/" + failure.id() + ": " + failure.cause().reason())
+                .collect(Collectors.joining(", ", "[", "]"));
+        throw new CommunicationException("The delete by query did not delete every document, deleted: "
+                + response.deleted() + ", version conflicts: " + conflicts + ", failures: " + failures);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>A query without a limit, or whose skip and limit exceed the result window, is streamed with a point-in-time
+     * that is released once the stream is fully read or closed. Close the stream, e.g. with try-with-resources,
+     * when reading only part of it; otherwise the point-in-time is kept until its keep-alive expires.</p>
+     */
     @Override
     public Stream<CommunicationEntity> select(SelectQuery query) throws NullPointerException {
         requireNonNull(query, "query is required");
@@ -163,7 +180,7 @@ class DefaultElasticsearchDocumentManager implements ElasticsearchDocumentManage
     public Stream<CommunicationEntity> search(SearchRequest query) {
         Objects.requireNonNull(query, "query is required");
         try {
-            var responses = elasticsearchClient.search(query, Map.class);
+            var responses = EntityConverter.search(elasticsearchClient, query);
             return EntityConverter.getDocumentEntityStream(elasticsearchClient, responses);
         } catch (IOException e) {
             throw new ElasticsearchException("An error when do search from QueryBuilder on elasticsearch", e);
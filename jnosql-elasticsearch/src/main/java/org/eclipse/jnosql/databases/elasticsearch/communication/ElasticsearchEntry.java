@@ -19,36 +19,30 @@ package org.eclipse.jnosql.databases.elasticsearch.communication;
 import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
 import org.eclipse.jnosql.communication.semistructured.Element;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import static java.util.Objects.isNull;
-import static java.util.stream.Collectors.toList;
-import static java.util.stream.StreamSupport.stream;
 
 class ElasticsearchEntry {
 
     private final String id;
 
-    private final Map<String, Object> map;
+    private final List<Element> elements;
 
     private final String collection;
 
-    private static final Function<Map.Entry<?, ?>, Element> ENTRY_DOCUMENT = entry ->
-            Element.of(entry.getKey().toString(), entry.getValue());
-
-
-    private ElasticsearchEntry(String id, Map<String, Object> map) {
+    private ElasticsearchEntry(String id, List<Element> elements) {
         this.id = id;
-        this.collection = map == null ? null : map.getOrDefault(EntityConverter.ENTITY, "_doc").toString();
-        this.map = map;
+        this.collection = elements == null ? null : elements.stream()
+                .filter(e -> EntityConverter.ENTITY.equals(e.name()))
+                .findFirst()
+                .map(e -> e.get().toString())
+                .orElse("_doc");
+        this.elements = elements;
     }
 
     boolean isEmpty() {
-        return isNull(id) || isNull(collection) || isNull(map);
+        return isNull(id) || isNull(collection) || isNull(elements);
     }
 
     boolean isNotEmpty() {
@@ -56,46 +50,17 @@ class ElasticsearchEntry {
     }
 
     CommunicationEntity toEntity() {
-        var id = Element.of(EntityConverter.ID_FIELD, this.id);
-        List<Element> documents = map.keySet().stream()
-                .map(k -> toDocument(k, map))
-                .toList();
         CommunicationEntity entity = CommunicationEntity.of(collection);
-        documents.forEach(d-> entity.add(d.name(),d.value()));
-        entity.remove(EntityConverter.ID_FIELD);
-        entity.remove(EntityConverter.ENTITY);
-        entity.add(id);
+        elements.stream()
+                .filter(e -> !EntityConverter.ID_FIELD.equals(e.name()))
+                .filter(e -> !EntityConverter.ENTITY.equals(e.name()))
+                .forEach(entity::add);
+        entity.add(Element.of(EntityConverter.ID_FIELD, this.id));
         return entity;
     }
 
-    private Element toDocument(String key, Map<String, Object> properties) {
-        Object value = properties.get(key);
-        if (Map.class.isInstance(value)) {
-            Map map = Map.class.cast(value);
-            return Element.of(key, map.keySet()
-                    .stream().map(k -> toDocument(k.toString(), map))
-                    .collect(Collectors.toList()));
-        }
-        if (isADocumentIterable(value)) {
-            List<List<Element>> documents = new ArrayList<>();
-            for (Object object : Iterable.class.cast(value)) {
-                Map<?, ?> map = Map.class.cast(object);
-                documents.add(map.entrySet().stream().map(ENTRY_DOCUMENT).collect(toList()));
-            }
-            return Element.of(key, documents);
-
-        }
-        return Element.of(key, value);
-    }
-
-    private boolean isADocumentIterable(Object value) {
-        return Iterable.class.isInstance(value) &&
-                stream(Iterable.class.cast(value).spliterator(), false)
-                        .allMatch(Map.class::isInstance);
-    }
-
-    static ElasticsearchEntry of(String id, Map<String, Object> data) {
-        return new ElasticsearchEntry(id, data);
+    static ElasticsearchEntry of(String id, List<Element> elements) {
+        return new ElasticsearchEntry(id, elements);
     }
 
 }
@@ -0,0 +1,96 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.elasticsearch.communication;
+
+
+import co.elastic.clients.json.JsonpDeserializerBase;
+import co.elastic.clients.json.JsonpMapper;
+import jakarta.json.stream.JsonParser;
+import org.eclipse.jnosql.communication.semistructured.Element;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Reads the {@code _source} of a hit straight from the response parser into {@link Element}s, without
+ * an intermediary {@link java.util.Map} or JSON tree.
+ * A nested object becomes a list of {@link Element} and an array of objects becomes a list of those lists.
+ * An integral number becomes an {@link Integer} or a {@link Long} when it fits, and any other number a {@link Double}.
+ */
+final class ElementsDeserializer extends JsonpDeserializerBase<List<Element>> {
+
+    static final ElementsDeserializer INSTANCE = new ElementsDeserializer();
+
+    private ElementsDeserializer() {
+        super(EnumSet.of(JsonParser.Event.START_OBJECT));
+    }
+
+    @Override
+    public List<Element> deserialize(JsonParser parser, JsonpMapper mapper, JsonParser.Event event) {
+        return elements(parser);
+    }
+
+    private static List<Element> elements(JsonParser parser) {
+        List<Element> elements = new ArrayList<>();
+        while (parser.next() != JsonParser.Event.END_OBJECT) {
+            String name = parser.getString();
+            Object value = value(parser, parser.next());
+            if (Objects.nonNull(value)) {
+                elements.add(Element.of(name, value));
+            }
+        }
+        return elements;
+    }
+
+    private static List<Object> array(JsonParser parser) {
+        List<Object> values = new ArrayList<>();
+        JsonParser.Event event;
+        while ((event = parser.next()) != JsonParser.Event.END_ARRAY) {
+            Object value = value(parser, event);
+            if (Objects.nonNull(value)) {
+                values.add(value);
+            }
+        }
+        return values;
+    }
+
+    private static Object value(JsonParser parser, JsonParser.Event event) {
+        return switch (event) {
+            case START_OBJECT -> elements(parser);
+            case START_ARRAY -> array(parser);
+            case VALUE_STRING -> parser.getString();
+            case VALUE_NUMBER -> number(parser);
+            case VALUE_TRUE -> Boolean.TRUE;
+            case VALUE_FALSE -> Boolean.FALSE;
+            case VALUE_NULL -> null;
+            default -> throw new IllegalStateException("Unexpected JSON event at the document source: " + event);
+        };
+    }
+
+    private static Number number(JsonParser parser) {
+        if (parser.isIntegralNumber()) {
+            long value = parser.getLong();
+            if (value == (int) value) {
+                return (int) value;
+            }
+            BigDecimal decimal = parser.getBigDecimal();
+            return decimal.compareTo(BigDecimal.valueOf(value)) == 0 ? value : decimal;
+        }
+        return parser.getBigDecimal().doubleValue();
+    }
+}
@@ -17,9 +17,13 @@ package org.eclipse.jnosql.databases.elasticsearch.communication;
 
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ErrorResponse;
+import co.elastic.clients.elasticsearch._types.SortOptions;
 import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
 import co.elastic.clients.elasticsearch.core.SearchRequest;
 import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.transport.Endpoint;
 import org.eclipse.jnosql.communication.ValueUtil;
 import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
 import org.eclipse.jnosql.communication.semistructured.Element;
@@ -27,7 +31,10 @@ import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 
 import java.io.IOException;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -41,6 +48,11 @@ final class EntityConverter {
 
     static final String ENTITY = "@entity";
 
+    static final int MAX_RESULT_WINDOW = 10_000;
+
+    private static final Endpoint<SearchRequest, SearchResponse<List<Element>>, ErrorResponse> SEARCH_ENDPOINT =
+            SearchRequest.createSearchEndpoint(ElementsDeserializer.INSTANCE);
+
     private EntityConverter() {
     }
 
@@ -58,11 +70,10 @@ final class EntityConverter {
         QueryConverterResult select = QueryConverter.select(client, index, query);
 
         try {
-            Stream<CommunicationEntity> statementQueryStream = Stream.empty();
             if (select.hasStatement()) {
-                statementQueryStream = executeStatement(query, client, index, select);
+                return executeStatement(query, client, index, select);
             }
-            return statementQueryStream.distinct();
+            return Stream.empty();
         } catch (IOException e) {
             throw new ElasticsearchException("An error to execute a query on elasticsearch", e);
         }
@@ -70,14 +81,40 @@ final class EntityConverter {
 
     private static Stream<CommunicationEntity> executeStatement(SelectQuery query, ElasticsearchClient client, String index,
                                                            QueryConverterResult select) throws IOException {
+        if (!isPaginated(query)) {
+            return executeStreaming(query, client, index, select);
+        }
         SearchRequest.Builder searchRequest = buildSearchRequestBuilder(query, select);
         searchRequest.index(index);
 
-        SearchResponse<Map> searchResponse = client.search(searchRequest.build(), Map.class);
+        SearchResponse<List<Element>> searchResponse = search(client, searchRequest.build());
 
         return getDocumentEntityStream(client, searchResponse);
     }
 
+    /**
+     * Executes the search reading each hit source through {@link ElementsDeserializer}.
+     */
+    static SearchResponse<List<Element>> search(ElasticsearchClient client, SearchRequest request) throws IOException {
+        return client._transport().performRequest(request, SEARCH_ENDPOINT, client._transportOptions());
+    }
+
+    private static boolean isPaginated(SelectQuery query) {
+        return query.limit() > 0 && query.skip() + query.limit() <= MAX_RESULT_WINDOW;
+    }
+
+    private static Stream<CommunicationEntity> executeStreaming(SelectQuery query, ElasticsearchClient client, String index,
+                                                                QueryConverterResult select) {
+        Query statement = select.hasQuery() ? select.statement().build() : null;
+        var iterator = new PointInTimeIterator(client, index, statement, sorts(query), query.skip(), query.limit());
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+                        Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(iterator::close)
+                .map(hit -> ElasticsearchEntry.of(hit.id(), hit.source()))
+                .filter(ElasticsearchEntry::isNotEmpty)
+                .map(ElasticsearchEntry::toEntity);
+    }
+
 
     private static Consumer<Element> feedJSON(Map<String, Object> jsonObject) {
         return d -> {
@@ -114,7 +151,8 @@ final class EntityConverter {
                 allMatch(d -> d instanceof Iterable && isSudDocument(d));
     }
 
-    static Stream<CommunicationEntity> getDocumentEntityStream(ElasticsearchClient client, SearchResponse<Map> responses) {
+    static Stream<CommunicationEntity> getDocumentEntityStream(ElasticsearchClient client,
+                                                               SearchResponse<List<Element>> responses) {
         return responses.hits().hits().stream()
                 .map(hits -> ElasticsearchEntry.of(hits.id(), hits.source()))
                 .filter(ElasticsearchEntry::isNotEmpty)
@@ -133,13 +171,10 @@ final class EntityConverter {
     }
 
     private static void feedBuilder(SelectQuery query, SearchRequest.Builder searchSource) {
-        query.sorts().forEach(d -> {
-            if (d.isAscending()) {
-                searchSource.sort(s -> s.field(f -> f.field(d.property()).order(SortOrder.Asc)));
-            } else {
-                searchSource.sort(s -> s.field(f -> f.field(d.property()).order(SortOrder.Desc)));
-            }
-        });
+        List<SortOptions> sorts = sorts(query);
+        if (!sorts.isEmpty()) {
+            searchSource.sort(sorts);
+        }
 
         int from = (int) query.skip();
         int size = (int) query.limit();
@@ -151,5 +186,12 @@ final class EntityConverter {
         }
     }
 
+    private static List<SortOptions> sorts(SelectQuery query) {
+        return query.sorts().stream()
+                .map(d -> SortOptions.of(s -> s.field(f -> f.field(d.property())
+                        .order(d.isAscending() ? SortOrder.Asc : SortOrder.Desc))))
+                .toList();
+    }
+
 
 }
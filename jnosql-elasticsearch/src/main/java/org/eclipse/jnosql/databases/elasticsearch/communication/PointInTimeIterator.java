@@ -0,0 +1,171 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.elasticsearch.communication;
+
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.SortOptions;
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.elasticsearch.core.SearchRequest;
+import co.elastic.clients.elasticsearch.core.SearchResponse;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import org.eclipse.jnosql.communication.semistructured.Element;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Lazily walks every hit of a query using a point-in-time and {@code search_after}, so the result is not
+ * capped by {@code index.max_result_window} nor by the default search size.
+ * The skipped hits are skipped by the server: with {@code from} on the first page when it fits the result window,
+ * otherwise by walking the pages without their sources. The limit bounds the size of the pages.
+ * The point-in-time is opened on the first page and released once the hits are exhausted, once the limit is
+ * reached, or on {@link #close()}; a partial read of a larger result keeps it open until its keep-alive expires.
+ */
+final class PointInTimeIterator implements Iterator<Hit<List<Element>>>, AutoCloseable {
+
+    static final int PAGE_SIZE = 1_000;
+
+    private static final String KEEP_ALIVE = "1m";
+
+    private static final String TIEBREAKER = "_shard_doc";
+
+    private final ElasticsearchClient client;
+
+    private final String index;
+
+    private final Query query;
+
+    private final List<SortOptions> sorts;
+
+    private long skip;
+
+    private long remaining;
+
+    private String pointInTime;
+
+    private List<FieldValue> searchAfter;
+
+    private Iterator<Hit<List<Element>>> page = Collections.emptyIterator();
+
+    private boolean exhausted;
+
+    PointInTimeIterator(ElasticsearchClient client, String index, Query query, List<SortOptions> sorts,
+                        long skip, long limit) {
+        this.client = client;
+        this.index = index;
+        this.query = query;
+        this.skip = skip;
+        this.remaining = limit > 0 ? limit : Long.MAX_VALUE;
+        this.sorts = new ArrayList<>(sorts);
+        this.sorts.add(SortOptions.of(s -> s.field(f -> f.field(TIEBREAKER).order(SortOrder.Asc))));
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!page.hasNext() && !exhausted) {
+            fetch();
+        }
+        return page.hasNext();
+    }
+
+    @Override
+    public Hit<List<Element>> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("There is no more hits on the index: " + index);
+        }
+        Hit<List<Element>> hit = page.next();
+        if (--remaining == 0) {
+            page = Collections.emptyIterator();
+            close();
+        }
+        return hit;
+    }
+
+    @Override
+    public void close() {
+        exhausted = true;
+        if (Objects.isNull(pointInTime)) {
+            return;
+        }
+        try {
+            String id = pointInTime;
+            pointInTime = null;
+            client.closePointInTime(c -> c.id(id));
+        } catch (IOException e) {
+            throw new ElasticsearchException("An error to close the point in time on elasticsearch", e);
+        }
+    }
+
+    private void fetch() {
+        try {
+            if (Objects.isNull(pointInTime)) {
+                pointInTime = client.openPointInTime(o -> o.index(index)
+                        .keepAlive(k -> k.time(KEEP_ALIVE))).id();
+            }
+            boolean first = Objects.isNull(searchAfter);
+            boolean skipping = skip > 0 && (!first || skip + PAGE_SIZE > EntityConverter.MAX_RESULT_WINDOW);
+            int size = (int) Math.min(PAGE_SIZE, skipping ? skip : remaining);
+            SearchRequest.Builder builder = request(size);
+            if (skipping) {
+                builder.source(s -> s.fetch(false));
+            } else if (first && skip > 0) {
+                builder.from((int) skip);
+                skip = 0;
+            }
+            SearchResponse<List<Element>> response = EntityConverter.search(client, builder.build());
+            if (Objects.nonNull(response.pitId())) {
+                pointInTime = response.pitId();
+            }
+            List<Hit<List<Element>>> hits = response.hits().hits();
+            if (hits.size() < size) {
+                close();
+            }
+            if (!hits.isEmpty()) {
+                searchAfter = hits.get(hits.size() - 1).sort();
+            }
+            if (skipping) {
+                skip -= hits.size();
+                page = Collections.emptyIterator();
+            } else {
+                page = hits.iterator();
+            }
+        } catch (IOException e) {
+            close();
+            throw new ElasticsearchException("An error to execute a query on elasticsearch", e);
+        }
+    }
+
+    private SearchRequest.Builder request(int size) {
+        SearchRequest.Builder builder = new SearchRequest.Builder()
+                .pit(p -> p.id(pointInTime).keepAlive(k -> k.time(KEEP_ALIVE)))
+                .size(size)
+                .sort(sorts);
+        if (Objects.nonNull(query)) {
+            builder.query(query);
+        }
+        if (Objects.nonNull(searchAfter)) {
+            builder.searchAfter(searchAfter);
+        }
+        return builder;
+    }
+}
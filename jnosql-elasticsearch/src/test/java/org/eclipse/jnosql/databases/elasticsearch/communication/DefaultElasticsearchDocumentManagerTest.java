@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ * Contributors:
+ *
+ * Otavio Santana
+ *
+package org.eclipse.jnosql.databases.elasticsearch.communication;
+
+import co.elastic.clients.elasticsearch._types.BulkIndexByScrollFailure;
+import co.elastic.clients.elasticsearch._types.ErrorCause;
+import co.elastic.clients.elasticsearch.core.DeleteByQueryResponse;
+import org.eclipse.jnosql.communication.CommunicationException;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+class DefaultElasticsearchDocumentManagerTest {
+
+    @Test
+    void shouldAcceptWhenEveryDocumentIsDeleted() {
+        DeleteByQueryResponse response = DeleteByQueryResponse.of(d -> d.deleted(2L).versionConflicts(0L));
+        assertThatCode(() -> DefaultElasticsearchDocumentManager.checkDeleted(response)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void shouldReturnErrorWhenThereAreVersionConflicts() {
+        DeleteByQueryResponse response = DeleteByQueryResponse.of(d -> d.deleted(1L).versionConflicts(1L));
+        assertThatThrownBy(() -> DefaultElasticsearchDocumentManager.checkDeleted(response))
+                .isInstanceOf(CommunicationException.class)
+                .hasMessageContaining("version conflicts: 1");
+    }
+
+    @Test
+    void shouldReturnErrorWhenThereAreFailures() {
+        BulkIndexByScrollFailure failure = Mockito.mock(BulkIndexByScrollFailure.class);
+        when(failure.index()).thenReturn("person");
+        when(failure.id()).thenReturn("ada");
+        when(failure.cause()).thenReturn(ErrorCause.of(e -> e.type("shard_failure").reason("the shard is closed")));
+        DeleteByQueryResponse response = DeleteByQueryResponse.of(d -> d.deleted(1L).failures(failure));
+
+        assertThatThrownBy(() -> DefaultElasticsearchDocumentManager.checkDeleted(response))
+                .isInstanceOf(CommunicationException.class)
+                .hasMessageContaining("person/ada: the shard is closed");
+    }
+}
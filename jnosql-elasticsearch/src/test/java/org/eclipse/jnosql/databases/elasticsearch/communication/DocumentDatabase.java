@@ -91,6 +91,17 @@ public enum DocumentDatabase implements Supplier<ElasticsearchDocumentManagerFac
         }
     }
 
+    public static long openContexts() {
+        try (var elasticsearch = INSTANCE.newElasticsearchClient()) {
+            return elasticsearch.client().nodes().stats(s -> s.metric("indices").indexMetric("search"))
+                    .nodes().values().stream()
+                    .mapToLong(node -> Optional.ofNullable(node.indices().search().openContexts()).orElse(0L))
+                    .sum();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     public static void insertData(String index, Map<String, Object> map) {
         try (var elasticsearch = INSTANCE.newElasticsearchClient()) {
             var _id = Optional.ofNullable(map.remove("_id"));
@@ -411,6 +411,65 @@ public class ElasticsearchDocumentManagerTest {
                 equalTo(2L));
     }
 
+    @Test
+    public void shouldReturnAllWithoutLimit() {
+        List<CommunicationEntity> entities = new ArrayList<>();
+        for (int index = 0; index < 25; index++) {
+            var entity = DocumentEntityGerator.getEntity();
+            entity.add(Element.of("_id", "id-" + index));
+            entities.add(entity);
+        }
+        entityManager.insert(entities);
+
+        var query = select()
+                .from(DocumentEntityGerator.COLLECTION_NAME)
+                .build();
+
+        // it's required in order to avoid an eventual inconsistency
+        await().until(numberOfEntitiesFrom(query), equalTo(25L));
+
+        var skipped = select()
+                .from(DocumentEntityGerator.COLLECTION_NAME)
+                .skip(20)
+                .build();
+        assertThat(entityManager.select(skipped).count()).isEqualTo(5L);
+
+        entityManager.delete(delete().from(DocumentEntityGerator.COLLECTION_NAME).build());
+
+        // it's required in order to avoid an eventual inconsistency
+        await().until(numberOfEntitiesFrom(query), equalTo(0L));
+    }
+
+    @Test
+    public void shouldReleasePointInTimeWhenStreamIsClosed() {
+        List<CommunicationEntity> entities = new ArrayList<>();
+        for (int index = 0; index <= PointInTimeIterator.PAGE_SIZE; index++) {
+            var entity = DocumentEntityGerator.getEntity();
+            entity.add(Element.of("_id", "id-" + index));
+            entities.add(entity);
+        }
+        entityManager.insert(entities);
+
+        var query = select()
+                .from(DocumentEntityGerator.COLLECTION_NAME)
+                .build();
+
+        // it's required in order to avoid an eventual inconsistency
+        await().until(numberOfEntitiesFrom(query), equalTo((long) entities.size()));
+
+        long openContexts = DocumentDatabase.openContexts();
+        try (var stream = entityManager.select(query)) {
+            assertThat(stream.findFirst()).isPresent();
+            assertThat(DocumentDatabase.openContexts()).isGreaterThan(openContexts);
+        }
+        assertThat(DocumentDatabase.openContexts()).isEqualTo(openContexts);
+
+        entityManager.delete(delete().from(DocumentEntityGerator.COLLECTION_NAME).build());
+
+        // it's required in order to avoid an eventual inconsistency
+        await().until(numberOfEntitiesFrom(query), equalTo(0L));
+    }
+
     private CommunicationEntity createSubdocumentList() {
         CommunicationEntity entity = CommunicationEntity.of(DocumentEntityGerator.COLLECTION_NAME);
         entity.add(Element.of("_id", "ids"));
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ * Contributors:
+ *
+ * Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.databases.elasticsearch.communication;
+
+import co.elastic.clients.json.JsonpMapper;
+import co.elastic.clients.json.jsonb.JsonbJsonpMapper;
+import org.eclipse.jnosql.communication.semistructured.Element;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class ElementsDeserializerTest {
+
+    private final JsonpMapper mapper = new JsonbJsonpMapper();
+
+    @Test
+    void shouldReadIntegralNumbers() {
+        var elements = deserialize("{\"int\": 10, \"long\": 10000000000, \"big\": 100000000000000000000}");
+
+        assertSoftly(softly -> {
+            softly.assertThat(elements.get("int")).isEqualTo(10);
+            softly.assertThat(elements.get("long")).isEqualTo(10_000_000_000L);
+            softly.assertThat(elements.get("big")).isEqualTo(new BigDecimal("100000000000000000000"));
+        });
+    }
+
+    @Test
+    void shouldReadDecimalNumbers() {
+        var elements = deserialize("{\"double\": 10.5, \"exponent\": 1e3}");
+
+        assertSoftly(softly -> {
+            softly.assertThat(elements.get("double")).isEqualTo(10.5D);
+            softly.assertThat(elements.get("exponent")).isEqualTo(1000D);
+        });
+    }
+
+    @Test
+    void shouldReadNestedValues() {
+        var elements = deserialize("{\"name\": \"Ada\", \"active\": true, \"missing\": null,"
+                + " \"address\": {\"number\": 42, \"ratio\": 0.25},"
+                + " \"phones\": [1, 2.5, \"three\"],"
+                + " \"contacts\": [{\"age\": 30}]}");
+
+        assertSoftly(softly -> {
+            softly.assertThat(elements.get("name")).isEqualTo("Ada");
+            softly.assertThat(elements.get("active")).isEqualTo(true);
+            softly.assertThat(elements).doesNotContainKey("missing");
+            softly.assertThat(elements.get("address")).asList()
+                    .containsExactly(Element.of("number", 42), Element.of("ratio", 0.25D));
+            softly.assertThat(elements.get("phones")).asList().containsExactly(1, 2.5D, "three");
+            softly.assertThat(elements.get("contacts")).asList()
+                    .containsExactly(List.of(Element.of("age", 30)));
+        });
+    }
+
+    private Map<String, Object> deserialize(String json) {
+        try (var parser = mapper.jsonProvider().createParser(new StringReader(json))) {
+            List<Element> elements = ElementsDeserializer.INSTANCE.deserialize(parser, mapper);
+            return elements.stream().collect(Collectors.toMap(Element::name, Element::get));
+        }
+    }
+}
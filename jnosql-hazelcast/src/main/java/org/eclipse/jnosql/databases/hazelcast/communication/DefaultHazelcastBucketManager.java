@@ -14,36 +14,69 @@
  */
 package org.eclipse.jnosql.databases.hazelcast.communication;
 
+import com.hazelcast.aggregation.Aggregator;
+import com.hazelcast.config.IndexType;
+import com.hazelcast.map.EntryProcessor;
 import com.hazelcast.map.IMap;
+import com.hazelcast.projection.Projection;
 import com.hazelcast.query.Predicate;
-import com.hazelcast.query.impl.predicates.SqlPredicate;
+import com.hazelcast.sql.SqlColumnMetadata;
+import com.hazelcast.sql.SqlResult;
+import com.hazelcast.sql.SqlRow;
+import com.hazelcast.sql.SqlService;
+import org.eclipse.jnosql.communication.CommunicationException;
 import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
-import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
 
 /**
- * The default implementation of hazelcast bucket manager
+ * The default implementation of hazelcast bucket manager.
+ * The iterable delete and put with TTL issue the asynchronous operations keeping at most the in-flight limit
+ * of them running at once, see {@link HazelcastConfigurations#MAX_IN_FLIGHT}.
  */
 class DefaultHazelcastBucketManager implements HazelcastBucketManager {
 
     private final IMap map;
 
     private final String bucket;
-    DefaultHazelcastBucketManager(IMap map, String bucket) {
+
+    private final PredicateCache predicates;
+
+    private final SqlService sqlService;
+
+    private final int maxInFlight;
+
+    DefaultHazelcastBucketManager(IMap map, String bucket, PredicateCache predicates, SqlService sqlService,
+                                  int maxInFlight) {
         this.map = map;
         this.bucket = bucket;
+        this.predicates = predicates;
+        this.sqlService = sqlService;
+        this.maxInFlight = maxInFlight;
     }
 
     @Override
@@ -68,12 +101,19 @@ class DefaultHazelcastBucketManager implements HazelcastBucketManager {
 
     @Override
     public void put(Iterable<KeyValueEntity> entities) throws NullPointerException {
-        StreamSupport.stream(entities.spliterator(), false).forEach(this::put);
+        requireNonNull(entities, "entities is required");
+        Map<Object, Object> values = new LinkedHashMap<>();
+        entities.forEach(entity -> values.put(entity.key(), entity.value()));
+        if (!values.isEmpty()) {
+            map.setAll(values);
+        }
     }
 
     @Override
     public void put(Iterable<KeyValueEntity> entities, Duration ttl) throws NullPointerException, UnsupportedOperationException {
-        StreamSupport.stream(entities.spliterator(), false).forEach(kv -> this.put(kv, ttl));
+        requireNonNull(entities, "entities is required");
+        requireNonNull(ttl, "ttl is required");
+        executeAll(entities, entity -> putAsync(entity, ttl));
     }
 
     @Override
@@ -87,18 +127,54 @@ class DefaultHazelcastBucketManager implements HazelcastBucketManager {
 
     @Override
     public <K> Iterable<Value> get(Iterable<K> keys) throws NullPointerException {
-        return StreamSupport.stream(keys.spliterator(), false).map((Function<K, Object>) map::get).filter(Objects::nonNull)
+        requireNonNull(keys, "keys is required");
+        Set<K> values = new LinkedHashSet<>();
+        keys.forEach(values::add);
+        if (values.isEmpty()) {
+            return List.of();
+        }
+        Map<K, Object> entries = map.getAll(values);
+        return values.stream().map(entries::get).filter(Objects::nonNull)
                 .map(Value::of).collect(toList());
     }
 
     @Override
     public <K> void delete(K key) {
-        map.remove(key);
+        map.delete(key);
     }
 
     @Override
     public <K> void delete(Iterable<K> keys) {
-        StreamSupport.stream(keys.spliterator(), false).forEach(this::delete);
+        requireNonNull(keys, "keys is required");
+        executeAll(keys, this::deleteAsync);
+    }
+
+    @Override
+    public CompletionStage<Void> putAsync(KeyValueEntity entity) {
+        requireNonNull(entity, "entity is required");
+        return map.setAsync(entity.key(), entity.value());
+    }
+
+    @Override
+    public CompletionStage<Void> putAsync(KeyValueEntity entity, Duration ttl) {
+        requireNonNull(entity, "entity is required");
+        requireNonNull(ttl, "ttl is required");
+        return map.setAsync(entity.key(), entity.value(), ttl.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public <K> CompletionStage<Optional<Value>> getAsync(K key) {
+        requireNonNull(key, "key is required");
+        CompletionStage<Object> value = map.getAsync(key);
+        return value.thenApply(v -> Optional.ofNullable(v).map(Value::of));
+    }
+
+    @Override
+    public <K> CompletionStage<Void> deleteAsync(K key) {
+        requireNonNull(key, "key is required");
+        CompletionStage<Boolean> deleted = map.deleteAsync(key);
+        return deleted.thenAccept(v -> {
+        });
     }
 
     @Override
@@ -108,21 +184,29 @@ class DefaultHazelcastBucketManager implements HazelcastBucketManager {
     @Override
     public Collection<Value> sql(String query) throws NullPointerException {
         requireNonNull(query, "sql is required");
-        return sql(new SqlPredicate(query));
+        return sql(predicates.get(query).bind(Map.of()));
     }
 
     @Override
     public Collection<Value> sql(String query, Map<String, Object> params) throws NullPointerException {
         requireNonNull(query, "sql is required");
         requireNonNull(params, "params is required");
-        final StringBuilder finalQuery = new StringBuilder(query);
-        final Consumer<Map.Entry<String, Object>> consumer = e -> {
-            String key = ":" + e.getKey();
-            int indexOf = query.indexOf(key);
-            finalQuery.replace(indexOf, indexOf + key.length(), e.getValue().toString());
-        };
-        params.entrySet().forEach(consumer);
-        return sql(new SqlPredicate(finalQuery.toString()));
+        return sql(predicates.get(query).bind(params));
+    }
+
+    @Override
+    public Stream<Value> execute(String sql, Object... params) {
+        requireNonNull(sql, "sql is required");
+        requireNonNull(params, "params is required");
+        SqlResult result = sqlService.execute(sql, params);
+        if (!result.isRowSet()) {
+            result.close();
+            return Stream.empty();
+        }
+        Iterator<SqlRow> rows = result.iterator();
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(rows, Spliterator.ORDERED), false)
+                .map(DefaultHazelcastBucketManager::toValue)
+                .onClose(result::close);
     }
 
     @Override
@@ -131,4 +215,91 @@ class DefaultHazelcastBucketManager implements HazelcastBucketManager {
         Collection<V> values = map.values(predicate);
         return values.stream().map(Value::of).collect(toList());
     }
+
+    @Override
+    public void addIndex(IndexType type, String... attributes) {
+        requireNonNull(type, "type is required");
+        requireNonNull(attributes, "attributes is required");
+        map.addIndex(type, attributes);
+    }
+
+    @Override
+    public <K, V, R> R executeOnKey(K key, EntryProcessor<K, V, R> processor) {
+        requireNonNull(key, "key is required");
+        requireNonNull(processor, "processor is required");
+        return (R) map.executeOnKey(key, processor);
+    }
+
+    @Override
+    public <K, V, R> Map<K, R> executeOnEntries(EntryProcessor<K, V, R> processor) {
+        requireNonNull(processor, "processor is required");
+        return map.executeOnEntries(processor);
+    }
+
+    @Override
+    public <K, V, R> Map<K, R> executeOnEntries(EntryProcessor<K, V, R> processor, Predicate<K, V> predicate) {
+        requireNonNull(processor, "processor is required");
+        requireNonNull(predicate, "predicate is required");
+        return map.executeOnEntries(processor, predicate);
+    }
+
+    @Override
+    public <K, V, R> R aggregate(Aggregator<? super Map.Entry<K, V>, R> aggregator) {
+        requireNonNull(aggregator, "aggregator is required");
+        return (R) map.aggregate(aggregator);
+    }
+
+    @Override
+    public <K, V, R> R aggregate(Aggregator<? super Map.Entry<K, V>, R> aggregator, Predicate<K, V> predicate) {
+        requireNonNull(aggregator, "aggregator is required");
+        requireNonNull(predicate, "predicate is required");
+        return (R) map.aggregate(aggregator, predicate);
+    }
+
+    @Override
+    public <K, V, R> Collection<R> project(Projection<? super Map.Entry<K, V>, R> projection) {
+        requireNonNull(projection, "projection is required");
+        return map.project(projection);
+    }
+
+    @Override
+    public <K, V, R> Collection<R> project(Projection<? super Map.Entry<K, V>, R> projection,
+                                           Predicate<K, V> predicate) {
+        requireNonNull(projection, "projection is required");
+        requireNonNull(predicate, "predicate is required");
+        return map.project(projection, predicate);
+    }
+
+    private static Value toValue(SqlRow row) {
+        List<SqlColumnMetadata> columns = row.getMetadata().getColumns();
+        if (columns.size() == 1) {
+            return Value.of(row.getObject(0));
+        }
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (int index = 0; index < columns.size(); index++) {
+            values.put(columns.get(index).getName(), row.getObject(index));
+        }
+        return Value.of(values);
+    }
+
+    private <T> void executeAll(Iterable<T> elements, Function<T, CompletionStage<Void>> operation) {
+        Semaphore slots = new Semaphore(maxInFlight);
+        List<CompletableFuture<Void>> operations = new ArrayList<>();
+        try {
+            for (T element : elements) {
+                slots.acquire();
+                operations.add(operation.apply(element).toCompletableFuture()
+                        .whenComplete((result, error) -> slots.release()));
+            }
+            CompletableFuture.allOf(operations.toArray(CompletableFuture[]::new)).join();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new CommunicationException("The operations were interrupted at the bucket: " + bucket, exception);
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw exception;
+        }
+    }
 }
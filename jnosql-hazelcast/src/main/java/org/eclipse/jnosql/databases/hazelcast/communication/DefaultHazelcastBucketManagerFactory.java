@@ -14,27 +14,52 @@
  */
 package org.eclipse.jnosql.databases.hazelcast.communication;
 
+import com.hazelcast.config.IndexConfig;
 import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
 
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.Objects.requireNonNull;
 
 class DefaultHazelcastBucketManagerFactory implements HazelcastBucketManagerFactory {
 
+    static final int DEFAULT_MAX_IN_FLIGHT = 64;
+
     private final HazelcastInstance hazelcastInstance;
 
+    private final PredicateCache predicates = new PredicateCache();
+
+    private final Map<String, List<IndexConfig>> indexes;
+
+    private final Set<String> indexed = ConcurrentHashMap.newKeySet();
+
+    private final int maxInFlight;
+
     DefaultHazelcastBucketManagerFactory(HazelcastInstance hazelcastInstance) {
+        this(hazelcastInstance, Map.of(), DEFAULT_MAX_IN_FLIGHT);
+    }
+
+    DefaultHazelcastBucketManagerFactory(HazelcastInstance hazelcastInstance, Map<String, List<IndexConfig>> indexes,
+                                         int maxInFlight) {
         this.hazelcastInstance = hazelcastInstance;
+        this.indexes = indexes;
+        this.maxInFlight = maxInFlight;
     }
 
     @Override
     public HazelcastBucketManager apply(String bucketName) {
         requireNonNull(bucketName, "bucketName is required");
-        return new DefaultHazelcastBucketManager(hazelcastInstance.getMap(bucketName), bucketName);
+        IMap<Object, Object> map = hazelcastInstance.getMap(bucketName);
+        if (indexes.containsKey(bucketName) && indexed.add(bucketName)) {
+            indexes.get(bucketName).forEach(map::addIndex);
+        }
+        return new DefaultHazelcastBucketManager(map, bucketName, predicates, hazelcastInstance.getSql(),
+                maxInFlight);
     }
 
     @Override
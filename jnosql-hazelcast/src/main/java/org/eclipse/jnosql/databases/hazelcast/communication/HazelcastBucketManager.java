@@ -15,21 +15,32 @@
 
 package org.eclipse.jnosql.databases.hazelcast.communication;
 
+import com.hazelcast.aggregation.Aggregator;
+import com.hazelcast.config.IndexType;
+import com.hazelcast.map.EntryProcessor;
+import com.hazelcast.projection.Projection;
 import com.hazelcast.query.Predicate;
 import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.communication.keyvalue.BucketManager;
+import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Stream;
 
 /**
- * The hazelcast implementation of {@link BucketManager}
+ * The hazelcast implementation of {@link BucketManager}.
+ * The iterable operations are sent in bulk: the puts with {@code IMap.setAll}, the gets with {@code IMap.getAll},
+ * and the puts with TTL and the deletes concurrently.
  */
 public interface HazelcastBucketManager extends BucketManager {
 
 
     /**
-     * Executes hazelcast sql
+     * Executes hazelcast sql. The query is parsed once and kept by its text.
      *
      * @param query the sql
      * @return the result sql
@@ -40,6 +51,8 @@ public interface HazelcastBucketManager extends BucketManager {
     /**
      * Executes hazelcast sql with named sql.
      * E.g.:  bucketManager.sql("name = :name", singletonMap("name", "Matrix"))
+     * The query is parsed once and kept by its text; the params are bound with their type instead of written
+     * into the query.
      *
      * @param query  the sql
      * @param params the params to bind
@@ -59,4 +72,159 @@ public interface HazelcastBucketManager extends BucketManager {
      */
     <K, V> Collection<Value> sql(Predicate<K, V> predicate);
 
+    /**
+     * Executes a statement at the Hazelcast SQL engine, E.g.:
+     * {@code bucketManager.execute("SELECT this FROM movies WHERE year > ?", 2000)}.
+     * The rows are fetched lazily, so the stream must be closed when it is not consumed to its end.
+     * A row with a single column becomes its value, otherwise a {@link Map} of the columns by name.
+     * The map requires a SQL mapping, and the SQL engine requires Jet enabled at the members,
+     * see {@link HazelcastConfigurations#SQL_ENABLED}.
+     *
+     * @param sql    the SQL statement
+     * @param params the positional params
+     * @return the rows, empty when the statement does not return rows
+     * @throws NullPointerException when either sql or params is null
+     */
+    Stream<Value> execute(String sql, Object... params);
+
+    /**
+     * Creates an index on the attributes of the values, so the queries on them do not scan every entry.
+     * It does nothing when the same index already exists.
+     *
+     * @param type       the index type
+     * @param attributes the attributes
+     * @throws NullPointerException when either type or attributes is null
+     * @see HazelcastConfigurations#INDEX
+     */
+    void addIndex(IndexType type, String... attributes);
+
+    /**
+     * Runs the processor on the entry of the key at the member that owns it, so a read-modify-write does not
+     * move the value to the caller
+     *
+     * @param key       the key
+     * @param processor the entry processor
+     * @param <K>       the key type
+     * @param <V>       the value type
+     * @param <R>       the result type
+     * @return the result of the processor
+     * @throws NullPointerException when either key or processor is null
+     */
+    <K, V, R> R executeOnKey(K key, EntryProcessor<K, V, R> processor);
+
+    /**
+     * Runs the processor on every entry at the members that own them
+     *
+     * @param processor the entry processor
+     * @param <K>       the key type
+     * @param <V>       the value type
+     * @param <R>       the result type
+     * @return the results of the processor by key
+     * @throws NullPointerException when processor is null
+     */
+    <K, V, R> Map<K, R> executeOnEntries(EntryProcessor<K, V, R> processor);
+
+    /**
+     * Runs the processor on the entries that match the predicate at the members that own them
+     *
+     * @param processor the entry processor
+     * @param predicate the predicate
+     * @param <K>       the key type
+     * @param <V>       the value type
+     * @param <R>       the result type
+     * @return the results of the processor by key
+     * @throws NullPointerException when either processor or predicate is null
+     */
+    <K, V, R> Map<K, R> executeOnEntries(EntryProcessor<K, V, R> processor, Predicate<K, V> predicate);
+
+    /**
+     * Aggregates every entry at the members, E.g.: {@code aggregate(Aggregators.count())}
+     *
+     * @param aggregator the aggregator
+     * @param <K>        the key type
+     * @param <V>        the value type
+     * @param <R>        the result type
+     * @return the aggregation result
+     * @throws NullPointerException when aggregator is null
+     */
+    <K, V, R> R aggregate(Aggregator<? super Map.Entry<K, V>, R> aggregator);
+
+    /**
+     * Aggregates the entries that match the predicate at the members
+     *
+     * @param aggregator the aggregator
+     * @param predicate  the predicate
+     * @param <K>        the key type
+     * @param <V>        the value type
+     * @param <R>        the result type
+     * @return the aggregation result
+     * @throws NullPointerException when either aggregator or predicate is null
+     */
+    <K, V, R> R aggregate(Aggregator<? super Map.Entry<K, V>, R> aggregator, Predicate<K, V> predicate);
+
+    /**
+     * Projects every entry at the members, so only the projected attributes reach the caller,
+     * E.g.: {@code project(Projections.singleAttribute("name"))}
+     *
+     * @param projection the projection
+     * @param <K>        the key type
+     * @param <V>        the value type
+     * @param <R>        the result type
+     * @return the projected values
+     * @throws NullPointerException when projection is null
+     */
+    <K, V, R> Collection<R> project(Projection<? super Map.Entry<K, V>, R> projection);
+
+    /**
+     * Projects the entries that match the predicate at the members
+     *
+     * @param projection the projection
+     * @param predicate  the predicate
+     * @param <K>        the key type
+     * @param <V>        the value type
+     * @param <R>        the result type
+     * @return the projected values
+     * @throws NullPointerException when either projection or predicate is null
+     */
+    <K, V, R> Collection<R> project(Projection<? super Map.Entry<K, V>, R> projection, Predicate<K, V> predicate);
+
+    /**
+     * Puts the entity without blocking the caller thread, it does not return the previous value
+     *
+     * @param entity the entity
+     * @return a {@link CompletionStage} completed once the entity is stored
+     * @throws NullPointerException when entity is null
+     */
+    CompletionStage<Void> putAsync(KeyValueEntity entity);
+
+    /**
+     * Puts the entity with a time to live without blocking the caller thread, it does not return the previous value
+     *
+     * @param entity the entity
+     * @param ttl    the time to live
+     * @return a {@link CompletionStage} completed once the entity is stored
+     * @throws NullPointerException when either entity or ttl is null
+     */
+    CompletionStage<Void> putAsync(KeyValueEntity entity, Duration ttl);
+
+    /**
+     * Finds the value of the key without blocking the caller thread
+     *
+     * @param key the key
+     * @param <K> the key type
+     * @return a {@link CompletionStage} completed with the value or {@link Optional#empty()} when there is no value
+     * @throws NullPointerException when key is null
+     */
+    <K> CompletionStage<Optional<Value>> getAsync(K key);
+
+    /**
+     * Removes the key without blocking the caller thread
+     *
+     * @param key the key
+     * @param <K> the key type
+     * @return a {@link CompletionStage} completed once the key is removed
+     * @throws NullPointerException when key is null
+     */
+    <K> CompletionStage<Void> deleteAsync(K key);
+
 }
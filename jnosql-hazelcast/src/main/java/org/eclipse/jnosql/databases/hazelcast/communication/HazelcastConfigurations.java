@@ -55,7 +55,54 @@ public enum HazelcastConfigurations implements Supplier<String> {
     /**
      * Enables or disables the Tcp/Ip join mechanism.
      */
-    TCP_IP_JOIN("jnosql.hazelcast.tcp.ip.join");
+    TCP_IP_JOIN("jnosql.hazelcast.tcp.ip.join"),
+    /**
+     * How this configuration connects to the cluster: "member", the default, starts an embedded member that joins
+     * the cluster and owns data; "client" creates a client that connects to the {@link #HOST} members without
+     * joining the cluster.
+     */
+    MODE("jnosql.hazelcast.mode"),
+    /**
+     * The name of the cluster to join or connect to. The default value is "dev".
+     */
+    CLUSTER_NAME("jnosql.hazelcast.cluster.name"),
+    /**
+     * The maps that have a near cache at the client mode. It is a prefix to enumerate the maps, which accept
+     * wildcards. E.g.: jnosql.hazelcast.near.cache.map.1=heroes
+     */
+    NEAR_CACHE_MAP("jnosql.hazelcast.near.cache.map"),
+    /**
+     * The eviction policy of the near caches: LRU, the default, LFU, RANDOM or NONE.
+     */
+    NEAR_CACHE_EVICTION("jnosql.hazelcast.near.cache.eviction"),
+    /**
+     * The maximum number of entries per near cache. The default value is "10000".
+     */
+    NEAR_CACHE_MAX_SIZE("jnosql.hazelcast.near.cache.max.size"),
+    /**
+     * Whether a near cache entry is invalidated when the entry changes in the cluster. The default value is "true".
+     */
+    NEAR_CACHE_INVALIDATE("jnosql.hazelcast.near.cache.invalidate"),
+    /**
+     * The format that the near caches hold the values: BINARY, the default, or OBJECT, which skips
+     * the deserialization on every read.
+     */
+    NEAR_CACHE_IN_MEMORY_FORMAT("jnosql.hazelcast.near.cache.in.memory.format"),
+    /**
+     * Enables the Jet engine at the embedded member, which the SQL statements require. The default value is "false".
+     */
+    SQL_ENABLED("jnosql.hazelcast.sql.enabled"),
+    /**
+     * The indexes created on the maps, as map:attributes:type, where the attributes are comma separated and
+     * the type is SORTED, the default, HASH or BITMAP. It is a prefix to enumerate the indexes.
+     * E.g.: jnosql.hazelcast.index.1=movies:year:SORTED
+     */
+    INDEX("jnosql.hazelcast.index"),
+    /**
+     * The maximum number of asynchronous operations that the iterable delete and put with TTL keep running at once.
+     * The default value is "64".
+     */
+    MAX_IN_FLIGHT("jnosql.hazelcast.max.in.flight");
 
     private final String configuration;
 
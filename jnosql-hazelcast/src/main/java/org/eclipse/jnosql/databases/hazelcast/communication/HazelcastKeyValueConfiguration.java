@@ -15,8 +15,17 @@
 package org.eclipse.jnosql.databases.hazelcast.communication;
 
 
+import com.hazelcast.client.HazelcastClient;
+import com.hazelcast.client.config.ClientConfig;
 import com.hazelcast.config.Config;
+import com.hazelcast.config.EvictionConfig;
+import com.hazelcast.config.EvictionPolicy;
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.config.IndexConfig;
+import com.hazelcast.config.IndexType;
 import com.hazelcast.config.JoinConfig;
+import com.hazelcast.config.MaxSizePolicy;
+import com.hazelcast.config.NearCacheConfig;
 import com.hazelcast.config.NetworkConfig;
 import com.hazelcast.core.Hazelcast;
 import com.hazelcast.core.HazelcastInstance;
@@ -27,6 +36,7 @@ import org.eclipse.jnosql.communication.keyvalue.KeyValueConfiguration;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -43,6 +53,8 @@ public class HazelcastKeyValueConfiguration implements KeyValueConfiguration {
 
     private static final String DEFAULT_INSTANCE = "hazelcast-instanceName";
 
+    private static final String CLIENT_MODE = "client";
+
 
     /**
      * Creates a {@link HazelcastBucketManagerFactory} from configuration map
@@ -70,6 +82,20 @@ public class HazelcastKeyValueConfiguration implements KeyValueConfiguration {
     }
 
 
+    /**
+     * Creates a {@link HazelcastBucketManagerFactory} from hazelcast client config, so the application connects
+     * to the cluster as a client instead of joining it as a member
+     * @param config the {@link ClientConfig}
+     * @return the HazelCastBucketManagerFactory instance
+     * @throws NullPointerException when config is null
+     */
+    public HazelcastBucketManagerFactory get(ClientConfig config) throws NullPointerException {
+        requireNonNull(config, "config is required");
+        HazelcastInstance hazelcastInstance = HazelcastClient.getOrCreateHazelcastClient(config);
+        return new DefaultHazelcastBucketManagerFactory(hazelcastInstance);
+    }
+
+
     @Override
     public HazelcastBucketManagerFactory apply(Settings settings) {
         requireNonNull(settings, "settings is required");
@@ -80,7 +106,29 @@ public class HazelcastKeyValueConfiguration implements KeyValueConfiguration {
                 .collect(Collectors.toList());
         String instance = settings.get(HazelcastConfigurations.INSTANCE).map(Object::toString)
                 .orElse(DEFAULT_INSTANCE);
+        boolean client = settings.get(HazelcastConfigurations.MODE)
+                .map(Object::toString)
+                .map(CLIENT_MODE::equalsIgnoreCase)
+                .orElse(false);
+        Map<String, List<IndexConfig>> indexes = indexes(settings);
+        int maxInFlight = settings.get(HazelcastConfigurations.MAX_IN_FLIGHT)
+                .map(Object::toString)
+                .map(Integer::parseInt)
+                .filter(value -> value > 0)
+                .orElse(DefaultHazelcastBucketManagerFactory.DEFAULT_MAX_IN_FLIGHT);
+        if (client) {
+            HazelcastInstance hazelcastInstance = HazelcastClient
+                    .getOrCreateHazelcastClient(clientConfig(settings, servers, instance));
+            return new DefaultHazelcastBucketManagerFactory(hazelcastInstance, indexes, maxInFlight);
+        }
         Config config = new Config(instance);
+        settings.get(HazelcastConfigurations.CLUSTER_NAME)
+                .map(Object::toString)
+                .ifPresent(config::setClusterName);
+        settings.get(HazelcastConfigurations.SQL_ENABLED)
+                .map(Object::toString)
+                .map(Boolean::parseBoolean)
+                .ifPresent(config.getJetConfig()::setEnabled);
 
         NetworkConfig network = config.getNetworkConfig();
 
@@ -118,6 +166,71 @@ public class HazelcastKeyValueConfiguration implements KeyValueConfiguration {
                 .ifPresent(join.getTcpIpConfig()::setEnabled);
 
         HazelcastInstance hazelcastInstance = Hazelcast.getOrCreateHazelcastInstance(config);
-        return new DefaultHazelcastBucketManagerFactory(hazelcastInstance);
+        return new DefaultHazelcastBucketManagerFactory(hazelcastInstance, indexes, maxInFlight);
+    }
+
+    private Map<String, List<IndexConfig>> indexes(Settings settings) {
+        return settings.prefix(HazelcastConfigurations.INDEX)
+                .stream().map(Object::toString)
+                .map(index -> index.split(":"))
+                .peek(index -> {
+                    if (index.length < 2 || index.length > 3) {
+                        throw new IllegalArgumentException("The index must be map:attributes:type, but it is: "
+                                + String.join(":", index));
+                    }
+                })
+                .collect(Collectors.groupingBy(index -> index[0].trim(),
+                        Collectors.mapping(index -> new IndexConfig(index.length == 3
+                                        ? IndexType.valueOf(index[2].trim().toUpperCase(Locale.US)) : IndexType.SORTED,
+                                        Arrays.stream(index[1].split(",")).map(String::trim).toArray(String[]::new)),
+                                Collectors.toList())));
+    }
+
+    private ClientConfig clientConfig(Settings settings, List<String> servers, String instance) {
+        ClientConfig config = new ClientConfig();
+        config.setInstanceName(instance);
+        settings.get(HazelcastConfigurations.CLUSTER_NAME)
+                .map(Object::toString)
+                .ifPresent(config::setClusterName);
+
+        Integer port = settings.get(HazelcastConfigurations.PORT)
+                .map(Object::toString)
+                .map(Integer::parseInt)
+                .orElse(null);
+        servers.stream()
+                .map(server -> port == null || server.contains(":") ? server : server + ":" + port)
+                .forEach(config.getNetworkConfig()::addAddress);
+
+        List<String> maps = settings.prefix(HazelcastConfigurations.NEAR_CACHE_MAP)
+                .stream().map(Object::toString)
+                .toList();
+        for (String map : maps) {
+            config.addNearCacheConfig(nearCacheConfig(settings, map));
+        }
+        return config;
+    }
+
+    private NearCacheConfig nearCacheConfig(Settings settings, String map) {
+        NearCacheConfig nearCache = new NearCacheConfig(map);
+        settings.get(HazelcastConfigurations.NEAR_CACHE_INVALIDATE)
+                .map(Object::toString)
+                .map(Boolean::parseBoolean)
+                .ifPresent(nearCache::setInvalidateOnChange);
+        settings.get(HazelcastConfigurations.NEAR_CACHE_IN_MEMORY_FORMAT)
+                .map(Object::toString)
+                .map(format -> InMemoryFormat.valueOf(format.toUpperCase(Locale.US)))
+                .ifPresent(nearCache::setInMemoryFormat);
+
+        EvictionConfig eviction = nearCache.getEvictionConfig()
+                .setMaxSizePolicy(MaxSizePolicy.ENTRY_COUNT);
+        settings.get(HazelcastConfigurations.NEAR_CACHE_EVICTION)
+                .map(Object::toString)
+                .map(policy -> EvictionPolicy.valueOf(policy.toUpperCase(Locale.US)))
+                .ifPresent(eviction::setEvictionPolicy);
+        settings.get(HazelcastConfigurations.NEAR_CACHE_MAX_SIZE)
+                .map(Object::toString)
+                .map(Integer::parseInt)
+                .ifPresent(eviction::setSize);
+        return nearCache;
     }
 }
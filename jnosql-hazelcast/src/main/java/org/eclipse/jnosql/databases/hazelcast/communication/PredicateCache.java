@@ -0,0 +1,42 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.hazelcast.communication;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the {@link PredicateQuery} parsed by query text, shared by the managers of a factory.
+ * It holds up to {@link #MAX_SIZE} queries; a query beyond it is parsed on every call, which keeps queries that
+ * inline their values from growing the cache without bound.
+ */
+final class PredicateCache {
+
+    static final int MAX_SIZE = 1_024;
+
+    private final Map<String, PredicateQuery> queries = new ConcurrentHashMap<>();
+
+    PredicateQuery get(String query) {
+        PredicateQuery cached = queries.get(query);
+        if (cached != null) {
+            return cached;
+        }
+        PredicateQuery compiled = PredicateQuery.compile(query);
+        if (queries.size() < MAX_SIZE) {
+            queries.putIfAbsent(query, compiled);
+        }
+        return compiled;
+    }
+}
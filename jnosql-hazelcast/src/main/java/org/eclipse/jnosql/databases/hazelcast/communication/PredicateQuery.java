@@ -0,0 +1,331 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.hazelcast.communication;
+
+import com.hazelcast.query.Predicate;
+import com.hazelcast.query.Predicates;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A predicate query parsed once, whose {@code :name} parameters are bound on every execution.
+ * The bound values keep their Java type, instead of being written into the query text, and the literals are
+ * converted to the attribute type by Hazelcast, as the {@code SqlPredicate} does.
+ * It supports the AND, OR and NOT operators, parentheses, the comparison operators, LIKE, ILIKE, REGEX, IN,
+ * BETWEEN and a bare boolean attribute. A query out of this grammar is parsed by {@link Predicates#sql(String)}
+ * at every execution, with the parameters written into the text.
+ */
+final class PredicateQuery {
+
+    private final Function<Map<String, Object>, Predicate<?, ?>> binder;
+
+    private final Predicate<?, ?> predicate;
+
+    private PredicateQuery(Function<Map<String, Object>, Predicate<?, ?>> binder, boolean parameterized) {
+        this.binder = binder;
+        this.predicate = parameterized ? null : binder.apply(Map.of());
+    }
+
+    /**
+     * Binds the parameters and returns the predicate
+     *
+     * @param params the parameters
+     * @return the predicate
+     * @throws IllegalArgumentException when a parameter is not bound or is not comparable
+     */
+    <K, V> Predicate<K, V> bind(Map<String, Object> params) {
+        Predicate<?, ?> bound = Objects.isNull(predicate) ? binder.apply(params) : predicate;
+        return (Predicate<K, V>) bound;
+    }
+
+    static PredicateQuery compile(String query) {
+        try {
+            Parser parser = new Parser(tokenize(query));
+            Function<Map<String, Object>, Predicate<?, ?>> binder = parser.parse();
+            return new PredicateQuery(binder, parser.parameterized);
+        } catch (IllegalArgumentException exception) {
+            return new PredicateQuery(params -> Predicates.sql(replace(query, params)), true);
+        }
+    }
+
+    private static String replace(String query, Map<String, Object> params) {
+        StringBuilder finalQuery = new StringBuilder(query);
+        params.forEach((key, value) -> {
+            String name = ":" + key;
+            int indexOf = finalQuery.indexOf(name);
+            if (indexOf >= 0) {
+                finalQuery.replace(indexOf, indexOf + name.length(), value.toString());
+            }
+        });
+        return finalQuery.toString();
+    }
+
+    private enum Type {
+        WORD, TEXT, PARAM, OPERATOR, OPEN, CLOSE, COMMA
+    }
+
+    private record Token(Type type, String value) {
+
+        boolean is(String keyword) {
+            return type == Type.WORD && value.equalsIgnoreCase(keyword);
+        }
+    }
+
+    private static List<Token> tokenize(String query) {
+        List<Token> tokens = new ArrayList<>();
+        int index = 0;
+        while (index < query.length()) {
+            char current = query.charAt(index);
+            if (Character.isWhitespace(current)) {
+                index++;
+            } else if (current == '(') {
+                tokens.add(new Token(Type.OPEN, "("));
+                index++;
+            } else if (current == ')') {
+                tokens.add(new Token(Type.CLOSE, ")"));
+                index++;
+            } else if (current == ',') {
+                tokens.add(new Token(Type.COMMA, ","));
+                index++;
+            } else if (current == '\'') {
+                StringBuilder text = new StringBuilder();
+                index++;
+                while (true) {
+                    if (index >= query.length()) {
+                        throw new IllegalArgumentException("The text is not closed at the query: " + query);
+                    }
+                    char next = query.charAt(index++);
+                    if (next == '\'') {
+                        if (index < query.length() && query.charAt(index) == '\'') {
+                            text.append('\'');
+                            index++;
+                        } else {
+                            break;
+                        }
+                    } else {
+                        text.append(next);
+                    }
+                }
+                tokens.add(new Token(Type.TEXT, text.toString()));
+            } else if ("=!<>&|".indexOf(current) >= 0) {
+                int start = index;
+                while (index < query.length() && "=!<>&|".indexOf(query.charAt(index)) >= 0) {
+                    index++;
+                }
+                tokens.add(new Token(Type.OPERATOR, query.substring(start, index)));
+            } else {
+                int start = index;
+                while (index < query.length() && !Character.isWhitespace(query.charAt(index))
+                        && "(),'=!<>&|".indexOf(query.charAt(index)) < 0) {
+                    index++;
+                }
+                String word = query.substring(start, index);
+                if (word.startsWith(":") && word.length() > 1) {
+                    tokens.add(new Token(Type.PARAM, word.substring(1)));
+                } else {
+                    tokens.add(new Token(Type.WORD, word));
+                }
+            }
+        }
+        return tokens;
+    }
+
+    private static final class Parser {
+
+        private final List<Token> tokens;
+
+        private int position;
+
+        private boolean parameterized;
+
+        private Parser(List<Token> tokens) {
+            this.tokens = tokens;
+        }
+
+        Function<Map<String, Object>, Predicate<?, ?>> parse() {
+            Function<Map<String, Object>, Predicate<?, ?>> predicate = or();
+            if (position < tokens.size()) {
+                throw new IllegalArgumentException("Unexpected token: " + tokens.get(position).value());
+            }
+            return predicate;
+        }
+
+        private Function<Map<String, Object>, Predicate<?, ?>> or() {
+            List<Function<Map<String, Object>, Predicate<?, ?>>> predicates = new ArrayList<>();
+            predicates.add(and());
+            while (accept("OR") || acceptOperator("||")) {
+                predicates.add(and());
+            }
+            if (predicates.size() == 1) {
+                return predicates.get(0);
+            }
+            return params -> Predicates.or(predicates.stream().map(p -> p.apply(params)).toArray(Predicate[]::new));
+        }
+
+        private Function<Map<String, Object>, Predicate<?, ?>> and() {
+            List<Function<Map<String, Object>, Predicate<?, ?>>> predicates = new ArrayList<>();
+            predicates.add(not());
+            while (accept("AND") || acceptOperator("&&")) {
+                predicates.add(not());
+            }
+            if (predicates.size() == 1) {
+                return predicates.get(0);
+            }
+            return params -> Predicates.and(predicates.stream().map(p -> p.apply(params)).toArray(Predicate[]::new));
+        }
+
+        private Function<Map<String, Object>, Predicate<?, ?>> not() {
+            if (accept("NOT") || acceptOperator("!")) {
+                Function<Map<String, Object>, Predicate<?, ?>> predicate = not();
+                return params -> Predicates.not(predicate.apply(params));
+            }
+            if (peek(Type.OPEN)) {
+                position++;
+                Function<Map<String, Object>, Predicate<?, ?>> predicate = or();
+                expect(Type.CLOSE);
+                return predicate;
+            }
+            return condition();
+        }
+
+        private Function<Map<String, Object>, Predicate<?, ?>> condition() {
+            String attribute = expect(Type.WORD).value();
+            if (peek(Type.OPERATOR)) {
+                String operator = tokens.get(position++).value();
+                Function<Map<String, Object>, Comparable> value = value();
+                return switch (operator) {
+                    case "=", "==" -> params -> Predicates.equal(attribute, value.apply(params));
+                    case "!=", "<>" -> params -> Predicates.notEqual(attribute, value.apply(params));
+                    case "<" -> params -> Predicates.lessThan(attribute, value.apply(params));
+                    case "<=" -> params -> Predicates.lessEqual(attribute, value.apply(params));
+                    case ">" -> params -> Predicates.greaterThan(attribute, value.apply(params));
+                    case ">=" -> params -> Predicates.greaterEqual(attribute, value.apply(params));
+                    default -> throw new IllegalArgumentException("Unexpected operator: " + operator);
+                };
+            }
+            boolean negated = accept("NOT");
+            Function<Map<String, Object>, Predicate<?, ?>> predicate;
+            if (accept("LIKE")) {
+                Function<Map<String, Object>, Comparable> value = value();
+                predicate = params -> Predicates.like(attribute, value.apply(params).toString());
+            } else if (accept("ILIKE")) {
+                Function<Map<String, Object>, Comparable> value = value();
+                predicate = params -> Predicates.ilike(attribute, value.apply(params).toString());
+            } else if (accept("REGEX")) {
+                Function<Map<String, Object>, Comparable> value = value();
+                predicate = params -> Predicates.regex(attribute, value.apply(params).toString());
+            } else if (accept("IN")) {
+                expect(Type.OPEN);
+                List<Function<Map<String, Object>, Comparable>> values = new ArrayList<>();
+                values.add(value());
+                while (peek(Type.COMMA)) {
+                    position++;
+                    values.add(value());
+                }
+                expect(Type.CLOSE);
+                predicate = params -> Predicates.in(attribute, values.stream().map(v -> v.apply(params))
+                        .toArray(Comparable[]::new));
+            } else if (accept("BETWEEN")) {
+                Function<Map<String, Object>, Comparable> from = value();
+                if (!accept("AND")) {
+                    throw new IllegalArgumentException("BETWEEN requires AND at the attribute: " + attribute);
+                }
+                Function<Map<String, Object>, Comparable> to = value();
+                predicate = params -> Predicates.between(attribute, from.apply(params), to.apply(params));
+            } else if (negated) {
+                throw new IllegalArgumentException("Unexpected NOT after the attribute: " + attribute);
+            } else {
+                return params -> Predicates.equal(attribute, true);
+            }
+            if (negated) {
+                Function<Map<String, Object>, Predicate<?, ?>> positive = predicate;
+                return params -> Predicates.not(positive.apply(params));
+            }
+            return predicate;
+        }
+
+        private Function<Map<String, Object>, Comparable> value() {
+            if (position >= tokens.size()) {
+                throw new IllegalArgumentException("The query ends without a value");
+            }
+            Token token = tokens.get(position++);
+            return switch (token.type()) {
+                case WORD, TEXT -> {
+                    String literal = token.value();
+                    yield params -> literal;
+                }
+                case PARAM -> {
+                    parameterized = true;
+                    String name = token.value();
+                    yield params -> comparable(name, params);
+                }
+                default -> throw new IllegalArgumentException("Unexpected token: " + token.value());
+            };
+        }
+
+        private boolean accept(String keyword) {
+            if (position < tokens.size() && tokens.get(position).is(keyword)) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private boolean acceptOperator(String operator) {
+            if (peek(Type.OPERATOR) && tokens.get(position).value().equals(operator)) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private boolean peek(Type type) {
+            return position < tokens.size() && tokens.get(position).type() == type;
+        }
+
+        private Token expect(Type type) {
+            if (!peek(type)) {
+                throw new IllegalArgumentException("Expected " + type.name().toLowerCase(Locale.US) + " at the position "
+                        + position);
+            }
+            Token token = tokens.get(position++);
+            if (type == Type.WORD && isKeyword(token)) {
+                throw new IllegalArgumentException("Unexpected keyword: " + token.value());
+            }
+            return token;
+        }
+
+        private static boolean isKeyword(Token token) {
+            return token.is("AND") || token.is("OR") || token.is("NOT") || token.is("LIKE") || token.is("ILIKE")
+                    || token.is("REGEX") || token.is("IN") || token.is("BETWEEN");
+        }
+
+        private static Comparable comparable(String name, Map<String, Object> params) {
+            if (!params.containsKey(name)) {
+                throw new IllegalArgumentException("The parameter :" + name + " is not bound");
+            }
+            Object value = params.get(name);
+            if (value instanceof Comparable<?> comparable) {
+                return comparable;
+            }
+            throw new IllegalArgumentException("The parameter :" + name + " must be Comparable, but it is: " + value);
+        }
+    }
+}
@@ -14,20 +14,32 @@
  */
 package org.eclipse.jnosql.databases.hazelcast.mapping;
 
+import com.hazelcast.aggregation.Aggregator;
+import com.hazelcast.config.IndexType;
+import com.hazelcast.map.EntryProcessor;
+import com.hazelcast.projection.Projection;
 import com.hazelcast.query.Predicate;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Instance;
 import jakarta.enterprise.inject.Typed;
 import jakarta.inject.Inject;
 import org.eclipse.jnosql.communication.keyvalue.BucketManager;
+import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
 import org.eclipse.jnosql.databases.hazelcast.communication.HazelcastBucketManager;
 import org.eclipse.jnosql.mapping.keyvalue.AbstractKeyValueTemplate;
 import org.eclipse.jnosql.mapping.keyvalue.KeyValueEntityConverter;
 import org.eclipse.jnosql.mapping.keyvalue.KeyValueEventPersistManager;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
 
 @ApplicationScoped
 @Typed(HazelcastTemplate.class)
@@ -65,6 +77,88 @@ class DefaultHazelcastTemplate extends AbstractKeyValueTemplate implements Hazel
         return manager.get().sql(predicate).stream().map(v -> (V) v.get()).collect(Collectors.toList());
     }
 
+    @Override
+    public <T> Stream<T> execute(String sql, Object... params) {
+        return manager.get().execute(sql, params).map(v -> (T) v.get());
+    }
+
+    @Override
+    public <T> CompletionStage<T> putAsync(T entity) {
+        requireNonNull(entity, "entity is required");
+        return persistAsync(entity, manager.get()::putAsync);
+    }
+
+    @Override
+    public <T> CompletionStage<T> putAsync(T entity, Duration ttl) {
+        requireNonNull(entity, "entity is required");
+        requireNonNull(ttl, "ttl is required");
+        return persistAsync(entity, keyValue -> manager.get().putAsync(keyValue, ttl));
+    }
+
+    @Override
+    public <K, T> CompletionStage<Optional<T>> getAsync(K key, Class<T> type) {
+        requireNonNull(key, "key is required");
+        requireNonNull(type, "type is required");
+        return manager.get().getAsync(key)
+                .thenApply(value -> value.map(v -> converter.toEntity(type, v)));
+    }
+
+    @Override
+    public <K> CompletionStage<Void> deleteAsync(K key) {
+        requireNonNull(key, "key is required");
+        return manager.get().deleteAsync(key);
+    }
+
+    @Override
+    public void addIndex(IndexType type, String... attributes) {
+        manager.get().addIndex(type, attributes);
+    }
+
+    @Override
+    public <K, T, R> R executeOnKey(K key, EntryProcessor<K, T, R> processor) {
+        return manager.get().executeOnKey(key, processor);
+    }
+
+    @Override
+    public <K, T, R> Map<K, R> executeOnEntries(EntryProcessor<K, T, R> processor) {
+        return manager.get().executeOnEntries(processor);
+    }
+
+    @Override
+    public <K, T, R> Map<K, R> executeOnEntries(EntryProcessor<K, T, R> processor, Predicate<K, T> predicate) {
+        return manager.get().executeOnEntries(processor, predicate);
+    }
+
+    @Override
+    public <K, T, R> R aggregate(Aggregator<? super Map.Entry<K, T>, R> aggregator) {
+        return manager.get().aggregate(aggregator);
+    }
+
+    @Override
+    public <K, T, R> R aggregate(Aggregator<? super Map.Entry<K, T>, R> aggregator, Predicate<K, T> predicate) {
+        return manager.get().aggregate(aggregator, predicate);
+    }
+
+    @Override
+    public <K, T, R> Collection<R> project(Projection<? super Map.Entry<K, T>, R> projection) {
+        return manager.get().project(projection);
+    }
+
+    @Override
+    public <K, T, R> Collection<R> project(Projection<? super Map.Entry<K, T>, R> projection,
+                                           Predicate<K, T> predicate) {
+        return manager.get().project(projection, predicate);
+    }
+
+    private <T> CompletionStage<T> persistAsync(T entity, Function<KeyValueEntity, CompletionStage<Void>> action) {
+        persistManager.firePreEntity(entity);
+        KeyValueEntity keyValue = converter.toKeyValue(entity);
+        return action.apply(keyValue).thenApply(v -> {
+            persistManager.firePostEntity(entity);
+            return entity;
+        });
+    }
+
     @Override
     protected KeyValueEntityConverter getConverter() {
         return converter;
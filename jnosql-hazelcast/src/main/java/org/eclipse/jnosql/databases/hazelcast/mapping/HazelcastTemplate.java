@@ -14,11 +14,19 @@
  */
 package org.eclipse.jnosql.databases.hazelcast.mapping;
 
+import com.hazelcast.aggregation.Aggregator;
+import com.hazelcast.config.IndexType;
+import com.hazelcast.map.EntryProcessor;
+import com.hazelcast.projection.Projection;
 import com.hazelcast.query.Predicate;
 import org.eclipse.jnosql.mapping.keyvalue.KeyValueTemplate;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Stream;
 
 /**
  * A template layer to Hazelcast key-value type
@@ -58,4 +66,159 @@ public interface HazelcastTemplate extends KeyValueTemplate {
      */
     <K, V> Collection<V> sql(Predicate<K, V> predicate);
 
+    /**
+     * Executes a statement at the Hazelcast SQL engine, E.g.:
+     * {@code template.execute("SELECT this FROM movies WHERE year > ?", 2000)}.
+     * The rows are fetched lazily, so the stream must be closed when it is not consumed to its end.
+     *
+     * @param sql    the SQL statement
+     * @param params the positional params
+     * @param <T>    the row type
+     * @return the rows
+     * @throws NullPointerException when either sql or params is null
+     * @see org.eclipse.jnosql.databases.hazelcast.communication.HazelcastBucketManager#execute(String, Object...)
+     */
+    <T> Stream<T> execute(String sql, Object... params);
+
+    /**
+     * Puts the entity without blocking the caller thread
+     *
+     * @param entity the entity
+     * @param <T>    the entity type
+     * @return a {@link CompletionStage} completed with the entity once it is stored
+     * @throws NullPointerException when entity is null
+     */
+    <T> CompletionStage<T> putAsync(T entity);
+
+    /**
+     * Puts the entity with a time to live without blocking the caller thread
+     *
+     * @param entity the entity
+     * @param ttl    the time to live
+     * @param <T>    the entity type
+     * @return a {@link CompletionStage} completed with the entity once it is stored
+     * @throws NullPointerException when either entity or ttl is null
+     */
+    <T> CompletionStage<T> putAsync(T entity, Duration ttl);
+
+    /**
+     * Finds the entity of the key without blocking the caller thread
+     *
+     * @param key  the key
+     * @param type the entity type
+     * @param <K>  the key type
+     * @param <T>  the entity type
+     * @return a {@link CompletionStage} completed with the entity or {@link Optional#empty()} when there is no value
+     * @throws NullPointerException when either key or type is null
+     */
+    <K, T> CompletionStage<Optional<T>> getAsync(K key, Class<T> type);
+
+    /**
+     * Removes the key without blocking the caller thread
+     *
+     * @param key the key
+     * @param <K> the key type
+     * @return a {@link CompletionStage} completed once the key is removed
+     * @throws NullPointerException when key is null
+     */
+    <K> CompletionStage<Void> deleteAsync(K key);
+
+    /**
+     * Creates an index on the attributes of the entities, so the queries on them do not scan every entry.
+     *
+     * @param type       the index type
+     * @param attributes the attributes
+     * @throws NullPointerException when either type or attributes is null
+     */
+    void addIndex(IndexType type, String... attributes);
+
+    /**
+     * Runs the processor on the entity of the key at the member that owns it
+     *
+     * @param key       the key
+     * @param processor the entry processor
+     * @param <K>       the key type
+     * @param <T>       the entity type
+     * @param <R>       the result type
+     * @return the result of the processor
+     * @throws NullPointerException when either key or processor is null
+     */
+    <K, T, R> R executeOnKey(K key, EntryProcessor<K, T, R> processor);
+
+    /**
+     * Runs the processor on every entity at the members that own them
+     *
+     * @param processor the entry processor
+     * @param <K>       the key type
+     * @param <T>       the entity type
+     * @param <R>       the result type
+     * @return the results of the processor by key
+     * @throws NullPointerException when processor is null
+     */
+    <K, T, R> Map<K, R> executeOnEntries(EntryProcessor<K, T, R> processor);
+
+    /**
+     * Runs the processor on the entities that match the predicate at the members that own them
+     *
+     * @param processor the entry processor
+     * @param predicate the predicate
+     * @param <K>       the key type
+     * @param <T>       the entity type
+     * @param <R>       the result type
+     * @return the results of the processor by key
+     * @throws NullPointerException when either processor or predicate is null
+     */
+    <K, T, R> Map<K, R> executeOnEntries(EntryProcessor<K, T, R> processor, Predicate<K, T> predicate);
+
+    /**
+     * Aggregates every entity at the members, E.g.: {@code aggregate(Aggregators.count())}
+     *
+     * @param aggregator the aggregator
+     * @param <K>        the key type
+     * @param <T>        the entity type
+     * @param <R>        the result type
+     * @return the aggregation result
+     * @throws NullPointerException when aggregator is null
+     */
+    <K, T, R> R aggregate(Aggregator<? super Map.Entry<K, T>, R> aggregator);
+
+    /**
+     * Aggregates the entities that match the predicate at the members
+     *
+     * @param aggregator the aggregator
+     * @param predicate  the predicate
+     * @param <K>        the key type
+     * @param <T>        the entity type
+     * @param <R>        the result type
+     * @return the aggregation result
+     * @throws NullPointerException when either aggregator or predicate is null
+     */
+    <K, T, R> R aggregate(Aggregator<? super Map.Entry<K, T>, R> aggregator, Predicate<K, T> predicate);
+
+    /**
+     * Projects every entity at the members, so only the projected attributes reach the caller,
+     * E.g.: {@code project(Projections.singleAttribute("name"))}
+     *
+     * @param projection the projection
+     * @param <K>        the key type
+     * @param <T>        the entity type
+     * @param <R>        the result type
+     * @return the projected values
+     * @throws NullPointerException when projection is null
+     */
+    <K, T, R> Collection<R> project(Projection<? super Map.Entry<K, T>, R> projection);
+
+    /**
+     * Projects the entities that match the predicate at the members
+     *
+     * @param projection the projection
+     * @param predicate  the predicate
+     * @param <K>        the key type
+     * @param <T>        the entity type
+     * @param <R>        the result type
+     * @return the projected values
+     * @throws NullPointerException when either projection or predicate is null
+     */
+    <K, T, R> Collection<R> project(Projection<? super Map.Entry<K, T>, R> projection, Predicate<K, T> predicate);
+
 }
@@ -14,6 +14,9 @@
  */
 package org.eclipse.jnosql.databases.hazelcast.communication;
 
+import com.hazelcast.aggregation.Aggregators;
+import com.hazelcast.config.IndexType;
+import com.hazelcast.projection.Projections;
 import com.hazelcast.query.Predicate;
 import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.communication.keyvalue.BucketManagerFactory;
@@ -30,6 +33,7 @@ import static com.hazelcast.query.Predicates.and;
 import static com.hazelcast.query.Predicates.equal;
 import static com.hazelcast.query.Predicates.greaterEqual;
 import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -118,4 +122,48 @@ public class HazelcastBucketManagerQueryTest {
         assertEquals(1, result.size());
     }
 
+    @Test
+    public void shouldBindTypedParams() {
+        Map<String, Object> params = new HashMap<>();
+        params.put("active", true);
+        params.put("year", 2012);
+        Collection<Value> result = bucketManager.sql("active = :active AND year >= :year", params);
+        assertEquals(2, result.size());
+    }
+
+    @Test
+    public void shouldReturnInAndBetween() {
+        Collection<Value> result = bucketManager.sql("name IN ('Matrix', 'Grease') OR year BETWEEN 2012 AND 2013");
+        assertEquals(3, result.size());
+    }
+
+    @Test
+    public void shouldReturnErrorWhenParamIsNotBound() {
+        assertThrows(IllegalArgumentException.class, () -> bucketManager.sql("name = :name", Map.of()));
+    }
+
+    @Test
+    public void shouldAggregate() {
+        bucketManager.addIndex(IndexType.SORTED, "year");
+        Long count = bucketManager.aggregate(Aggregators.count(), greaterEqual("year", 2012));
+        assertEquals(3L, count);
+    }
+
+    @Test
+    public void shouldProject() {
+        Collection<String> names = bucketManager.project(Projections.singleAttribute("name"), equal("active", true));
+        assertThat(names).containsExactlyInAnyOrder("Star Wars: The Last Jedi", "Justice league");
+    }
+
+    @Test
+    public void shouldExecuteOnKey() {
+        Integer year = bucketManager.<String, Movie, Integer>executeOnKey("matrix", entry -> {
+            Movie movie = entry.getValue();
+            movie.setYear(movie.getYear() + 1);
+            entry.setValue(movie);
+            return movie.getYear();
+        });
+        assertEquals(2000, year);
+        assertEquals(2000, bucketManager.get("matrix").map(v -> v.get(Movie.class).getYear()).orElseThrow());
+    }
 }
@@ -119,5 +119,31 @@ public class HazelcastBucketManagerTest {
         assertEquals(0L, StreamSupport.stream(keyValueEntityManager.get(keys).spliterator(), false).count());
     }
 
+    @Test
+    public void shouldPutAndGetAsync() {
+        HazelcastBucketManager manager = (HazelcastBucketManager) keyValueEntityManager;
+        manager.putAsync(keyValueOtavio).toCompletableFuture().join();
+        Optional<Value> otavio = manager.getAsync("otavio").toCompletableFuture().join();
+        assertTrue(otavio.isPresent());
+        assertEquals(userOtavio, otavio.get().get(User.class));
+    }
+
+    @Test
+    public void shouldDeleteAsync() {
+        HazelcastBucketManager manager = (HazelcastBucketManager) keyValueEntityManager;
+        manager.put(keyValueOtavio);
+        manager.deleteAsync("otavio").toCompletableFuture().join();
+        assertFalse(manager.get("otavio").isPresent());
+    }
+
+    @Test
+    public void shouldIgnoreMissingKeysAtMultiGet() {
+        keyValueEntityManager.put(asList(keyValueSoro, keyValueOtavio));
+        Iterable<Value> values = keyValueEntityManager.get(asList("otavio", "not-found", "soro"));
+        assertThat(StreamSupport.stream(values.spliterator(), false)
+                .map(value -> value.get(User.class))
+                .collect(Collectors.toList()))
+                .containsExactly(userOtavio, userSoro);
+    }
 
 }
@@ -15,7 +15,9 @@
 
 package org.eclipse.jnosql.databases.hazelcast.communication;
 
+import com.hazelcast.client.HazelcastClient;
 import org.eclipse.jnosql.communication.Settings;
+import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.communication.keyvalue.BucketManagerFactory;
 import org.eclipse.jnosql.communication.keyvalue.KeyValueConfiguration;
 import org.junit.jupiter.api.Assertions;
@@ -24,7 +26,9 @@ import org.junit.jupiter.api.Test;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 public class KeyValueConfigurationTest {
@@ -49,6 +53,26 @@ public class KeyValueConfigurationTest {
         assertNotNull(managerFactory);
     }
 
+    @Test
+    public void shouldConnectAsClient() {
+        HazelcastBucketManagerFactory member = configuration.apply(Settings.builder().build());
+        Settings settings = Settings.builder()
+                .put(HazelcastConfigurations.MODE, "client")
+                .put(HazelcastConfigurations.INSTANCE, "hazelcast-client")
+                .put(HazelcastConfigurations.HOST.get() + ".1", "localhost")
+                .put(HazelcastConfigurations.NEAR_CACHE_MAP.get() + ".1", "client-*")
+                .put(HazelcastConfigurations.NEAR_CACHE_IN_MEMORY_FORMAT, "object")
+                .build();
+        try {
+            HazelcastBucketManager client = configuration.apply(settings).apply("client-bucket");
+            client.put("otavio", "Otavio");
+            assertEquals(Optional.of("Otavio"), member.apply("client-bucket").get("otavio").map(Value::get));
+            assertEquals(Optional.of("Otavio"), client.get("otavio").map(Value::get));
+        } finally {
+            HazelcastClient.getHazelcastClientByName("hazelcast-client").shutdown();
+        }
+    }
+
     @Test
     public void shouldReturnFromConfiguration() {
         KeyValueConfiguration configuration = KeyValueConfiguration.getConfiguration();
@@ -0,0 +1,54 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.hazelcast.communication;
+
+import com.hazelcast.query.Predicates;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PredicateQueryTest {
+
+    @Test
+    void shouldBindParamWithItsType() {
+        PredicateQuery query = PredicateQuery.compile("name = :name AND year > :year");
+        assertThat(query.<Object, Object>bind(Map.of("name", "Matrix", "year", 1990)))
+                .isEqualTo(Predicates.and(Predicates.equal("name", "Matrix"), Predicates.greaterThan("year", 1990)));
+    }
+
+    @Test
+    void shouldParseOperators() {
+        PredicateQuery query = PredicateQuery.compile("NOT active OR (name LIKE 'Mat%' AND year NOT IN (1, 2))");
+        assertThat(query.<Object, Object>bind(Map.of()))
+                .isEqualTo(Predicates.or(Predicates.not(Predicates.equal("active", true)),
+                        Predicates.and(Predicates.like("name", "Mat%"),
+                                Predicates.not(Predicates.in("year", "1", "2")))));
+    }
+
+    @Test
+    void shouldReuseThePredicateWithoutParams() {
+        PredicateQuery query = PredicateQuery.compile("year BETWEEN 1990 AND 2000");
+        assertThat(query.<Object, Object>bind(Map.of())).isSameAs(query.bind(Map.of()));
+    }
+
+    @Test
+    void shouldReturnErrorWhenParamIsNotComparable() {
+        PredicateQuery query = PredicateQuery.compile("name = :name");
+        assertThrows(IllegalArgumentException.class, () -> query.bind(Map.of("name", new Object())));
+    }
+}
@@ -14,6 +14,10 @@
  */
 package org.eclipse.jnosql.databases.hazelcast.mapping;
 
+import com.hazelcast.aggregation.Aggregators;
+import com.hazelcast.map.EntryProcessor;
+import com.hazelcast.projection.Projection;
+import com.hazelcast.projection.Projections;
 import jakarta.inject.Inject;
 import org.eclipse.jnosql.mapping.core.Converters;
 import org.eclipse.jnosql.mapping.keyvalue.AbstractKeyValueTemplate;
@@ -26,10 +30,15 @@ import org.jboss.weld.junit5.auto.EnableAutoWeld;
 import org.junit.jupiter.api.Test;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import static com.hazelcast.query.Predicates.equal;
 import static java.util.Collections.singletonMap;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @EnableAutoWeld
@@ -64,4 +73,42 @@ public class DefaultHazelcastTemplateTest {
         assertTrue(people.stream().allMatch(Person.class::isInstance));
     }
 
+    @Test
+    public void shouldGetAsync() {
+        Optional<Person> person = template.getAsync("Poliana", Person.class).toCompletableFuture().join();
+        assertTrue(person.isPresent());
+    }
+
+    @Test
+    public void shouldExecuteOnEntries() {
+        EntryProcessor<String, Person, Integer> processor = entry -> entry.getValue().getAge() + 1;
+        Map<String, Integer> all = template.executeOnEntries(processor);
+        Map<String, Integer> filtered = template.executeOnEntries(processor, equal("name", "Otavio"));
+        assertEquals(Map.of("Poliana", 26), all);
+        assertEquals(Map.of("Otavio", 29), filtered);
+    }
+
+    @Test
+    public void shouldAggregate() {
+        Long all = template.aggregate(Aggregators.<Map.Entry<String, Person>>count());
+        Long filtered = template.aggregate(Aggregators.<Map.Entry<String, Person>>count(), equal("name", "Otavio"));
+        assertEquals(2L, all);
+        assertEquals(1L, filtered);
+    }
+
+    @Test
+    public void shouldProject() {
+        Projection<Map.Entry<String, Person>, String> name = Projections.singleAttribute("name");
+        Collection<String> all = template.project(name);
+        Collection<String> filtered = template.project(name, equal("name", "Poliana"));
+        assertEquals(List.of("Poliana", "Otavio"), all);
+        assertEquals(List.of("Poliana"), filtered);
+    }
+
+    @Test
+    public void shouldPutAsync() {
+        Person person = new Person("Ada", 36);
+        assertSame(person, template.putAsync(person).toCompletableFuture().join());
+    }
+
 }
\ No newline at end of file
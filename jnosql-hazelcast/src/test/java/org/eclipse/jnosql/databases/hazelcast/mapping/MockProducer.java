@@ -15,6 +15,9 @@
 package org.eclipse.jnosql.databases.hazelcast.mapping;
 
 
+import com.hazelcast.aggregation.Aggregator;
+import com.hazelcast.map.EntryProcessor;
+import com.hazelcast.projection.Projection;
 import com.hazelcast.query.Predicate;
 import jakarta.annotation.Priority;
 import jakarta.enterprise.context.ApplicationScoped;
@@ -22,10 +25,13 @@ import jakarta.enterprise.inject.Alternative;
 import jakarta.enterprise.inject.Produces;
 import jakarta.interceptor.Interceptor;
 import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
 import org.eclipse.jnosql.databases.hazelcast.communication.HazelcastBucketManager;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
 import static java.util.Arrays.asList;
@@ -50,6 +56,15 @@ public class MockProducer implements Supplier<HazelcastBucketManager> {
         when(manager.sql(anyString())).thenReturn(people);
         when(manager.sql(anyString(), any(Map.class))).thenReturn(people);
         when(manager.sql(any(Predicate.class))).thenReturn(people);
+        when(manager.getAsync(any())).thenReturn(CompletableFuture.completedFuture(Optional.of(people.get(0))));
+        when(manager.putAsync(any(KeyValueEntity.class))).thenReturn(CompletableFuture.completedFuture(null));
+        when(manager.executeOnEntries(any(EntryProcessor.class))).thenReturn(Map.of("Poliana", 26));
+        when(manager.executeOnEntries(any(EntryProcessor.class), any(Predicate.class)))
+                .thenReturn(Map.of("Otavio", 29));
+        when(manager.aggregate(any(Aggregator.class))).thenReturn(2L);
+        when(manager.aggregate(any(Aggregator.class), any(Predicate.class))).thenReturn(1L);
+        when(manager.project(any(Projection.class))).thenReturn(List.of("Poliana", "Otavio"));
+        when(manager.project(any(Projection.class), any(Predicate.class))).thenReturn(List.of("Poliana"));
         return manager;
     }
 
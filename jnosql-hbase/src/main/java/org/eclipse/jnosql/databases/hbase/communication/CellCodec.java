@@ -0,0 +1,148 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.hbase.communication;
+
+
+import org.apache.hadoop.hbase.util.Bytes;
+import org.eclipse.jnosql.communication.ValueWriter;
+import org.eclipse.jnosql.communication.ValueWriterDecorator;
+
+import java.util.regex.Pattern;
+
+/**
+ * The encoding of the cell values, selected by {@link HbaseConfigurations#CELL_ENCODING}.
+ * The {@link #TYPED} encoding writes a type marker followed by the binary value, so numbers and booleans keep
+ * their type and are compared by value; the binary numbers are order preserving, so a range filter works when
+ * the query value has the same type as the stored one, which the column types of {@link CellEncoder} ensure.
+ * The {@link #TEXT} encoding, the default, writes the value as text.
+ * Any other type goes through the {@link ValueWriter} and is written as text by both encodings.
+ * The decoding reads both encodings, so cells written as text keep readable after moving to the typed one.
+ */
+enum CellCodec {
+
+    TEXT {
+        @Override
+        byte[] encode(Object value) {
+            return Bytes.toBytes(HBaseUtils.valueToString(value));
+        }
+
+        @Override
+        String textPattern(String regex) {
+            return "^" + regex;
+        }
+    },
+    TYPED {
+        @Override
+        byte[] encode(Object value) {
+            Object object = WRITER.test(value.getClass()) ? WRITER.write(value) : value;
+            if (object instanceof Integer number) {
+                return typed(INTEGER, Bytes.toBytes(number ^ Integer.MIN_VALUE));
+            } else if (object instanceof Long number) {
+                return typed(LONG, Bytes.toBytes(number ^ Long.MIN_VALUE));
+            } else if (object instanceof Short number) {
+                return typed(SHORT, Bytes.toBytes((short) (number ^ Short.MIN_VALUE)));
+            } else if (object instanceof Double number) {
+                long bits = Double.doubleToLongBits(number);
+                return typed(DOUBLE, Bytes.toBytes(bits ^ ((bits >> 63) | Long.MIN_VALUE)));
+            } else if (object instanceof Float number) {
+                int bits = Float.floatToIntBits(number);
+                return typed(FLOAT, Bytes.toBytes(bits ^ ((bits >> 31) | Integer.MIN_VALUE)));
+            } else if (object instanceof Boolean bool) {
+                return new byte[]{BOOLEAN, (byte) (bool ? 1 : 0)};
+            }
+            return typed(STRING, Bytes.toBytes(object.toString()));
+        }
+
+        @Override
+        String textPattern(String regex) {
+            return "^" + Pattern.quote(String.valueOf((char) STRING)) + regex;
+        }
+    };
+
+    private static final ValueWriter WRITER = ValueWriterDecorator.getInstance();
+
+    private static final byte STRING = 0x01;
+    private static final byte INTEGER = 0x02;
+    private static final byte LONG = 0x03;
+    private static final byte SHORT = 0x04;
+    private static final byte DOUBLE = 0x05;
+    private static final byte FLOAT = 0x06;
+    private static final byte BOOLEAN = 0x07;
+
+    /**
+     * Encodes the value to be stored at a cell.
+     *
+     * @param value the value
+     * @return the cell bytes
+     */
+    abstract byte[] encode(Object value);
+
+    /**
+     * Returns the regex that matches a text value encoded by this codec, given the regex of the text itself.
+     *
+     * @param regex the regex of the text, without the leading {@code ^}
+     * @return the regex of the encoded cell
+     */
+    abstract String textPattern(String regex);
+
+    /**
+     * Decodes a cell value straight from the cell array, without copying it first.
+     *
+     * @param array  the array that holds the value
+     * @param offset the offset of the value
+     * @param length the length of the value
+     * @return the value
+     */
+    static Object decode(byte[] array, int offset, int length) {
+        if (length == 0) {
+            return "";
+        }
+        byte marker = array[offset];
+        int payload = offset + 1;
+        return switch (marker) {
+            case STRING -> Bytes.toString(array, payload, length - 1);
+            case INTEGER -> length == 5 ? Bytes.toInt(array, payload) ^ Integer.MIN_VALUE
+                    : Bytes.toString(array, offset, length);
+            case LONG -> length == 9 ? Bytes.toLong(array, payload) ^ Long.MIN_VALUE
+                    : Bytes.toString(array, offset, length);
+            case SHORT -> length == 3 ? (short) (Bytes.toShort(array, payload) ^ Short.MIN_VALUE)
+                    : Bytes.toString(array, offset, length);
+            case DOUBLE -> {
+                if (length != 9) {
+                    yield Bytes.toString(array, offset, length);
+                }
+                long bits = Bytes.toLong(array, payload);
+                yield Double.longBitsToDouble(bits ^ ((~bits >> 63) | Long.MIN_VALUE));
+            }
+            case FLOAT -> {
+                if (length != 5) {
+                    yield Bytes.toString(array, offset, length);
+                }
+                int bits = Bytes.toInt(array, payload);
+                yield Float.intBitsToFloat(bits ^ ((~bits >> 31) | Integer.MIN_VALUE));
+            }
+            case BOOLEAN -> length == 2 && array[payload] <= 1 ? array[payload] == 1
+                    : Bytes.toString(array, offset, length);
+            default -> Bytes.toString(array, offset, length);
+        };
+    }
+
+    private static byte[] typed(byte marker, byte[] value) {
+        byte[] bytes = new byte[value.length + 1];
+        bytes[0] = marker;
+        System.arraycopy(value, 0, bytes, 1, value.length);
+        return bytes;
+    }
+}
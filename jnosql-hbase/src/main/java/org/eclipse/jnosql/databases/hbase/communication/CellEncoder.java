@@ -0,0 +1,102 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.hbase.communication;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Encodes the values of the columns with the {@link CellCodec}, converting first the numbers of the columns that
+ * have a type, from {@link HbaseConfigurations#CELL_TYPE}, to that type. Both the stored values and the values of
+ * the query conditions go through it, so a column is always written and compared with the same number type,
+ * whatever the number type of the entity or of the query parameter.
+ *
+ * @param codec the codec
+ * @param types the number type by column
+ */
+record CellEncoder(CellCodec codec, Map<String, Class<? extends Number>> types) {
+
+    static CellEncoder of(CellCodec codec) {
+        return new CellEncoder(codec, Map.of());
+    }
+
+    /**
+     * Creates the encoder from the column types as column:type, where the type is short, integer, long, float
+     * or double.
+     *
+     * @param codec the codec
+     * @param types the column types
+     * @return the encoder
+     * @throws IllegalArgumentException when a column type is not valid
+     */
+    static CellEncoder of(CellCodec codec, List<String> types) {
+        return new CellEncoder(codec, types.stream()
+                .map(type -> type.split(":"))
+                .peek(type -> {
+                    if (type.length != 2) {
+                        throw new IllegalArgumentException("The cell type must be column:type, but it is: "
+                                + String.join(":", type));
+                    }
+                })
+                .collect(Collectors.toUnmodifiableMap(type -> type[0].trim(), type -> type(type[1]))));
+    }
+
+    /**
+     * Encodes the value of the column.
+     *
+     * @param column the column name
+     * @param value  the value
+     * @return the cell bytes
+     */
+    byte[] encode(String column, Object value) {
+        Class<? extends Number> type = types.get(column);
+        if (type != null && value instanceof Number number) {
+            return codec.encode(convert(number, type));
+        }
+        return codec.encode(value);
+    }
+
+    String textPattern(String regex) {
+        return codec.textPattern(regex);
+    }
+
+    private static Number convert(Number number, Class<? extends Number> type) {
+        if (Long.class.equals(type)) {
+            return number.longValue();
+        } else if (Integer.class.equals(type)) {
+            return number.intValue();
+        } else if (Short.class.equals(type)) {
+            return number.shortValue();
+        } else if (Double.class.equals(type)) {
+            return number.doubleValue();
+        }
+        return number.floatValue();
+    }
+
+    private static Class<? extends Number> type(String name) {
+        return switch (name.trim().toLowerCase(Locale.US)) {
+            case "short" -> Short.class;
+            case "int", "integer" -> Integer.class;
+            case "long" -> Long.class;
+            case "float" -> Float.class;
+            case "double" -> Double.class;
+            default -> throw new IllegalArgumentException("The cell type is not supported: " + name
+                    + ", the supported ones are: " + Arrays.asList("short", "integer", "long", "float", "double"));
+        };
+    }
+}
@@ -17,17 +17,17 @@ package org.eclipse.jnosql.databases.hbase.communication;
 
 import org.apache.hadoop.hbase.Cell;
 import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.util.Bytes;
 import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
 import org.eclipse.jnosql.communication.semistructured.Element;
 
 import java.util.ArrayList;
 import java.util.List;
 
-import static org.apache.hadoop.hbase.CellUtil.cloneFamily;
-import static org.apache.hadoop.hbase.CellUtil.cloneQualifier;
-import static org.apache.hadoop.hbase.CellUtil.cloneRow;
-import static org.apache.hadoop.hbase.CellUtil.cloneValue;
-
+/**
+ * Reads the cells of a row into an entity. Every cell is read straight from its backing array by offset and
+ * length, without copying the row, family, qualifier or value first; the values are decoded by {@link CellCodec}.
+ */
 class EntityUnit {
 
     private String rowKey;
@@ -37,16 +37,20 @@ class EntityUnit {
     private final List<Element> columns = new ArrayList<>();
 
     EntityUnit(Result result) {
+        add(result);
+    }
 
+    void add(Result result) {
         for (Cell cell : result.rawCells()) {
-
-            String name = new String(cloneQualifier(cell));
-            String value = new String(cloneValue(cell));
+            String name = Bytes.toString(cell.getQualifierArray(), cell.getQualifierOffset(),
+                    cell.getQualifierLength());
+            Object value = CellCodec.decode(cell.getValueArray(), cell.getValueOffset(), cell.getValueLength());
             if (this.rowKey == null) {
-                this.rowKey = new String(cloneRow(cell));
+                this.rowKey = Bytes.toString(cell.getRowArray(), cell.getRowOffset(), cell.getRowLength());
             }
             if (this.columnFamily == null) {
-                this.columnFamily = new String(cloneFamily(cell));
+                this.columnFamily = Bytes.toString(cell.getFamilyArray(), cell.getFamilyOffset(),
+                        cell.getFamilyLength());
             }
             columns.add(Element.of(name, value));
         }
@@ -22,6 +22,7 @@ import org.eclipse.jnosql.communication.semistructured.DatabaseConfiguration;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
@@ -84,7 +85,20 @@ public class HBaseColumnConfiguration implements DatabaseConfiguration {
 
         List<String> families = settings.prefix(HbaseConfigurations.FAMILY)
                 .stream().map(Object::toString).collect(Collectors.toList());
-        return new HBaseColumnManagerFactory(configuration, families);
+        long writeBufferSize = settings.get(HbaseConfigurations.WRITE_BUFFER_SIZE, Long.class)
+                .orElse(0L);
+        long flushTimeout = settings.get(HbaseConfigurations.WRITE_BUFFER_FLUSH_TIMEOUT, Long.class)
+                .orElse(HBaseColumnManagerFactory.DEFAULT_FLUSH_TIMEOUT);
+        int caching = settings.get(HbaseConfigurations.SCAN_CACHING, Integer.class).orElse(0);
+        int batch = settings.get(HbaseConfigurations.SCAN_BATCH, Integer.class).orElse(0);
+        CellCodec codec = settings.get(HbaseConfigurations.CELL_ENCODING)
+                .map(Object::toString)
+                .map(encoding -> CellCodec.valueOf(encoding.toUpperCase(Locale.US)))
+                .orElse(CellCodec.TEXT);
+        List<String> types = settings.prefix(HbaseConfigurations.CELL_TYPE)
+                .stream().map(Object::toString).toList();
+        return new HBaseColumnManagerFactory(configuration, families, writeBufferSize, flushTimeout,
+                caching, batch, CellEncoder.of(codec, types));
     }
 
     @Override
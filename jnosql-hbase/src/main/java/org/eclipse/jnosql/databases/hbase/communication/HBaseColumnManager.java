@@ -15,18 +15,18 @@
 package org.eclipse.jnosql.databases.hbase.communication;
 
 
-import org.apache.hadoop.hbase.client.Connection;
+import org.apache.hadoop.hbase.client.BufferedMutator;
 import org.apache.hadoop.hbase.client.Delete;
 import org.apache.hadoop.hbase.client.Get;
 import org.apache.hadoop.hbase.client.Put;
 import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.ResultScanner;
+import org.apache.hadoop.hbase.client.Scan;
 import org.apache.hadoop.hbase.client.Table;
+import org.apache.hadoop.hbase.filter.FirstKeyOnlyFilter;
 import org.apache.hadoop.hbase.util.Bytes;
 import org.eclipse.jnosql.communication.Condition;
 import org.eclipse.jnosql.communication.TypeReference;
-import org.eclipse.jnosql.communication.Value;
-import org.eclipse.jnosql.communication.ValueWriter;
-import org.eclipse.jnosql.communication.ValueWriterDecorator;
 import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
 import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
 import org.eclipse.jnosql.communication.semistructured.DatabaseManager;
@@ -37,8 +37,11 @@ import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 import java.io.IOException;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -48,27 +51,48 @@ import static java.util.stream.Collectors.toList;
 import static org.eclipse.jnosql.communication.Condition.EQUALS;
 import static org.eclipse.jnosql.communication.Condition.IN;
 import static org.eclipse.jnosql.communication.Condition.OR;
+import static org.eclipse.jnosql.databases.hbase.communication.HBaseUtils.valueToString;
 
 /**
  * The Hbase implementation to {@link DatabaseManager}.
  * It does not support TTL methods
  * <p>{@link HBaseColumnManager#insert(org.eclipse.jnosql.communication.semistructured.CommunicationEntity, Duration)}</p>
+ * <p>The single writes go through a {@link BufferedMutator}, so they are sent in batches; the pending writes are
+ * flushed periodically and before any read or delete of this manager. A single write that fails after its
+ * retries is reported as an {@link HBaseException} by the next operation of this manager, or by its close.
+ * The iterable writes are sent at once as a batched put.</p>
+ * <p>A select that only looks up row keys, by EQUALS, IN and OR, runs as gets; any other select runs as a lazy
+ * {@link Scan}, see {@link HbaseConfigurations#SCAN_CACHING} and {@link HbaseConfigurations#SCAN_BATCH}.
+ * The rows are returned in row key order; the row keys are compared as text and the other values as encoded by
+ * {@link HbaseConfigurations#CELL_ENCODING}. The only sort supported is the ascending row key.</p>
  */
 public class HBaseColumnManager implements DatabaseManager {
 
     private static final String KEY_REQUIRED_ERROR = "\"To save an entity is necessary to have an row, a Column that has a blank name. Documents.of(\\\"\\\", keyValue);\"";
 
-    private final Connection connection;
     private final Table table;
-    private final ValueWriter writerField = ValueWriterDecorator.getInstance();
+    private final BufferedMutator mutator;
+
+    private final MutationFailures failures;
 
     private final String database;
 
+    private final int caching;
+
+    private final int batch;
+
+    private final CellEncoder encoder;
 
-    HBaseColumnManager(Connection connection, Table table, String database) {
-        this.connection = connection;
+
+    HBaseColumnManager(Table table, BufferedMutator mutator, MutationFailures failures, String database,
+                       int caching, int batch, CellEncoder encoder) {
         this.table = table;
+        this.mutator = mutator;
+        this.failures = failures;
         this.database = database;
+        this.caching = caching;
+        this.batch = batch;
+        this.encoder = encoder;
     }
 
     @Override
@@ -79,20 +103,12 @@ public class HBaseColumnManager implements DatabaseManager {
     @Override
     public CommunicationEntity insert(CommunicationEntity entity) {
         Objects.requireNonNull(entity, "entity is required");
-        String family = entity.name();
-        List<Element> columns = entity.elements();
-        if (columns.isEmpty()) {
+        if (entity.elements().isEmpty()) {
             return entity;
         }
-        Element columnID = entity.find(HBaseUtils.KEY_COLUMN).orElseThrow(() -> new HBaseException(KEY_REQUIRED_ERROR));
-
-        Put put = new Put(Bytes.toBytes(valueToString(columnID.value())));
-        columns.stream().filter(Predicate.isEqual(columnID).negate()).forEach(column ->
-                put.addColumn(Bytes.toBytes(family),
-                        Bytes.toBytes(column.name()),
-                        Bytes.toBytes(valueToString(column.value()))));
+        failures.check();
         try {
-            table.put(put);
+            mutator.mutate(toPut(entity));
         } catch (IOException e) {
             throw new HBaseException("An error happened when try to save an entity", e);
         }
@@ -106,10 +122,7 @@ public class HBaseColumnManager implements DatabaseManager {
 
     @Override
     public Iterable<CommunicationEntity> update(Iterable<CommunicationEntity> entities) {
-        Objects.requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::update)
-                .collect(Collectors.toList());
+        return insert(entities);
     }
 
     @Override
@@ -120,9 +133,23 @@ public class HBaseColumnManager implements DatabaseManager {
     @Override
     public Iterable<CommunicationEntity> insert(Iterable<CommunicationEntity> entities) {
         Objects.requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::insert)
+        List<CommunicationEntity> values = StreamSupport.stream(entities.spliterator(), false)
+                .map(e -> Objects.requireNonNull(e, "entity is required"))
                 .collect(Collectors.toList());
+        List<Put> puts = values.stream()
+                .filter(e -> !e.elements().isEmpty())
+                .map(this::toPut)
+                .collect(toList());
+        if (puts.isEmpty()) {
+            return values;
+        }
+        try {
+            flush();
+            table.put(puts);
+        } catch (IOException e) {
+            throw new HBaseException("An error happened when try to save the entities", e);
+        }
+        return values;
     }
 
     @Override
@@ -150,6 +177,7 @@ public class HBaseColumnManager implements DatabaseManager {
                 .map(Delete::new)
                 .collect(toList());
         try {
+            flush();
             table.delete(deletes);
         } catch (IOException e) {
             throw new HBaseException("An error when try to delete columns", e);
@@ -158,50 +186,107 @@ public class HBaseColumnManager implements DatabaseManager {
     }
 
 
+    /**
+     * {@inheritDoc}
+     * <p>A scan keeps its {@link ResultScanner} open until the rows are exhausted, the limit is reached, or the
+     * stream is closed. Close the stream, e.g. with try-with-resources, when reading only part of it.</p>
+     *
+     * @throws UnsupportedOperationException when the query sorts by other than the ascending row key
+     */
     @Override
     public Stream<CommunicationEntity> select(SelectQuery query) {
         Objects.requireNonNull(query, "query is required");
-        var condition = query.condition()
-                .orElseThrow(() -> new IllegalArgumentException("Condition is required"));
-        checkedCondition(condition);
-        return Stream.of(findById(condition))
-                .map(EntityUnit::new).filter(EntityUnit::isNotEmpty)
-                .map(EntityUnit::toEntity);
+        ScanConverter.checkSorts(query);
+        var condition = query.condition();
+        if (condition.isPresent() && ScanConverter.isKeyLookup(condition.get())) {
+            Stream<Result> results = Stream.of(findById(condition.get(), query))
+                    .filter(result -> !result.isEmpty());
+            if (!query.sorts().isEmpty()) {
+                results = results.sorted(Comparator.comparing(Result::getRow, Bytes.BYTES_COMPARATOR));
+            }
+            Stream<CommunicationEntity> entities = results.map(EntityUnit::new).filter(EntityUnit::isNotEmpty)
+                    .map(EntityUnit::toEntity).skip(query.skip());
+            return query.limit() > 0 ? entities.limit(query.limit()) : entities;
+        }
+        Scan scan = ScanConverter.of(query, encoder, caching, batch);
+        try {
+            flush();
+        } catch (IOException e) {
+            throw new HBaseException("An error when try to scan the table", e);
+        }
+        ScanIterator iterator = new ScanIterator(table, scan, query.skip(), query.limit());
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(iterator::close);
     }
 
     @Override
     public long count(String columnFamily) {
-        throw new UnsupportedOperationException("Hbase does not have support to count method");
+        Objects.requireNonNull(columnFamily, "columnFamily is required");
+        Scan scan = new Scan().addFamily(Bytes.toBytes(columnFamily))
+                .setFilter(new FirstKeyOnlyFilter());
+        if (caching > 0) {
+            scan.setCaching(caching);
+        }
+        try {
+            flush();
+            try (ResultScanner scanner = table.getScanner(scan)) {
+                long count = 0;
+                while (scanner.next() != null) {
+                    count++;
+                }
+                return count;
+            }
+        } catch (IOException e) {
+            throw new HBaseException("An error when try to count the rows of the family " + columnFamily, e);
+        }
     }
 
 
     @Override
     public void close() {
         try {
-            connection.close();
-            table.close();
+            try {
+                mutator.close();
+            } finally {
+                table.close();
+            }
         } catch (IOException e) {
-            e.printStackTrace();
+            throw new HBaseException("An error happened when try to close the manager", e);
         }
+        failures.check();
     }
 
-    private String valueToString(Value value) {
-        Object object = value.get();
-        if (writerField.test(object.getClass())) {
-            return writerField.write(object).toString();
-        } else {
-            return object.toString();
-        }
+    private void flush() throws IOException {
+        mutator.flush();
+        failures.check();
     }
 
-    private Result[] findById(CriteriaCondition condition) {
+    private Put toPut(CommunicationEntity entity) {
+        String family = entity.name();
+        Element columnID = entity.find(HBaseUtils.KEY_COLUMN).orElseThrow(() -> new HBaseException(KEY_REQUIRED_ERROR));
+        Put put = new Put(Bytes.toBytes(valueToString(columnID.value())));
+        entity.elements().stream().filter(Predicate.isEqual(columnID).negate()).forEach(column ->
+                put.addColumn(Bytes.toBytes(family),
+                        Bytes.toBytes(column.name()),
+                        encoder.encode(column.name(), column.get())));
+        return put;
+    }
+
+    private Result[] findById(CriteriaCondition condition, SelectQuery query) {
         List<String> values = new ArrayList<>();
         convert(condition, values);
 
+        byte[] family = Bytes.toBytes(query.name());
+        List<byte[]> columns = query.columns().stream()
+                .filter(column -> !HBaseUtils.KEY_COLUMN.equals(column))
+                .map(Bytes::toBytes).toList();
         List<Get> gets = values.stream()
                 .map(String::getBytes)
-                .map(Get::new).collect(toList());
+                .map(Get::new)
+                .map(get -> columns.isEmpty() ? get.addFamily(family) : project(get, family, columns))
+                .collect(toList());
         try {
+            flush();
             return table.get(gets);
         } catch (IOException e) {
             throw new HBaseException("An error when try to find by id", e);
@@ -209,6 +294,11 @@ public class HBaseColumnManager implements DatabaseManager {
     }
 
 
+    private static Get project(Get get, byte[] family, List<byte[]> columns) {
+        columns.forEach(column -> get.addColumn(family, column));
+        return get;
+    }
+
     private void convert(CriteriaCondition columnCondition, List<String> values) {
         Condition condition = columnCondition.condition();
 
@@ -18,6 +18,8 @@ package org.eclipse.jnosql.databases.hbase.communication;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.hbase.TableName;
 import org.apache.hadoop.hbase.client.Admin;
+import org.apache.hadoop.hbase.client.BufferedMutator;
+import org.apache.hadoop.hbase.client.BufferedMutatorParams;
 import org.apache.hadoop.hbase.client.ColumnFamilyDescriptor;
 import org.apache.hadoop.hbase.client.ColumnFamilyDescriptorBuilder;
 import org.apache.hadoop.hbase.client.Connection;
@@ -32,35 +34,82 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
+/**
+ * The {@link DatabaseManagerFactory} to HBase. Every {@link HBaseColumnManager} created by this factory shares
+ * a single cluster {@link Connection}, which is opened on the first {@link #apply(String)} and closed
+ * on {@link #close()}.
+ */
 public class HBaseColumnManagerFactory implements DatabaseManagerFactory {
 
+    static final long DEFAULT_FLUSH_TIMEOUT = 1_000L;
+
     private final Configuration configuration;
 
     private final List<String> families;
 
+    private final long writeBufferSize;
+
+    private final long flushTimeout;
+
+    private final int caching;
+
+    private final int batch;
+
+    private final CellEncoder encoder;
+
+    private Connection connection;
+
     HBaseColumnManagerFactory(Configuration configuration, List<String> families) {
+        this(configuration, families, 0L, DEFAULT_FLUSH_TIMEOUT, 0, 0, CellEncoder.of(CellCodec.TEXT));
+    }
+
+    HBaseColumnManagerFactory(Configuration configuration, List<String> families, long writeBufferSize,
+                              long flushTimeout, int caching, int batch, CellEncoder encoder) {
         this.configuration = configuration;
         this.families = families;
+        this.writeBufferSize = writeBufferSize;
+        this.flushTimeout = flushTimeout;
+        this.caching = caching;
+        this.batch = batch;
+        this.encoder = encoder;
     }
 
     @Override
     public HBaseColumnManager apply(String database) {
         try {
-            Connection connection = ConnectionFactory.createConnection(configuration);
-            Admin admin = connection.getAdmin();
+            Connection connection = connection();
             TableName tableName = TableName.valueOf(database);
-            if (admin.tableExists(tableName)) {
-                existTable(admin, tableName);
-            } else {
-                createTable(admin, tableName);
+            try (Admin admin = connection.getAdmin()) {
+                if (admin.tableExists(tableName)) {
+                    existTable(admin, tableName);
+                } else {
+                    createTable(admin, tableName);
+                }
             }
             Table table = connection.getTable(tableName);
-            return new HBaseColumnManager(connection, table, database);
+            BufferedMutatorParams params = new BufferedMutatorParams(tableName);
+            if (writeBufferSize > 0) {
+                params.writeBufferSize(writeBufferSize);
+            }
+            if (flushTimeout > 0) {
+                params.setWriteBufferPeriodicFlushTimeoutMs(flushTimeout);
+            }
+            MutationFailures failures = new MutationFailures();
+            params.listener(failures);
+            BufferedMutator mutator = connection.getBufferedMutator(params);
+            return new HBaseColumnManager(table, mutator, failures, database, caching, batch, encoder);
         } catch (IOException e) {
             throw new HBaseException("A error happened when try to create ColumnManager", e);
         }
     }
 
+    private synchronized Connection connection() throws IOException {
+        if (connection == null || connection.isClosed()) {
+            connection = ConnectionFactory.createConnection(configuration);
+        }
+        return connection;
+    }
+
 
     private void existTable(Admin admin, TableName tableName) throws IOException {
         TableDescriptor tableDescriptor = admin.getDescriptor(tableName);
@@ -86,8 +135,16 @@ public class HBaseColumnManagerFactory implements DatabaseManagerFactory {
     }
 
     @Override
-    public void close() {
-
+    public synchronized void close() {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+            connection = null;
+        } catch (IOException e) {
+            throw new HBaseException("An error happened when try to close the connection", e);
+        }
     }
 
 
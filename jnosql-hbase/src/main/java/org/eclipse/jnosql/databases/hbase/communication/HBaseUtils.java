@@ -15,12 +15,17 @@
 package org.eclipse.jnosql.databases.hbase.communication;
 
 
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.communication.ValueWriter;
+import org.eclipse.jnosql.communication.ValueWriterDecorator;
 import org.eclipse.jnosql.communication.semistructured.Element;
 
 final class HBaseUtils {
 
     static final String KEY_COLUMN = "_id";
 
+    private static final ValueWriter WRITER = ValueWriterDecorator.getInstance();
+
     private HBaseUtils() {
     }
 
@@ -29,5 +34,17 @@ final class HBaseUtils {
         return Element.of(KEY_COLUMN, value);
     }
 
+    static String valueToString(Value value) {
+        return valueToString(value.get());
+    }
+
+    static String valueToString(Object object) {
+        if (WRITER.test(object.getClass())) {
+            return WRITER.write(object).toString();
+        } else {
+            return object.toString();
+        }
+    }
+
 
 }
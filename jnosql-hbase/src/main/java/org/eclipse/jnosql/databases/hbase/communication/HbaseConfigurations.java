@@ -29,7 +29,40 @@ public enum  HbaseConfigurations implements Supplier<String> {
     /**
      * The Column family prefixes. E.g.: jnosql.hbase.family.1=FAMILY
      */
-    FAMILY("jnosql.hbase.family");
+    FAMILY("jnosql.hbase.family"),
+    /**
+     * The size in bytes of the write buffer of the {@link org.apache.hadoop.hbase.client.BufferedMutator}
+     * used for the single writes. By default, it uses the HBase client setting, {@code hbase.client.write.buffer}.
+     */
+    WRITE_BUFFER_SIZE("jnosql.hbase.write.buffer.size"),
+    /**
+     * The time in milliseconds after which the pending writes of the write buffer are flushed, even when it is
+     * not full. The default value is "1000"; zero disables the periodic flush.
+     */
+    WRITE_BUFFER_FLUSH_TIMEOUT("jnosql.hbase.write.buffer.flush.timeout"),
+    /**
+     * The number of rows fetched per round trip by a scan. By default, it uses the HBase client setting,
+     * {@code hbase.client.scanner.caching}.
+     */
+    SCAN_CACHING("jnosql.hbase.scan.caching"),
+    /**
+     * The maximum number of columns returned per round trip by a scan, which bounds the memory of wide rows.
+     * It is not applied to a query that filters by a column value, since HBase does not allow it.
+     */
+    SCAN_BATCH("jnosql.hbase.scan.batch"),
+    /**
+     * The encoding of the cell values: "text", the default, stores every value as text; "typed" stores numbers and
+     * booleans as binary values with a type marker, so the range conditions compare them by value. The typed
+     * values are only compared with values of the same type, so define the {@link #CELL_TYPE} of the number
+     * columns that are filtered. The row keys are always stored as text.
+     */
+    CELL_ENCODING("jnosql.hbase.cell.encoding"),
+    /**
+     * The number type of a column, as column:type, where the type is short, integer, long, float or double.
+     * The values of the column, both stored and at the query conditions, are converted to this type before
+     * being encoded. It is a prefix to enumerate the columns. E.g.: jnosql.hbase.cell.type.1=age:long
+     */
+    CELL_TYPE("jnosql.hbase.cell.type");
 
     private final String configuration;
 
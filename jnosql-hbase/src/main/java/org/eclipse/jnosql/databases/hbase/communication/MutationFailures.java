@@ -0,0 +1,58 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.hbase.communication;
+
+
+import org.apache.hadoop.hbase.client.BufferedMutator;
+import org.apache.hadoop.hbase.client.RetriesExhaustedWithDetailsException;
+
+import java.util.Objects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Records the writes of a {@link BufferedMutator} that failed after their retries, including the ones flushed
+ * in the background, so the manager reports them on its next operation instead of losing them.
+ */
+final class MutationFailures implements BufferedMutator.ExceptionListener {
+
+    private static final Logger LOGGER = Logger.getLogger(MutationFailures.class.getName());
+
+    private RetriesExhaustedWithDetailsException failure;
+
+    @Override
+    public synchronized void onException(RetriesExhaustedWithDetailsException exception, BufferedMutator mutator) {
+        LOGGER.log(Level.WARNING, "The buffered writes failed at the table " + mutator.getName()
+                + ": " + exception.getMessage());
+        if (Objects.isNull(failure)) {
+            failure = exception;
+        } else {
+            failure.addSuppressed(exception);
+        }
+    }
+
+    /**
+     * Throws the failures recorded since the last check, if any, and clears them.
+     *
+     * @throws HBaseException when a buffered write failed
+     */
+    synchronized void check() {
+        if (Objects.nonNull(failure)) {
+            RetriesExhaustedWithDetailsException exception = failure;
+            failure = null;
+            throw new HBaseException("The buffered writes failed after their retries", exception);
+        }
+    }
+}
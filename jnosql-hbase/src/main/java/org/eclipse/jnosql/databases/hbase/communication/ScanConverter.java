@@ -0,0 +1,306 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.hbase.communication;
+
+
+import org.apache.hadoop.hbase.CompareOperator;
+import org.apache.hadoop.hbase.client.Scan;
+import org.apache.hadoop.hbase.filter.BinaryComparator;
+import org.apache.hadoop.hbase.filter.ByteArrayComparable;
+import org.apache.hadoop.hbase.filter.Filter;
+import org.apache.hadoop.hbase.filter.FilterList;
+import org.apache.hadoop.hbase.filter.PrefixFilter;
+import org.apache.hadoop.hbase.filter.RegexStringComparator;
+import org.apache.hadoop.hbase.filter.RowFilter;
+import org.apache.hadoop.hbase.filter.SingleColumnValueFilter;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.TypeReference;
+import org.eclipse.jnosql.communication.ValueUtil;
+import org.eclipse.jnosql.communication.ValueWriterDecorator;
+import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
+import org.eclipse.jnosql.communication.semistructured.Element;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import static org.eclipse.jnosql.databases.hbase.communication.HBaseUtils.KEY_COLUMN;
+import static org.eclipse.jnosql.databases.hbase.communication.HBaseUtils.valueToString;
+
+/**
+ * Converts a {@link SelectQuery} into a {@link Scan}.
+ * The conditions on the row key narrow the start and stop rows whenever they are required by the whole query,
+ * and every condition also becomes a filter: a {@link RowFilter} or a {@link PrefixFilter} to the row key and
+ * a {@link SingleColumnValueFilter} to the other columns. The row keys are compared as text and the other values
+ * as encoded by the {@link CellEncoder}, the same way they are stored.
+ * A scan returns the rows in row key order, so the only sort supported is the ascending row key.
+ */
+final class ScanConverter {
+
+    private final byte[] family;
+
+    private final CellEncoder encoder;
+
+    private final Set<String> columns = new LinkedHashSet<>();
+
+    private byte[] start;
+
+    private boolean startInclusive = true;
+
+    private byte[] stop;
+
+    private boolean stopInclusive;
+
+    private ScanConverter(String family, CellEncoder encoder) {
+        this.family = Bytes.toBytes(family);
+        this.encoder = encoder;
+    }
+
+    /**
+     * Checks whether the condition only looks up row keys, using EQUALS, IN and OR, so it can run as gets.
+     *
+     * @param condition the condition
+     * @return true when the condition is a row key lookup
+     */
+    static boolean isKeyLookup(CriteriaCondition condition) {
+        return switch (condition.condition()) {
+            case EQUALS, IN -> KEY_COLUMN.equals(condition.element().name());
+            case OR -> conditions(condition).stream().allMatch(ScanConverter::isKeyLookup);
+            default -> false;
+        };
+    }
+
+    /**
+     * Checks that the query sorts, if any, are by the row key in ascending order, the order HBase returns the rows.
+     *
+     * @param query the query
+     * @throws UnsupportedOperationException when there is a sort by another column or in descending order
+     */
+    static void checkSorts(SelectQuery query) {
+        query.sorts().stream()
+                .filter(sort -> !KEY_COLUMN.equals(sort.property()) || !sort.isAscending())
+                .findFirst()
+                .ifPresent(sort -> {
+                    throw new UnsupportedOperationException("Hbase only sorts by the row key in ascending order,"
+                            + " it does not support the sort by: " + sort.property()
+                            + (sort.isAscending() ? " ascending" : " descending"));
+                });
+    }
+
+    static Scan of(SelectQuery query, CellEncoder encoder, int caching, int batch) {
+        checkSorts(query);
+        ScanConverter converter = new ScanConverter(query.name(), encoder);
+        Scan scan = new Scan();
+        query.condition().ifPresent(condition -> {
+            converter.range(condition);
+            scan.setFilter(converter.filter(condition));
+        });
+        if (Objects.nonNull(converter.start)) {
+            scan.withStartRow(converter.start, converter.startInclusive);
+        }
+        if (Objects.nonNull(converter.stop)) {
+            scan.withStopRow(converter.stop, converter.stopInclusive);
+        }
+        List<String> projection = query.columns().stream()
+                .filter(column -> !KEY_COLUMN.equals(column)).toList();
+        if (projection.isEmpty()) {
+            scan.addFamily(converter.family);
+        } else {
+            converter.columns.addAll(projection);
+            converter.columns.forEach(column -> scan.addColumn(converter.family, Bytes.toBytes(column)));
+        }
+        if (caching > 0) {
+            scan.setCaching(caching);
+        }
+        if (batch > 0 && (Objects.isNull(scan.getFilter()) || !scan.getFilter().hasFilterRow())) {
+            scan.setBatch(batch);
+        }
+        if (query.limit() > 0) {
+            scan.setLimit((int) Math.min(Integer.MAX_VALUE, query.skip() + query.limit()));
+        }
+        return scan;
+    }
+
+    private void range(CriteriaCondition condition) {
+        if (Condition.AND.equals(condition.condition())) {
+            conditions(condition).forEach(this::range);
+            return;
+        }
+        Element element = condition.element();
+        if (!KEY_COLUMN.equals(element.name())) {
+            return;
+        }
+        switch (condition.condition()) {
+            case EQUALS -> {
+                lower(bytes(element.get()), true);
+                upper(bytes(element.get()), true);
+            }
+            case GREATER_THAN -> lower(bytes(element.get()), false);
+            case GREATER_EQUALS_THAN -> lower(bytes(element.get()), true);
+            case LESSER_THAN -> upper(bytes(element.get()), false);
+            case LESSER_EQUALS_THAN -> upper(bytes(element.get()), true);
+            case BETWEEN -> {
+                List<Object> values = values(element);
+                lower(bytes(values.get(0)), true);
+                upper(bytes(values.get(1)), true);
+            }
+            case LIKE -> {
+                String pattern = valueToString(element.value());
+                if (isPrefix(pattern)) {
+                    byte[] prefix = Bytes.toBytes(prefix(pattern));
+                    lower(prefix, true);
+                    byte[] next = next(prefix);
+                    if (Objects.nonNull(next)) {
+                        upper(next, false);
+                    }
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    private Filter filter(CriteriaCondition condition) {
+        Element element = condition.element();
+        return switch (condition.condition()) {
+            case AND -> new FilterList(FilterList.Operator.MUST_PASS_ALL,
+                    conditions(condition).stream().map(this::filter).toList());
+            case OR -> new FilterList(FilterList.Operator.MUST_PASS_ONE,
+                    conditions(condition).stream().map(this::filter).toList());
+            case NOT -> {
+                CriteriaCondition negated = element.get(CriteriaCondition.class);
+                if (!Condition.EQUALS.equals(negated.condition())) {
+                    throw new UnsupportedOperationException("Hbase does not support the NOT condition with: "
+                            + negated.condition());
+                }
+                Element value = negated.element();
+                yield compare(value.name(), CompareOperator.NOT_EQUAL, value.get());
+            }
+            case EQUALS -> compare(element.name(), CompareOperator.EQUAL, element.get());
+            case GREATER_THAN -> compare(element.name(), CompareOperator.GREATER, element.get());
+            case GREATER_EQUALS_THAN -> compare(element.name(), CompareOperator.GREATER_OR_EQUAL, element.get());
+            case LESSER_THAN -> compare(element.name(), CompareOperator.LESS, element.get());
+            case LESSER_EQUALS_THAN -> compare(element.name(), CompareOperator.LESS_OR_EQUAL, element.get());
+            case IN -> new FilterList(FilterList.Operator.MUST_PASS_ONE, values(element).stream()
+                    .map(value -> compare(element.name(), CompareOperator.EQUAL, value))
+                    .toList());
+            case BETWEEN -> {
+                List<Object> values = values(element);
+                yield new FilterList(FilterList.Operator.MUST_PASS_ALL,
+                        compare(element.name(), CompareOperator.GREATER_OR_EQUAL, values.get(0)),
+                        compare(element.name(), CompareOperator.LESS_OR_EQUAL, values.get(1)));
+            }
+            case LIKE -> {
+                String pattern = valueToString(element.value());
+                if (KEY_COLUMN.equals(element.name())) {
+                    if (isPrefix(pattern)) {
+                        yield new PrefixFilter(Bytes.toBytes(prefix(pattern)));
+                    }
+                    yield new RowFilter(CompareOperator.EQUAL, new RegexStringComparator("^" + regex(pattern)));
+                }
+                yield column(element.name(), CompareOperator.EQUAL,
+                        new RegexStringComparator(encoder.textPattern(regex(pattern))));
+            }
+            default -> throw new UnsupportedOperationException("Hbase does not support the following condition: "
+                    + condition.condition());
+        };
+    }
+
+    private Filter compare(String name, CompareOperator operator, Object value) {
+        if (KEY_COLUMN.equals(name)) {
+            return new RowFilter(operator, new BinaryComparator(bytes(value)));
+        }
+        return column(name, operator, new BinaryComparator(encoder.encode(name, value)));
+    }
+
+    private Filter column(String name, CompareOperator operator, ByteArrayComparable comparator) {
+        columns.add(name);
+        SingleColumnValueFilter filter = new SingleColumnValueFilter(family, Bytes.toBytes(name), operator, comparator);
+        filter.setFilterIfMissing(true);
+        filter.setLatestVersionOnly(true);
+        return filter;
+    }
+
+    private void lower(byte[] row, boolean inclusive) {
+        int compare = Objects.isNull(start) ? 1 : Bytes.compareTo(row, start);
+        if (compare > 0 || (compare == 0 && !inclusive)) {
+            this.start = row;
+            this.startInclusive = inclusive;
+        }
+    }
+
+    private void upper(byte[] row, boolean inclusive) {
+        int compare = Objects.isNull(stop) ? -1 : Bytes.compareTo(row, stop);
+        if (compare < 0 || (compare == 0 && !inclusive)) {
+            this.stop = row;
+            this.stopInclusive = inclusive;
+        }
+    }
+
+    private static List<CriteriaCondition> conditions(CriteriaCondition condition) {
+        return condition.element().get(new TypeReference<>() {
+        });
+    }
+
+    private static List<Object> values(Element element) {
+        return ValueUtil.convertToList(element.value(), ValueWriterDecorator.getInstance());
+    }
+
+    private static byte[] bytes(Object value) {
+        return Bytes.toBytes(valueToString(value));
+    }
+
+    private static boolean isPrefix(String pattern) {
+        if (!pattern.endsWith("%")) {
+            return false;
+        }
+        String prefix = prefix(pattern);
+        return !prefix.isEmpty() && !prefix.contains("%") && !prefix.contains("_");
+    }
+
+    private static String prefix(String pattern) {
+        return pattern.substring(0, pattern.length() - 1);
+    }
+
+    /**
+     * Returns the first row after every row starting with the prefix, or null when there is none.
+     */
+    private static byte[] next(byte[] prefix) {
+        for (int index = prefix.length - 1; index >= 0; index--) {
+            if (prefix[index] != (byte) 0xFF) {
+                byte[] next = Bytes.copy(prefix, 0, index + 1);
+                next[index]++;
+                return next;
+            }
+        }
+        return null;
+    }
+
+    private static String regex(String pattern) {
+        StringBuilder regex = new StringBuilder();
+        for (char character : pattern.toCharArray()) {
+            switch (character) {
+                case '%' -> regex.append(".*");
+                case '_' -> regex.append('.');
+                default -> regex.append(Pattern.quote(String.valueOf(character)));
+            }
+        }
+        return regex.append('$').toString();
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.hbase.communication;
+
+
+import org.apache.hadoop.hbase.client.Result;
+import org.apache.hadoop.hbase.client.ResultScanner;
+import org.apache.hadoop.hbase.client.Scan;
+import org.apache.hadoop.hbase.client.Table;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Lazily walks a {@link Scan}, skipping the first rows and returning up to the limit, opening the
+ * {@link ResultScanner} on the first read and closing it once the rows are exhausted, once the limit is reached,
+ * or on {@link #close()}.
+ * When the scan has a batch, a wide row arrives as several consecutive results, which are merged back into
+ * a single entity.
+ */
+final class ScanIterator implements Iterator<CommunicationEntity>, AutoCloseable {
+
+    private final Table table;
+
+    private final Scan scan;
+
+    private ResultScanner scanner;
+
+    private Result pending;
+
+    private boolean exhausted;
+
+    private long skip;
+
+    private long remaining;
+
+    ScanIterator(Table table, Scan scan, long skip, long limit) {
+        this.table = table;
+        this.scan = scan;
+        this.skip = skip;
+        this.remaining = limit > 0 ? limit : Long.MAX_VALUE;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (skip > 0 && hasPending()) {
+            read();
+            skip--;
+        }
+        return hasPending();
+    }
+
+    @Override
+    public CommunicationEntity next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("There is no more rows at the table: " + table.getName());
+        }
+        CommunicationEntity entity = read().toEntity();
+        if (--remaining == 0) {
+            close();
+        }
+        return entity;
+    }
+
+    @Override
+    public void close() {
+        exhausted = true;
+        pending = null;
+        if (Objects.nonNull(scanner)) {
+            scanner.close();
+            scanner = null;
+        }
+    }
+
+    private boolean hasPending() {
+        if (Objects.isNull(pending) && !exhausted) {
+            pending = fetch();
+        }
+        return Objects.nonNull(pending);
+    }
+
+    private EntityUnit read() {
+        byte[] row = pending.getRow();
+        EntityUnit unit = new EntityUnit(pending);
+        pending = null;
+        while (hasPending() && Bytes.equals(row, pending.getRow())) {
+            unit.add(pending);
+            pending = null;
+        }
+        return unit;
+    }
+
+    private Result fetch() {
+        try {
+            if (Objects.isNull(scanner)) {
+                scanner = table.getScanner(scan);
+            }
+            Result result = scanner.next();
+            if (Objects.isNull(result)) {
+                close();
+            }
+            return result;
+        } catch (IOException e) {
+            close();
+            throw new HBaseException("An error when try to scan the table " + table.getName(), e);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.hbase.communication;
+
+import org.apache.hadoop.hbase.util.Bytes;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CellCodecTest {
+
+    @Test
+    void shouldKeepTheType() {
+        assertThat(decode(CellCodec.TYPED.encode(26))).isEqualTo(26);
+        assertThat(decode(CellCodec.TYPED.encode(-26L))).isEqualTo(-26L);
+        assertThat(decode(CellCodec.TYPED.encode((short) 3))).isEqualTo((short) 3);
+        assertThat(decode(CellCodec.TYPED.encode(-1.5D))).isEqualTo(-1.5D);
+        assertThat(decode(CellCodec.TYPED.encode(2.5F))).isEqualTo(2.5F);
+        assertThat(decode(CellCodec.TYPED.encode(true))).isEqualTo(true);
+        assertThat(decode(CellCodec.TYPED.encode("Brazil"))).isEqualTo("Brazil");
+    }
+
+    @Test
+    void shouldReadText() {
+        assertThat(decode(CellCodec.TEXT.encode(26))).isEqualTo("26");
+        assertThat(decode(Bytes.toBytes("Brazil"))).isEqualTo("Brazil");
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {Long.MIN_VALUE, -10L, -1L, 0L, 1L, 10L})
+    void shouldPreserveTheLongOrder(long value) {
+        assertThat(Bytes.compareTo(CellCodec.TYPED.encode(value), CellCodec.TYPED.encode(value + 1)))
+                .isNegative();
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {-10.5D, -1D, -0.5D, 0D, 0.5D, 10D})
+    void shouldPreserveTheDoubleOrder(double value) {
+        assertThat(Bytes.compareTo(CellCodec.TYPED.encode(value), CellCodec.TYPED.encode(value + 0.25D)))
+                .isNegative();
+    }
+
+    private static Object decode(byte[] bytes) {
+        return CellCodec.decode(bytes, 0, bytes.length);
+    }
+}
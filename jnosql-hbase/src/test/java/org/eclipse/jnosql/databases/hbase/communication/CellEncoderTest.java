@@ -0,0 +1,52 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.hbase.communication;
+
+import org.apache.hadoop.hbase.util.Bytes;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CellEncoderTest {
+
+    private final CellEncoder encoder = CellEncoder.of(CellCodec.TYPED, List.of("amount:long", "price: double"));
+
+    @Test
+    void shouldEncodeTheNumbersWithTheColumnType() {
+        assertThat(encoder.encode("amount", 20)).isEqualTo(CellCodec.TYPED.encode(20L));
+        assertThat(encoder.encode("amount", (short) 20)).isEqualTo(CellCodec.TYPED.encode(20L));
+        assertThat(encoder.encode("price", 20)).isEqualTo(CellCodec.TYPED.encode(20D));
+        assertThat(encoder.encode("age", 20)).isEqualTo(CellCodec.TYPED.encode(20));
+        assertThat(encoder.encode("amount", "text")).isEqualTo(CellCodec.TYPED.encode("text"));
+    }
+
+    @Test
+    void shouldCompareIntegerAndLongValuesOfTheSameColumn() {
+        assertThat(Bytes.compareTo(encoder.encode("amount", 9), encoder.encode("amount", 10L))).isNegative();
+        assertThat(Bytes.compareTo(encoder.encode("amount", 100L), encoder.encode("amount", 10))).isPositive();
+        assertThat(Bytes.compareTo(encoder.encode("amount", -1), encoder.encode("amount", 0L))).isNegative();
+    }
+
+    @Test
+    void shouldReturnErrorWhenTheTypeIsInvalid() {
+        assertThatThrownBy(() -> CellEncoder.of(CellCodec.TYPED, List.of("amount")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CellEncoder.of(CellCodec.TYPED, List.of("amount:decimal")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
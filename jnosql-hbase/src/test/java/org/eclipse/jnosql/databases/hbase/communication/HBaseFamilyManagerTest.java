@@ -101,6 +101,110 @@ public class HBaseFamilyManagerTest {
 
     }
 
+    @Test
+    public void shouldInsertIterable() {
+        manager.insert(List.of(createEntity(), createEntity2()));
+
+        var query = select().from(FAMILY).where(ID_FIELD).eq("otaviojava")
+                .or(ID_FIELD).eq("poliana").build();
+
+        List<CommunicationEntity> entities = manager.select(query).toList();
+        assertEquals(2, entities.size());
+    }
+
+    @Test
+    public void shouldScanByKeyRange() {
+        manager.insert(List.of(createEntity(), createEntity2()));
+
+        var query = select().from(FAMILY).where(ID_FIELD).gte("otaviojava")
+                .and(ID_FIELD).lte("poliana").build();
+
+        List<String> ids = manager.select(query).map(e -> e.find(ID_FIELD).orElseThrow().get(String.class)).toList();
+        assertThat(ids).contains("otaviojava", "poliana");
+    }
+
+    @Test
+    public void shouldScanByPrefixAndColumnValue() {
+        manager.insert(List.of(createEntity(), createEntity2()));
+
+        var query = select("age").from(FAMILY).where(ID_FIELD).like("pol%")
+                .and("country").eq("Brazil").build();
+
+        List<CommunicationEntity> entities = manager.select(query).toList();
+        assertEquals(1, entities.size());
+        assertThat(entities.get(0).elements()).contains(Element.of(ID_FIELD, "poliana"), Element.of("age", "24"));
+    }
+
+    @Test
+    public void shouldScanWithSkipAndLimit() {
+        manager.insert(List.of(createEntity(), createEntity2()));
+
+        var query = select().from(FAMILY).where(ID_FIELD).gte("otaviojava")
+                .and(ID_FIELD).lte("poliana").orderBy(ID_FIELD).asc().skip(1).limit(1).build();
+
+        try (var entities = manager.select(query)) {
+            List<String> ids = entities.map(e -> e.find(ID_FIELD).orElseThrow().get(String.class)).toList();
+            assertThat(ids).containsExactly("poliana");
+        }
+    }
+
+    @Test
+    public void shouldReturnErrorWhenSortIsNotByRowKeyAscending() {
+        var byColumn = select().from(FAMILY).orderBy("age").asc().build();
+        var descending = select().from(FAMILY).orderBy(ID_FIELD).desc().build();
+
+        assertThrows(UnsupportedOperationException.class, () -> manager.select(byColumn));
+        assertThrows(UnsupportedOperationException.class, () -> manager.select(descending));
+    }
+
+    @Test
+    public void shouldFindByIdsWithSkipAndLimit() {
+        manager.insert(List.of(createEntity(), createEntity2()));
+
+        var query = select().from(FAMILY).where(ID_FIELD).in(List.of("otaviojava", "poliana"))
+                .orderBy(ID_FIELD).asc().skip(1).limit(1).build();
+        var limit = select().from(FAMILY).where(ID_FIELD).eq("otaviojava")
+                .or(ID_FIELD).eq("poliana").orderBy(ID_FIELD).asc().limit(1).build();
+
+        assertThat(manager.select(query).map(e -> e.find(ID_FIELD).orElseThrow().get(String.class)).toList())
+                .containsExactly("poliana");
+        assertThat(manager.select(limit).map(e -> e.find(ID_FIELD).orElseThrow().get(String.class)).toList())
+                .containsExactly("otaviojava");
+    }
+
+    @Test
+    public void shouldCount() {
+        List<String> ids = manager.select(select().from(FAMILY).build())
+                .map(e -> e.find(ID_FIELD).orElseThrow().get(String.class)).toList();
+        if (!ids.isEmpty()) {
+            manager.delete(delete().from(FAMILY).where(ID_FIELD).in(ids).build());
+        }
+        manager.insert(List.of(createEntity(), createEntity2()));
+        assertThat(manager.count(FAMILY)).isEqualTo(2L);
+    }
+
+    @Test
+    public void shouldCompareIntegerConditionsWithLongTypedColumns() {
+        HBaseColumnConfiguration configuration = new HBaseColumnConfiguration();
+        configuration.add("measure");
+        Settings settings = Settings.builder()
+                .put(HbaseConfigurations.CELL_ENCODING, "typed")
+                .put(HbaseConfigurations.CELL_TYPE.get() + ".1", "amount:long")
+                .build();
+        try (DatabaseManagerFactory factory = configuration.apply(settings);
+             DatabaseManager typed = factory.apply("typed")) {
+            typed.insert(List.of(measure("m1", 5L), measure("m2", 9L), measure("m3", 10L), measure("m4", 100L)));
+
+            var greater = select().from("measure").where("amount").gt(9).build();
+            var between = select().from("measure").where("amount").between(6, 10).build();
+
+            assertThat(typed.select(greater).map(e -> e.find(ID_FIELD).orElseThrow().get(String.class)).toList())
+                    .containsExactly("m3", "m4");
+            assertThat(typed.select(between).map(e -> e.find(ID_FIELD).orElseThrow().get(String.class)).toList())
+                    .containsExactly("m2", "m3");
+        }
+    }
+
     @Test
     public void shouldDeleteEntity() {
         manager.insert(createEntity());
@@ -127,6 +231,13 @@ public class HBaseFamilyManagerTest {
         assertTrue(entities.isEmpty());
     }
 
+    private static CommunicationEntity measure(String id, long amount) {
+        CommunicationEntity entity = CommunicationEntity.of("measure");
+        entity.add(Element.of(ID_FIELD, id));
+        entity.add(Element.of("amount", amount));
+        return entity;
+    }
+
     private CommunicationEntity createEntity() {
         CommunicationEntity entity = CommunicationEntity.of(FAMILY);
         entity.add(Element.of(ID_FIELD, "otaviojava"));
@@ -0,0 +1,63 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.hbase.communication;
+
+import org.apache.hadoop.hbase.TableName;
+import org.apache.hadoop.hbase.client.BufferedMutator;
+import org.apache.hadoop.hbase.client.Put;
+import org.apache.hadoop.hbase.client.RetriesExhaustedWithDetailsException;
+import org.apache.hadoop.hbase.client.Row;
+import org.apache.hadoop.hbase.util.Bytes;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MutationFailuresTest {
+
+    @Test
+    void shouldNotThrowWithoutFailures() {
+        assertThatCode(new MutationFailures()::check).doesNotThrowAnyException();
+    }
+
+    @Test
+    void shouldThrowRecordedFailuresOnce() {
+        BufferedMutator mutator = Mockito.mock(BufferedMutator.class);
+        Mockito.when(mutator.getName()).thenReturn(TableName.valueOf("person"));
+        MutationFailures failures = new MutationFailures();
+        RetriesExhaustedWithDetailsException first = failure("otaviojava");
+        RetriesExhaustedWithDetailsException second = failure("poliana");
+
+        failures.onException(first, mutator);
+        failures.onException(second, mutator);
+
+        assertThatThrownBy(failures::check)
+                .isInstanceOf(HBaseException.class)
+                .hasCause(first)
+                .satisfies(exception -> assertThat(exception.getCause().getSuppressed()).containsExactly(second));
+        assertThatCode(failures::check).doesNotThrowAnyException();
+    }
+
+    private static RetriesExhaustedWithDetailsException failure(String row) {
+        List<Throwable> causes = List.of(new IOException("region unavailable"));
+        List<Row> rows = List.of(new Put(Bytes.toBytes(row)));
+        return new RetriesExhaustedWithDetailsException(causes, rows, List.of("localhost:16020"));
+    }
+}
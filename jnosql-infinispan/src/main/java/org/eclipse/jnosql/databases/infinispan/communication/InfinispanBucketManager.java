@@ -15,21 +15,34 @@
 
 package org.eclipse.jnosql.databases.infinispan.communication;
 
+import org.eclipse.jnosql.communication.CommunicationException;
 import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.communication.keyvalue.BucketManager;
 import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
 import org.infinispan.commons.api.BasicCache;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
-import java.util.function.Function;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
+
+import static java.util.Objects.requireNonNull;
 
 /**
- * The Infinispan implementation of {@link BucketManager}
+ * The Infinispan implementation of {@link BucketManager}.
+ * The iterable operations are sent in bulk, and the async operations return without blocking the caller thread.
+ * The iterable delete keeps at most the in-flight limit of removals running at once,
+ * see {@link InfinispanConfigurations#MAX_IN_FLIGHT}.
  */
 public class InfinispanBucketManager implements BucketManager {
 
@@ -37,9 +50,12 @@ public class InfinispanBucketManager implements BucketManager {
 
     private final String bucket;
 
-    InfinispanBucketManager(BasicCache cache, String bucket) {
+    private final int maxInFlight;
+
+    InfinispanBucketManager(BasicCache cache, String bucket, int maxInFlight) {
         this.cache = cache;
         this.bucket = bucket;
+        this.maxInFlight = maxInFlight;
     }
 
     @Override
@@ -64,12 +80,15 @@ public class InfinispanBucketManager implements BucketManager {
 
     @Override
     public void put(Iterable<KeyValueEntity> entities) throws NullPointerException {
-        StreamSupport.stream(entities.spliterator(), false).forEach(this::put);
+        requireNonNull(entities, "entities is required");
+        cache.putAll(toMap(entities));
     }
 
     @Override
     public void put(Iterable<KeyValueEntity> entities, Duration ttl) throws NullPointerException, UnsupportedOperationException {
-        StreamSupport.stream(entities.spliterator(), false).forEach(kv -> this.put(kv, ttl));
+        requireNonNull(entities, "entities is required");
+        requireNonNull(ttl, "ttl is required");
+        cache.putAll(toMap(entities), ttl.toMillis(), TimeUnit.MILLISECONDS);
     }
 
     @Override
@@ -83,8 +102,15 @@ public class InfinispanBucketManager implements BucketManager {
 
     @Override
     public <K> Iterable<Value> get(Iterable<K> keys) throws NullPointerException {
-        return StreamSupport.stream(keys.spliterator(), false).map((Function<K, Object>) cache::get).filter(Objects::nonNull)
-                .map(Value::of).collect(Collectors.toList());
+        requireNonNull(keys, "keys is required");
+        Set<K> uniqueKeys = new LinkedHashSet<>();
+        keys.forEach(uniqueKeys::add);
+        if (uniqueKeys.isEmpty()) {
+            return List.of();
+        }
+        Map<Object, Object> entries = cache.getAll(uniqueKeys);
+        return uniqueKeys.stream().map(entries::get).filter(Objects::nonNull)
+                .map(Value::of).toList();
     }
 
     @Override
@@ -94,10 +120,102 @@ public class InfinispanBucketManager implements BucketManager {
 
     @Override
     public <K> void delete(Iterable<K> keys) {
-        StreamSupport.stream(keys.spliterator(), false).forEach(this::delete);
+        requireNonNull(keys, "keys is required");
+        Semaphore slots = new Semaphore(maxInFlight);
+        List<CompletableFuture<?>> removals = new ArrayList<>();
+        try {
+            for (K key : keys) {
+                slots.acquire();
+                CompletableFuture<?> removal = cache.removeAsync(key);
+                removals.add(removal.whenComplete((result, error) -> slots.release()));
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new CommunicationException("The removals were interrupted at the bucket: " + bucket, exception);
+        }
+        join(CompletableFuture.allOf(removals.toArray(CompletableFuture[]::new)));
+    }
+
+    /**
+     * Puts the entity without blocking the caller thread
+     *
+     * @param entity the entity
+     * @return a {@link CompletionStage} completed once the entity is stored
+     * @throws NullPointerException when entity is null
+     */
+    public CompletionStage<Void> putAsync(KeyValueEntity entity) {
+        requireNonNull(entity, "entity is required");
+        CompletableFuture<Object> previous = cache.putAsync(entity.key(), entity.value());
+        return previous.thenAccept(v -> {
+        });
+    }
+
+    /**
+     * Puts the entity with a time to live without blocking the caller thread
+     *
+     * @param entity the entity
+     * @param ttl    the time to live
+     * @return a {@link CompletionStage} completed once the entity is stored
+     * @throws NullPointerException when either entity or ttl is null
+     */
+    public CompletionStage<Void> putAsync(KeyValueEntity entity, Duration ttl) {
+        requireNonNull(entity, "entity is required");
+        requireNonNull(ttl, "ttl is required");
+        CompletableFuture<Object> previous = cache.putAsync(entity.key(), entity.value(), ttl.toMillis(),
+                TimeUnit.MILLISECONDS);
+        return previous.thenAccept(v -> {
+        });
+    }
+
+    /**
+     * Finds the value of the key without blocking the caller thread
+     *
+     * @param key the key
+     * @param <K> the key type
+     * @return a {@link CompletionStage} completed with the value or {@link Optional#empty()} when there is no value
+     * @throws NullPointerException when key is null
+     */
+    public <K> CompletionStage<Optional<Value>> getAsync(K key) {
+        requireNonNull(key, "key is required");
+        CompletableFuture<Object> value = cache.getAsync(key);
+        return value.thenApply(v -> Optional.ofNullable(v).map(Value::of));
+    }
+
+    /**
+     * Removes the key without blocking the caller thread
+     *
+     * @param key the key
+     * @param <K> the key type
+     * @return a {@link CompletionStage} completed once the key is removed
+     * @throws NullPointerException when key is null
+     */
+    public <K> CompletionStage<Void> deleteAsync(K key) {
+        requireNonNull(key, "key is required");
+        CompletableFuture<Object> removed = cache.removeAsync(key);
+        return removed.thenAccept(v -> {
+        });
     }
 
     @Override
     public void close() {
     }
+
+    private static Map<Object, Object> toMap(Iterable<KeyValueEntity> entities) {
+        Map<Object, Object> entries = new LinkedHashMap<>();
+        for (KeyValueEntity entity : entities) {
+            entries.put(entity.key(), entity.value());
+        }
+        return entries;
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException exception) {
+            if (exception.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw exception;
+        }
+    }
 }
@@ -29,16 +29,25 @@ import java.util.Set;
  */
 public class InfinispanBucketManagerFactory implements BucketManagerFactory {
 
+    static final int DEFAULT_MAX_IN_FLIGHT = 64;
+
     private final BasicCacheContainer cacheContainer;
 
+    private final int maxInFlight;
+
     InfinispanBucketManagerFactory(BasicCacheContainer cacheContainer) {
+        this(cacheContainer, DEFAULT_MAX_IN_FLIGHT);
+    }
+
+    InfinispanBucketManagerFactory(BasicCacheContainer cacheContainer, int maxInFlight) {
         this.cacheContainer = cacheContainer;
+        this.maxInFlight = maxInFlight;
     }
 
     @Override
     public InfinispanBucketManager apply(String bucketName) {
         Objects.requireNonNull(bucketName, "bucketName is required");
-        return new InfinispanBucketManager(cacheContainer.getCache(bucketName), bucketName);
+        return new InfinispanBucketManager(cacheContainer.getCache(bucketName), bucketName, maxInFlight);
     }
 
     @Override
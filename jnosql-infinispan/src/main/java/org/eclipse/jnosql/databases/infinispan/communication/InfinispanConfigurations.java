@@ -32,7 +32,49 @@ public enum InfinispanConfigurations implements Supplier<String> {
     /**
      * The Infinispan configuration path. E.g.: jnosql.infinispan.config=infinispan.xml
      */
-    CONFIG("jnosql.infinispan.config");
+    CONFIG("jnosql.infinispan.config"),
+    /**
+     * The remote caches that keep a near cache at the client. It is a prefix to enumerate the cache names.
+     * E.g.: jnosql.infinispan.near.cache.name.1=users
+     */
+    NEAR_CACHE("jnosql.infinispan.near.cache.name"),
+    /**
+     * The near cache mode, either invalidated or disabled, the default is invalidated.
+     * E.g.: jnosql.infinispan.near.cache.mode=invalidated
+     */
+    NEAR_CACHE_MODE("jnosql.infinispan.near.cache.mode"),
+    /**
+     * The maximum number of entries kept at each near cache. E.g.: jnosql.infinispan.near.cache.max.entries=1000
+     */
+    NEAR_CACHE_MAX_ENTRIES("jnosql.infinispan.near.cache.max.entries"),
+    /**
+     * The maximum number of connections to each server. E.g.: jnosql.infinispan.pool.max.active=8
+     */
+    POOL_MAX_ACTIVE("jnosql.infinispan.pool.max.active"),
+    /**
+     * The minimum number of idle connections to each server. E.g.: jnosql.infinispan.pool.min.idle=1
+     */
+    POOL_MIN_IDLE("jnosql.infinispan.pool.min.idle"),
+    /**
+     * The maximum time, in milliseconds, to wait for a connection when the pool is exhausted.
+     * E.g.: jnosql.infinispan.pool.max.wait=1000
+     */
+    POOL_MAX_WAIT("jnosql.infinispan.pool.max.wait"),
+    /**
+     * The marshaller of the remote caches: protostream, java or the marshaller class name.
+     * E.g.: jnosql.infinispan.marshaller=java
+     */
+    MARSHALLER("jnosql.infinispan.marshaller"),
+    /**
+     * The class name regex allowed by the java serialization marshaller. It is a prefix to enumerate the regexes.
+     * E.g.: jnosql.infinispan.marshaller.allow.list.1=org.jnosql.*
+     */
+    MARSHALLER_ALLOW_LIST("jnosql.infinispan.marshaller.allow.list"),
+    /**
+     * The maximum number of asynchronous removals that the iterable delete keeps running at once.
+     * The default value is "64".
+     */
+    MAX_IN_FLIGHT("jnosql.infinispan.max.in.flight");
 
     private final String configuration;
 
@@ -20,12 +20,19 @@ import org.eclipse.jnosql.communication.Settings;
 import org.eclipse.jnosql.communication.SettingsBuilder;
 import org.eclipse.jnosql.communication.keyvalue.KeyValueConfiguration;
 import org.infinispan.client.hotrod.RemoteCacheManager;
+import org.infinispan.client.hotrod.configuration.ConfigurationBuilder;
+import org.infinispan.client.hotrod.configuration.ConnectionPoolConfigurationBuilder;
+import org.infinispan.client.hotrod.configuration.NearCacheMode;
+import org.infinispan.client.hotrod.configuration.RemoteCacheConfigurationBuilder;
+import org.infinispan.commons.marshall.JavaSerializationMarshaller;
+import org.infinispan.commons.marshall.ProtoStreamMarshaller;
 import org.infinispan.configuration.global.GlobalConfigurationBuilder;
 import org.infinispan.manager.DefaultCacheManager;
 
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -40,6 +47,9 @@ import static java.util.Objects.requireNonNull;
  */
 public class InfinispanKeyValueConfiguration implements KeyValueConfiguration {
 
+    private static final String PROTOSTREAM_MARSHALLER = "protostream";
+
+    private static final String JAVA_MARSHALLER = "java";
 
     /**
      * Creates a {@link InfinispanBucketManagerFactory} from configuration map
@@ -76,22 +86,78 @@ public class InfinispanKeyValueConfiguration implements KeyValueConfiguration {
 
         Optional<String> config = settings.get(InfinispanConfigurations.CONFIG)
                 .map(Object::toString);
+        int maxInFlight = settings.get(InfinispanConfigurations.MAX_IN_FLIGHT)
+                .map(Object::toString)
+                .map(Integer::parseInt)
+                .filter(value -> value > 0)
+                .orElse(InfinispanBucketManagerFactory.DEFAULT_MAX_IN_FLIGHT);
         if (!servers.isEmpty()) {
-            org.infinispan.client.hotrod.configuration.ConfigurationBuilder builder = new org.infinispan.client.hotrod.configuration.ConfigurationBuilder();
-            for(String server : servers) {
-                builder.addServer().host(server);
-            }
-            return  new InfinispanBucketManagerFactory(new RemoteCacheManager(builder.build()));
+            return  new InfinispanBucketManagerFactory(new RemoteCacheManager(remoteConfiguration(settings, servers)),
+                    maxInFlight);
         } else if (config.isPresent()) {
             try {
-                return new InfinispanBucketManagerFactory(new DefaultCacheManager(config.get()));
+                return new InfinispanBucketManagerFactory(new DefaultCacheManager(config.get()), maxInFlight);
             } catch (IOException e) {
                 throw new RuntimeException(e);
             }
         } else {
             GlobalConfigurationBuilder builder = new GlobalConfigurationBuilder();
             builder.jmx().enable();
-            return new InfinispanBucketManagerFactory(new DefaultCacheManager(builder.build()));
+            return new InfinispanBucketManagerFactory(new DefaultCacheManager(builder.build()), maxInFlight);
+        }
+    }
+
+    org.infinispan.client.hotrod.configuration.Configuration remoteConfiguration(Settings settings,
+                                                                                 List<String> servers) {
+        ConfigurationBuilder builder = new ConfigurationBuilder();
+        for (String server : servers) {
+            builder.addServer().host(server);
+        }
+
+        ConnectionPoolConfigurationBuilder pool = builder.connectionPool();
+        settings.get(InfinispanConfigurations.POOL_MAX_ACTIVE)
+                .map(Object::toString)
+                .map(Integer::parseInt)
+                .ifPresent(pool::maxActive);
+        settings.get(InfinispanConfigurations.POOL_MIN_IDLE)
+                .map(Object::toString)
+                .map(Integer::parseInt)
+                .ifPresent(pool::minIdle);
+        settings.get(InfinispanConfigurations.POOL_MAX_WAIT)
+                .map(Object::toString)
+                .map(Long::parseLong)
+                .ifPresent(pool::maxWait);
+
+        settings.get(InfinispanConfigurations.MARSHALLER)
+                .map(Object::toString)
+                .ifPresent(marshaller -> {
+                    switch (marshaller.toLowerCase(Locale.US)) {
+                        case PROTOSTREAM_MARSHALLER -> builder.marshaller(new ProtoStreamMarshaller());
+                        case JAVA_MARSHALLER -> builder.marshaller(new JavaSerializationMarshaller());
+                        default -> builder.marshaller(marshaller);
+                    }
+                });
+        settings.prefix(InfinispanConfigurations.MARSHALLER_ALLOW_LIST)
+                .stream().map(Object::toString)
+                .forEach(builder::addJavaSerialAllowList);
+
+        List<String> caches = settings.prefix(InfinispanConfigurations.NEAR_CACHE)
+                .stream().map(Object::toString)
+                .toList();
+        NearCacheMode mode = settings.get(InfinispanConfigurations.NEAR_CACHE_MODE)
+                .map(Object::toString)
+                .map(value -> NearCacheMode.valueOf(value.toUpperCase(Locale.US)))
+                .orElse(NearCacheMode.INVALIDATED);
+        Integer maxEntries = settings.get(InfinispanConfigurations.NEAR_CACHE_MAX_ENTRIES)
+                .map(Object::toString)
+                .map(Integer::parseInt)
+                .orElse(null);
+        for (String cache : caches) {
+            RemoteCacheConfigurationBuilder remoteCache = builder.remoteCache(cache).nearCacheMode(mode);
+            if (maxEntries != null) {
+                remoteCache.nearCacheMaxEntries(maxEntries);
+            }
         }
+        return builder.build();
     }
 }
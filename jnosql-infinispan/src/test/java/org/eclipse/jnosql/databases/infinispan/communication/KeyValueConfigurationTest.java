@@ -14,13 +14,18 @@
  */
 package org.eclipse.jnosql.databases.infinispan.communication;
 
+import org.eclipse.jnosql.communication.Settings;
 import org.eclipse.jnosql.communication.keyvalue.BucketManagerFactory;
+import org.infinispan.client.hotrod.configuration.NearCacheMode;
+import org.infinispan.commons.marshall.JavaSerializationMarshaller;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 public class KeyValueConfigurationTest {
@@ -39,4 +44,34 @@ public class KeyValueConfigurationTest {
         assertNotNull(managerFactory);
     }
 
+    @Test
+    public void shouldCreateRemoteConfiguration() {
+        var settings = Settings.builder()
+                .put(InfinispanConfigurations.NEAR_CACHE.get() + ".1", "heroes")
+                .put(InfinispanConfigurations.NEAR_CACHE_MODE, "invalidated")
+                .put(InfinispanConfigurations.NEAR_CACHE_MAX_ENTRIES, "100")
+                .put(InfinispanConfigurations.POOL_MAX_ACTIVE, "10")
+                .put(InfinispanConfigurations.POOL_MIN_IDLE, "2")
+                .put(InfinispanConfigurations.POOL_MAX_WAIT, "1000")
+                .put(InfinispanConfigurations.MARSHALLER, "java")
+                .put(InfinispanConfigurations.MARSHALLER_ALLOW_LIST.get() + ".1", "org.jnosql.*")
+                .build();
+
+        var remote = configuration.remoteConfiguration(settings, List.of("localhost"));
+
+        assertSoftly(softly -> {
+            softly.assertThat(remote.servers()).hasSize(1);
+            softly.assertThat(remote.servers().get(0).host()).isEqualTo("localhost");
+            softly.assertThat(remote.connectionPool().maxActive()).isEqualTo(10);
+            softly.assertThat(remote.connectionPool().minIdle()).isEqualTo(2);
+            softly.assertThat(remote.connectionPool().maxWait()).isEqualTo(1000L);
+            softly.assertThat(remote.marshaller()).isInstanceOf(JavaSerializationMarshaller.class);
+            softly.assertThat(remote.serialAllowList()).contains("org.jnosql.*");
+            softly.assertThat(remote.remoteCaches()).containsKey("heroes");
+            softly.assertThat(remote.remoteCaches().get("heroes").nearCacheMode())
+                    .isEqualTo(NearCacheMode.INVALIDATED);
+            softly.assertThat(remote.remoteCaches().get("heroes").nearCacheMaxEntries()).isEqualTo(100);
+        });
+    }
+
 }
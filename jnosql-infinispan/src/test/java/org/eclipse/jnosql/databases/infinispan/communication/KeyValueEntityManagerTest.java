@@ -16,8 +16,6 @@ package org.eclipse.jnosql.databases.infinispan.communication;
 
 
 import org.eclipse.jnosql.communication.Value;
-import org.eclipse.jnosql.communication.keyvalue.BucketManager;
-import org.eclipse.jnosql.communication.keyvalue.BucketManagerFactory;
 import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
 import org.eclipse.jnosql.databases.infinispan.communication.model.User;
 import org.eclipse.jnosql.databases.infinispan.communication.util.KeyValueEntityManagerFactoryUtils;
@@ -38,9 +36,9 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class KeyValueEntityManagerTest {
 
-    private BucketManager keyValueEntityManager;
+    private InfinispanBucketManager keyValueEntityManager;
 
-    private BucketManagerFactory keyValueEntityManagerFactory;
+    private InfinispanBucketManagerFactory keyValueEntityManagerFactory;
 
     private User userOtavio = new User("otavio");
     private KeyValueEntity keyValueOtavio = KeyValueEntity.of("otavio", Value.of(userOtavio));
@@ -50,7 +48,7 @@ public class KeyValueEntityManagerTest {
 
     @BeforeEach
     public void init() {
-        keyValueEntityManagerFactory = KeyValueEntityManagerFactoryUtils.get();
+        keyValueEntityManagerFactory = (InfinispanBucketManagerFactory) KeyValueEntityManagerFactoryUtils.get();
         keyValueEntityManager = keyValueEntityManagerFactory.apply("users-entity");
     }
 
@@ -119,4 +117,29 @@ public class KeyValueEntityManagerTest {
         Iterable<Value> users = values;
         assertEquals(0L, StreamSupport.stream(keyValueEntityManager.get(keys).spliterator(), false).count());
     }
+
+    @Test
+    public void shouldIgnoreMissingKeysAtMultiGet() {
+        keyValueEntityManager.put(asList(keyValueSoro, keyValueOtavio));
+        Iterable<Value> values = keyValueEntityManager.get(asList("soro", "unknown", "otavio"));
+        assertThat(StreamSupport.stream(values.spliterator(), false)
+                .map(value -> value.get(User.class))
+                .collect(Collectors.toList()))
+                .containsExactly(userSoro, userOtavio);
+    }
+
+    @Test
+    public void shouldPutAndGetAsync() {
+        keyValueEntityManager.putAsync(keyValueOtavio).toCompletableFuture().join();
+        Optional<Value> otavio = keyValueEntityManager.getAsync("otavio").toCompletableFuture().join();
+        assertTrue(otavio.isPresent());
+        assertEquals(userOtavio, otavio.get().get(User.class));
+    }
+
+    @Test
+    public void shouldDeleteAsync() {
+        keyValueEntityManager.put(keyValueOtavio);
+        keyValueEntityManager.deleteAsync("otavio").toCompletableFuture().join();
+        assertFalse(keyValueEntityManager.get("otavio").isPresent());
+    }
 }
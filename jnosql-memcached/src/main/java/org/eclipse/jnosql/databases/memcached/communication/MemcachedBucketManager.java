@@ -15,27 +15,46 @@
 package org.eclipse.jnosql.databases.memcached.communication;
 
 import net.spy.memcached.MemcachedClient;
+import net.spy.memcached.internal.BulkFuture;
+import net.spy.memcached.internal.GetFuture;
+import net.spy.memcached.internal.OperationFuture;
 import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.communication.keyvalue.BucketManager;
 import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.Optional.ofNullable;
-import static java.util.stream.StreamSupport.stream;
 
-final class MemcachedBucketManager implements BucketManager {
+/**
+ * The memcached implementation of {@link BucketManager}.
+ * The iterable operations send every command before waiting for any reply, so they are pipelined by the client,
+ * and wait for all of them up to the bulk timeout. The multi-key read is a single get per server.
+ */
+public final class MemcachedBucketManager implements BucketManager {
 
     private static final int NO_EXP = 0;
     private final MemcachedClient client;
     private final String bucketName;
+    private final long timeout;
 
-    MemcachedBucketManager(MemcachedClient client, String bucketName) {
+    MemcachedBucketManager(MemcachedClient client, String bucketName, long timeout) {
         this.client = client;
         this.bucketName = bucketName;
+        this.timeout = timeout;
     }
 
 
@@ -69,31 +88,37 @@ final class MemcachedBucketManager implements BucketManager {
     @Override
     public void put(Iterable<KeyValueEntity> entities) {
         requireNonNull(entities, "entities is required");
-        entities.forEach(this::put);
+        setAll(entities, NO_EXP);
     }
 
     @Override
     public void put(Iterable<KeyValueEntity> entities, Duration ttl) {
         requireNonNull(entities, "entities is required");
         requireNonNull(ttl, "ttl is required");
-        entities.forEach(e -> this.put(e, ttl));
+        setAll(entities, (int) ttl.getSeconds());
     }
 
     @Override
     public <K> Optional<Value> get(K key) {
         requireNonNull(key, "key is required");
-        return ofNullable(client.get(getKey(key))).map(Value::of);
+        return ofNullable(client.get(getKey(key))).map(MemcachedBucketManager::toValue);
     }
 
     @Override
     public <K> Iterable<Value> get(Iterable<K> keys) {
         requireNonNull(keys, "keys is required");
-
-        return stream(keys.spliterator(), false)
-                .map(this::get)
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .collect(Collectors.toList());
+        List<String> memcachedKeys = new ArrayList<>();
+        keys.forEach(key -> memcachedKeys.add(getKey(key)));
+        if (memcachedKeys.isEmpty()) {
+            return List.of();
+        }
+        BulkFuture<Map<String, Object>> future = client.asyncGetBulk(memcachedKeys);
+        Map<String, Object> values = await(future, timeout);
+        return memcachedKeys.stream()
+                .map(values::get)
+                .filter(Objects::nonNull)
+                .map(MemcachedBucketManager::toValue)
+                .toList();
     }
 
     @Override
@@ -105,13 +130,87 @@ final class MemcachedBucketManager implements BucketManager {
     @Override
     public <K> void delete(Iterable<K> keys) {
         requireNonNull(keys, "keys is required");
-        stream(keys.spliterator(), false).forEach(this::delete);
+        List<OperationFuture<Boolean>> futures = new ArrayList<>();
+        keys.forEach(key -> futures.add(client.delete(getKey(key))));
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+        for (OperationFuture<Boolean> future : futures) {
+            await(future, remaining(deadline));
+        }
+    }
+
+    /**
+     * Puts the entity without blocking the caller thread
+     *
+     * @param entity the entity
+     * @return a {@link CompletionStage} completed once the entity is stored
+     * @throws NullPointerException when entity is null
+     */
+    public CompletionStage<Void> putAsync(KeyValueEntity entity) {
+        requireNonNull(entity, "entity is required");
+        return stored(entity.key(), toStage(client.set(getKey(entity.key()), NO_EXP, entity.value())));
+    }
+
+    /**
+     * Puts the entity with a time to live without blocking the caller thread
+     *
+     * @param entity the entity
+     * @param ttl    the time to live
+     * @return a {@link CompletionStage} completed once the entity is stored
+     * @throws NullPointerException when either entity or ttl is null
+     */
+    public CompletionStage<Void> putAsync(KeyValueEntity entity, Duration ttl) {
+        requireNonNull(entity, "entity is required");
+        requireNonNull(ttl, "ttl is required");
+        return stored(entity.key(), toStage(client.set(getKey(entity.key()), (int) ttl.getSeconds(),
+                entity.value())));
+    }
+
+    /**
+     * Finds the value of the key without blocking the caller thread
+     *
+     * @param key the key
+     * @param <K> the key type
+     * @return a {@link CompletionStage} completed with the value or {@link Optional#empty()} when there is no value
+     * @throws NullPointerException when key is null
+     */
+    public <K> CompletionStage<Optional<Value>> getAsync(K key) {
+        requireNonNull(key, "key is required");
+        GetFuture<Object> future = client.asyncGet(getKey(key));
+        CompletableFuture<Optional<Value>> stage = new CompletableFuture<>();
+        future.addListener(completed -> {
+            try {
+                stage.complete(ofNullable(completed.get()).map(MemcachedBucketManager::toValue));
+            } catch (ExecutionException exception) {
+                stage.completeExceptionally(exception.getCause());
+            } catch (Exception exception) {
+                stage.completeExceptionally(exception);
+            }
+        });
+        return stage;
+    }
+
+    /**
+     * Removes the key without blocking the caller thread
+     *
+     * @param key the key
+     * @param <K> the key type
+     * @return a {@link CompletionStage} completed once the key is removed
+     * @throws NullPointerException when key is null
+     */
+    public <K> CompletionStage<Void> deleteAsync(K key) {
+        requireNonNull(key, "key is required");
+        return toStage(client.delete(getKey(key))).thenAccept(deleted -> {
+        });
     }
 
     @Override
     public void close() {
     }
 
+    private static Value toValue(Object value) {
+        return value instanceof Value decoded ? decoded : Value.of(value);
+    }
+
     private <K> String getKey(K key) {
         return bucketName + ':' + key.toString();
     }
@@ -119,4 +218,53 @@ final class MemcachedBucketManager implements BucketManager {
     private void set(Object key, Object value, int exp) {
         client.set(getKey(key), exp, value);
     }
+
+    private void setAll(Iterable<KeyValueEntity> entities, int exp) {
+        Map<Object, OperationFuture<Boolean>> futures = new LinkedHashMap<>();
+        entities.forEach(entity -> futures.put(entity.key(), client.set(getKey(entity.key()), exp, entity.value())));
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+        futures.forEach((key, future) -> {
+            if (!Boolean.TRUE.equals(await(future, remaining(deadline)))) {
+                throw new MemcachedException("The key was not stored at the bucket " + bucketName + ": " + key);
+            }
+        });
+    }
+
+    private CompletionStage<Void> stored(Object key, CompletionStage<Boolean> stage) {
+        return stage.thenAccept(stored -> {
+            if (!Boolean.TRUE.equals(stored)) {
+                throw new MemcachedException("The key was not stored at the bucket " + bucketName + ": " + key);
+            }
+        });
+    }
+
+    private static long remaining(long deadline) {
+        return Math.max(0L, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()));
+    }
+
+    private static <T> T await(Future<T> future, long timeout) {
+        try {
+            return future.get(timeout, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new MemcachedException("The thread was interrupted while waiting for memcached", exception);
+        } catch (ExecutionException | TimeoutException exception) {
+            future.cancel(false);
+            throw new MemcachedException("There is an error when waiting for memcached", exception);
+        }
+    }
+
+    private static <T> CompletionStage<T> toStage(OperationFuture<T> future) {
+        CompletableFuture<T> stage = new CompletableFuture<>();
+        future.addListener(completed -> {
+            try {
+                stage.complete(future.get());
+            } catch (ExecutionException exception) {
+                stage.completeExceptionally(exception.getCause());
+            } catch (Exception exception) {
+                stage.completeExceptionally(exception);
+            }
+        });
+        return stage;
+    }
 }
@@ -23,18 +23,24 @@ import java.util.Objects;
 import java.util.Queue;
 import java.util.Set;
 
-final class MemcachedBucketManagerFactory implements BucketManagerFactory {
+/**
+ * The memcached implementation of {@link BucketManagerFactory} that returns {@link MemcachedBucketManager}.
+ */
+public final class MemcachedBucketManagerFactory implements BucketManagerFactory {
 
     private final MemcachedClient client;
 
-    MemcachedBucketManagerFactory(MemcachedClient client) {
+    private final long timeout;
+
+    MemcachedBucketManagerFactory(MemcachedClient client, long timeout) {
         this.client = client;
+        this.timeout = timeout;
     }
 
     @Override
     public MemcachedBucketManager apply(String bucketName) {
         Objects.requireNonNull(bucketName, "bucketName is required");
-        return new MemcachedBucketManager(client, bucketName);
+        return new MemcachedBucketManager(client, bucketName, timeout);
     }
 
     @Override
@@ -54,6 +54,22 @@ public enum MemcachedConfigurations implements Supplier<String> {
      * The default operation timeout in milliseconds.
      */
     TIMEOUT("jnosql.memcached.timeout"),
+    /**
+     * The timeout in milliseconds to wait for all the replies of an iterable put, get or delete.
+     * The default is the operation timeout.
+     */
+    BULK_TIMEOUT("jnosql.memcached.bulk.timeout"),
+    /**
+     * The transcoder of the values: {@code serializing}, the default, uses the spymemcached
+     * {@link net.spy.memcached.transcoders.SerializingTranscoder}; {@code json} writes the values as JSON-B text;
+     * {@code binary} writes the strings, numbers and booleans as compact binary and the other values as JSON-B text.
+     * Any other value is the class name of a {@link net.spy.memcached.transcoders.Transcoder} with a no-arg constructor.
+     */
+    TRANSCODER("jnosql.memcached.transcoder"),
+    /**
+     * The size in bytes above which the values are compressed, the default is 16384. Zero disables it.
+     */
+    COMPRESSION_THRESHOLD("jnosql.memcached.compression.threshold"),
     /**
      * The read buffer size.
      */
@@ -18,6 +18,10 @@ import org.eclipse.jnosql.communication.CommunicationException;
 
 class MemcachedException extends CommunicationException {
 
+    MemcachedException(String message) {
+        super(message);
+    }
+
     MemcachedException(String message, Throwable cause) {
         super(message, cause);
     }
@@ -22,6 +22,8 @@ import net.spy.memcached.ConnectionFactoryBuilder.Locator;
 import net.spy.memcached.ConnectionFactoryBuilder.Protocol;
 import net.spy.memcached.MemcachedClient;
 import net.spy.memcached.auth.AuthDescriptor;
+import net.spy.memcached.transcoders.SerializingTranscoder;
+import net.spy.memcached.transcoders.Transcoder;
 import org.eclipse.jnosql.communication.Configurations;
 import org.eclipse.jnosql.communication.Settings;
 import org.eclipse.jnosql.communication.keyvalue.KeyValueConfiguration;
@@ -30,6 +32,7 @@ import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
@@ -45,6 +48,7 @@ import static java.util.Optional.ofNullable;
  */
 public class MemcachedKeyValueConfiguration implements KeyValueConfiguration {
 
+    private static final String SERIALIZING_TRANSCODER = "serializing";
 
     @Override
     public MemcachedBucketManagerFactory apply(Settings settings) {
@@ -84,6 +88,13 @@ public class MemcachedKeyValueConfiguration implements KeyValueConfiguration {
         settings.get(MemcachedConfigurations.USE_NAGLE_ALGORITHM, Boolean.class)
                 .ifPresent(factoryBuilder::setUseNagleAlgorithm);
 
+        String transcoder = settings.get(MemcachedConfigurations.TRANSCODER)
+                .map(Object::toString)
+                .orElse(SERIALIZING_TRANSCODER);
+        int compressionThreshold = settings.get(MemcachedConfigurations.COMPRESSION_THRESHOLD, Integer.class)
+                .orElse(ValueTranscoder.DEFAULT_COMPRESSION_THRESHOLD);
+        factoryBuilder.setTranscoder(transcoder(transcoder, compressionThreshold));
+
         settings.getSupplier(asList(MemcachedConfigurations.USER, Configurations.USER))
                 .map(Object::toString)
                 .ifPresent(u -> {
@@ -102,8 +113,10 @@ public class MemcachedKeyValueConfiguration implements KeyValueConfiguration {
         List<InetSocketAddress> addresses = hots.isEmpty() ? Collections.emptyList() : AddrUtil.getAddresses(hots);
         ConnectionFactory connectionFactory = factoryBuilder.build();
 
+        long timeout = settings.get(MemcachedConfigurations.BULK_TIMEOUT, Long.class)
+                .orElse(connectionFactory.getOperationTimeout());
         try {
-            return new MemcachedBucketManagerFactory(new MemcachedClient(connectionFactory, addresses));
+            return new MemcachedBucketManagerFactory(new MemcachedClient(connectionFactory, addresses), timeout);
         } catch (IOException e) {
             throw new MemcachedException("There is an error when try to create da BucketManager", e);
         }
@@ -117,7 +130,27 @@ public class MemcachedKeyValueConfiguration implements KeyValueConfiguration {
      */
     public MemcachedBucketManagerFactory get(MemcachedClient client) {
         Objects.requireNonNull(client, "client is required");
-        return new MemcachedBucketManagerFactory(client);
+        return new MemcachedBucketManagerFactory(client, client.getOperationTimeout());
     }
-}
 
+    @SuppressWarnings("unchecked")
+    private static Transcoder<Object> transcoder(String name, int compressionThreshold) {
+        return switch (name.toLowerCase(Locale.US)) {
+            case SERIALIZING_TRANSCODER -> {
+                SerializingTranscoder transcoder = new SerializingTranscoder();
+                transcoder.setCompressionThreshold(compressionThreshold > 0 ? compressionThreshold : Integer.MAX_VALUE);
+                yield transcoder;
+            }
+            case "json" -> ValueTranscoder.json(compressionThreshold);
+            case "binary" -> ValueTranscoder.binary(compressionThreshold);
+            default -> {
+                try {
+                    Class<?> type = Class.forName(name, true, Thread.currentThread().getContextClassLoader());
+                    yield (Transcoder<Object>) type.getDeclaredConstructor().newInstance();
+                } catch (ReflectiveOperationException | ClassCastException exception) {
+                    throw new MemcachedException("The transcoder is not supported: " + name, exception);
+                }
+            }
+        };
+    }
+}
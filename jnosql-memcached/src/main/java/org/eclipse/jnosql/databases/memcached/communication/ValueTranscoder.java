@@ -0,0 +1,210 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.memcached.communication;
+
+import jakarta.json.bind.Jsonb;
+import net.spy.memcached.CachedData;
+import net.spy.memcached.transcoders.Transcoder;
+import org.eclipse.jnosql.communication.driver.JsonbSupplier;
+import org.eclipse.jnosql.communication.driver.ValueJSON;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A {@link Transcoder} that never uses the Java serialization, selected by {@link MemcachedConfigurations#TRANSCODER}.
+ * The {@link #json(int)} transcoder writes every value as JSON-B text, and it is read back as {@link ValueJSON}.
+ * The {@link #binary(int)} transcoder writes the strings, numbers, booleans, dates and byte arrays with the flags and
+ * the packed encoding of the spymemcached {@code SerializingTranscoder}, the shorts with a flag of its own, and any
+ * other value as JSON-B text. Both read the values written by either of them and by the {@code SerializingTranscoder},
+ * rejecting its Java serialized objects, and compress with GZIP the data larger than the threshold.
+ */
+final class ValueTranscoder implements Transcoder<Object> {
+
+    static final int DEFAULT_COMPRESSION_THRESHOLD = 16384;
+
+    private static final Jsonb JSONB = JsonbSupplier.getInstance().get();
+
+    private static final int SERIALIZED = 1;
+    private static final int COMPRESSED = 2;
+    private static final int TYPE_MASK = 0xff00;
+    private static final int STRING = 0;
+    private static final int BOOLEAN = 1 << 8;
+    private static final int INTEGER = 2 << 8;
+    private static final int LONG = 3 << 8;
+    private static final int DATE = 4 << 8;
+    private static final int BYTE = 5 << 8;
+    private static final int FLOAT = 6 << 8;
+    private static final int DOUBLE = 7 << 8;
+    private static final int BYTES = 8 << 8;
+    private static final int SHORT = 9 << 8;
+    private static final int JSON = 10 << 8;
+
+    private final boolean compact;
+
+    private final int compressionThreshold;
+
+    private ValueTranscoder(boolean compact, int compressionThreshold) {
+        this.compact = compact;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    static ValueTranscoder json(int compressionThreshold) {
+        return new ValueTranscoder(false, compressionThreshold);
+    }
+
+    static ValueTranscoder binary(int compressionThreshold) {
+        return new ValueTranscoder(true, compressionThreshold);
+    }
+
+    @Override
+    public boolean asyncDecode(CachedData data) {
+        return false;
+    }
+
+    @Override
+    public CachedData encode(Object value) {
+        int flags = compact ? type(value) : JSON;
+        byte[] data = switch (flags) {
+            case STRING -> ((String) value).getBytes(StandardCharsets.UTF_8);
+            case BOOLEAN -> new byte[]{(byte) (((Boolean) value) ? '1' : '0')};
+            case INTEGER -> pack((Integer) value, Integer.BYTES);
+            case LONG -> pack((Long) value, Long.BYTES);
+            case DATE -> pack(((Date) value).getTime(), Long.BYTES);
+            case BYTE -> new byte[]{(Byte) value};
+            case FLOAT -> pack(Float.floatToRawIntBits((Float) value), Integer.BYTES);
+            case DOUBLE -> pack(Double.doubleToRawLongBits((Double) value), Long.BYTES);
+            case BYTES -> (byte[]) value;
+            case SHORT -> pack((Short) value, Short.BYTES);
+            default -> JSONB.toJson(value).getBytes(StandardCharsets.UTF_8);
+        };
+        if (compressionThreshold > 0 && data.length > compressionThreshold) {
+            byte[] compressed = compress(data);
+            if (compressed.length < data.length) {
+                data = compressed;
+                flags |= COMPRESSED;
+            }
+        }
+        return new CachedData(flags, data, getMaxSize());
+    }
+
+    @Override
+    public Object decode(CachedData cachedData) {
+        byte[] data = cachedData.getData();
+        int flags = cachedData.getFlags();
+        if ((flags & SERIALIZED) != 0) {
+            throw new MemcachedException("The value is a Java serialized object, which is not supported,"
+                    + " the flags are: " + flags);
+        }
+        if ((flags & COMPRESSED) != 0) {
+            data = decompress(data);
+        }
+        return switch (flags & TYPE_MASK) {
+            case STRING -> new String(data, StandardCharsets.UTF_8);
+            case BOOLEAN -> data.length > 0 && (data[0] == 1 || data[0] == '1');
+            case INTEGER -> (int) unpack(data, Integer.BYTES);
+            case LONG -> unpack(data, Long.BYTES);
+            case DATE -> new Date(unpack(data, Long.BYTES));
+            case BYTE -> data[0];
+            case FLOAT -> Float.intBitsToFloat((int) unpack(data, Integer.BYTES));
+            case DOUBLE -> Double.longBitsToDouble(unpack(data, Long.BYTES));
+            case BYTES -> data;
+            case SHORT -> (short) unpack(data, Short.BYTES);
+            case JSON -> ValueJSON.of(new String(data, StandardCharsets.UTF_8));
+            default -> throw new MemcachedException("The value flags are not supported: " + flags);
+        };
+    }
+
+    @Override
+    public int getMaxSize() {
+        return CachedData.MAX_SIZE;
+    }
+
+    private static int type(Object value) {
+        if (value instanceof String) {
+            return STRING;
+        } else if (value instanceof Boolean) {
+            return BOOLEAN;
+        } else if (value instanceof Integer) {
+            return INTEGER;
+        } else if (value instanceof Long) {
+            return LONG;
+        } else if (value instanceof Date) {
+            return DATE;
+        } else if (value instanceof Byte) {
+            return BYTE;
+        } else if (value instanceof Float) {
+            return FLOAT;
+        } else if (value instanceof Double) {
+            return DOUBLE;
+        } else if (value instanceof byte[]) {
+            return BYTES;
+        } else if (value instanceof Short) {
+            return SHORT;
+        }
+        return JSON;
+    }
+
+    /**
+     * Writes the number big-endian without the leading zero bytes, as the spymemcached {@code TranscoderUtils} does.
+     */
+    private static byte[] pack(long value, int size) {
+        byte[] data = new byte[size];
+        for (int index = 0; index < size; index++) {
+            data[size - index - 1] = (byte) (value >> (Byte.SIZE * index));
+        }
+        int first = 0;
+        while (first < size && data[first] == 0) {
+            first++;
+        }
+        return Arrays.copyOfRange(data, first, size);
+    }
+
+    private static long unpack(byte[] data, int size) {
+        if (data.length > size) {
+            throw new MemcachedException("The number has " + data.length + " bytes, but the most is " + size);
+        }
+        long value = 0;
+        for (byte current : data) {
+            value = (value << Byte.SIZE) | (current & 0xff);
+        }
+        return value;
+    }
+
+    private static byte[] compress(byte[] data) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(data.length);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+            gzip.write(data);
+        } catch (IOException exception) {
+            throw new MemcachedException("There is an error when compressing the value", exception);
+        }
+        return output.toByteArray();
+    }
+
+    private static byte[] decompress(byte[] data) {
+        try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(data))) {
+            return gzip.readAllBytes();
+        } catch (IOException exception) {
+            throw new MemcachedException("There is an error when decompressing the value", exception);
+        }
+    }
+}
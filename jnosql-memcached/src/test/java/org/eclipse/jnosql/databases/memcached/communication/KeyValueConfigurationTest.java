@@ -43,6 +43,14 @@ public class KeyValueConfigurationTest {
         assertNotNull(managerFactory);
     }
 
+    @Test
+    public void shouldReturnErrorWhenTranscoderIsNotSupported() {
+        Map<String, Object> map = new HashMap<>();
+        map.put(MemcachedConfigurations.HOST.get() + ".1", "localhost:11211");
+        map.put(MemcachedConfigurations.TRANSCODER.get(), "unknown");
+        Assertions.assertThrows(MemcachedException.class, () -> configuration.apply(Settings.of(map)));
+    }
+
     @Test
     public void shouldReturnFromConfiguration() {
         KeyValueConfiguration configuration = KeyValueConfiguration.getConfiguration();
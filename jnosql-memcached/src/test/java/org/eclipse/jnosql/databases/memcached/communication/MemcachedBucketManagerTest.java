@@ -17,8 +17,6 @@ package org.eclipse.jnosql.databases.memcached.communication;
 
 
 import org.eclipse.jnosql.communication.Value;
-import org.eclipse.jnosql.communication.keyvalue.BucketManager;
-import org.eclipse.jnosql.communication.keyvalue.BucketManagerFactory;
 import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -43,9 +41,9 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 @EnabledIfSystemProperty(named = NAMED, matches = MATCHES)
 public class MemcachedBucketManagerTest {
 
-    private BucketManager keyValueEntityManager;
+    private MemcachedBucketManager keyValueEntityManager;
 
-    private BucketManagerFactory keyValueEntityManagerFactory;
+    private MemcachedBucketManagerFactory keyValueEntityManagerFactory;
 
     private User otavio = new User("otavio");
     private KeyValueEntity entityOtavio = KeyValueEntity.of("otavio", Value.of(otavio));
@@ -55,7 +53,7 @@ public class MemcachedBucketManagerTest {
 
     @BeforeEach
     public void init() {
-        keyValueEntityManagerFactory = KeyValueDatabase.INSTANCE.get();
+        keyValueEntityManagerFactory = (MemcachedBucketManagerFactory) KeyValueDatabase.INSTANCE.get();
         keyValueEntityManager = keyValueEntityManagerFactory.apply("users-entity");
     }
 
@@ -133,5 +131,27 @@ public class MemcachedBucketManagerTest {
         assertEquals(0L, StreamSupport.stream(keyValueEntityManager.get(keys).spliterator(), false).count());
     }
 
+    @Test
+    public void shouldIgnoreMissingKeysAtMultiGet() {
+        keyValueEntityManager.put(asList(entitySoro, entityOtavio));
+        Iterable<Value> values = keyValueEntityManager.get(asList("soro", "unknown", "otavio"));
+        assertThat(StreamSupport.stream(values.spliterator(), false)
+                .map(value -> value.get(User.class)).collect(Collectors.toList()))
+                .containsExactly(soro, otavio);
+    }
+
+    @Test
+    public void shouldPutAndGetAsync() {
+        keyValueEntityManager.putAsync(entityOtavio).toCompletableFuture().join();
+        Optional<Value> otavio = keyValueEntityManager.getAsync("otavio").toCompletableFuture().join();
+        assertTrue(otavio.isPresent());
+        assertEquals(this.otavio, otavio.get().get(User.class));
+    }
 
+    @Test
+    public void shouldDeleteAsync() {
+        keyValueEntityManager.put(entityOtavio);
+        keyValueEntityManager.deleteAsync("otavio").toCompletableFuture().join();
+        assertFalse(keyValueEntityManager.get("otavio").isPresent());
+    }
 }
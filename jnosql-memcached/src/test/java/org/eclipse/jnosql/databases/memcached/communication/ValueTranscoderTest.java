@@ -0,0 +1,113 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.memcached.communication;
+
+import net.spy.memcached.CachedData;
+import net.spy.memcached.transcoders.SerializingTranscoder;
+import org.eclipse.jnosql.communication.Value;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ValueTranscoderTest {
+
+    private final ValueTranscoder binary = ValueTranscoder.binary(ValueTranscoder.DEFAULT_COMPRESSION_THRESHOLD);
+
+    private final ValueTranscoder json = ValueTranscoder.json(ValueTranscoder.DEFAULT_COMPRESSION_THRESHOLD);
+
+    @Test
+    void shouldKeepTheTypeAtBinary() {
+        assertThat(binary.decode(binary.encode(26))).isEqualTo(26);
+        assertThat(binary.decode(binary.encode(26L))).isEqualTo(26L);
+        assertThat(binary.decode(binary.encode((short) 3))).isEqualTo((short) 3);
+        assertThat(binary.decode(binary.encode(2.5D))).isEqualTo(2.5D);
+        assertThat(binary.decode(binary.encode(true))).isEqualTo(true);
+        assertThat(binary.decode(binary.encode("Brazil"))).isEqualTo("Brazil");
+        assertThat(binary.decode(binary.encode(-1))).isEqualTo(-1);
+        assertThat(binary.decode(binary.encode(0L))).isEqualTo(0L);
+        assertThat(binary.decode(binary.encode((short) -3))).isEqualTo((short) -3);
+        assertThat(binary.decode(binary.encode(new Date(1_000L)))).isEqualTo(new Date(1_000L));
+        assertThat(binary.encode(26L).getData()).hasSize(1);
+    }
+
+    @Test
+    void shouldReadTheSerializingTranscoderValues() {
+        SerializingTranscoder transcoder = new SerializingTranscoder();
+        assertThat(binary.decode(transcoder.encode(26))).isEqualTo(26);
+        assertThat(binary.decode(transcoder.encode(-26))).isEqualTo(-26);
+        assertThat(binary.decode(transcoder.encode(Integer.MAX_VALUE))).isEqualTo(Integer.MAX_VALUE);
+        assertThat(binary.decode(transcoder.encode(26L))).isEqualTo(26L);
+        assertThat(binary.decode(transcoder.encode(Long.MIN_VALUE))).isEqualTo(Long.MIN_VALUE);
+        assertThat(binary.decode(transcoder.encode(0L))).isEqualTo(0L);
+        assertThat(binary.decode(transcoder.encode(2.5F))).isEqualTo(2.5F);
+        assertThat(binary.decode(transcoder.encode(2.5D))).isEqualTo(2.5D);
+        assertThat(binary.decode(transcoder.encode((byte) 7))).isEqualTo((byte) 7);
+        assertThat(binary.decode(transcoder.encode(true))).isEqualTo(true);
+        assertThat(binary.decode(transcoder.encode(false))).isEqualTo(false);
+        assertThat(binary.decode(transcoder.encode(new Date(1_000L)))).isEqualTo(new Date(1_000L));
+        assertThat(binary.decode(transcoder.encode("Brazil"))).isEqualTo("Brazil");
+        assertThat(binary.decode(transcoder.encode(new byte[]{1, 2}))).isEqualTo(new byte[]{1, 2});
+        String text = "jnosql".repeat(10_000);
+        assertThat(binary.decode(transcoder.encode(text))).isEqualTo(text);
+    }
+
+    @Test
+    void shouldWriteTheSerializingTranscoderValues() {
+        SerializingTranscoder transcoder = new SerializingTranscoder();
+        assertThat(transcoder.decode(binary.encode(26))).isEqualTo(26);
+        assertThat(transcoder.decode(binary.encode(Long.MIN_VALUE))).isEqualTo(Long.MIN_VALUE);
+        assertThat(transcoder.decode(binary.encode(2.5F))).isEqualTo(2.5F);
+        assertThat(transcoder.decode(binary.encode(2.5D))).isEqualTo(2.5D);
+        assertThat(transcoder.decode(binary.encode(true))).isEqualTo(true);
+        assertThat(transcoder.decode(binary.encode(new Date(1_000L)))).isEqualTo(new Date(1_000L));
+    }
+
+    @Test
+    void shouldRejectJavaSerializedValues() {
+        CachedData data = new SerializingTranscoder().encode(new ArrayList<>(List.of("jnosql")));
+        assertThatThrownBy(() -> binary.decode(data))
+                .isInstanceOf(MemcachedException.class)
+                .hasMessageContaining("Java serialized");
+    }
+
+    @Test
+    void shouldWriteObjectsAsJson() {
+        Object decoded = binary.decode(binary.encode(new User("otavio")));
+        assertThat(decoded).isInstanceOf(Value.class);
+        assertThat(((Value) decoded).get(User.class)).isEqualTo(new User("otavio"));
+    }
+
+    @Test
+    void shouldWriteEveryValueAsJson() {
+        Object decoded = json.decode(json.encode(26));
+        assertThat(decoded).isInstanceOf(Value.class);
+        assertThat(((Value) decoded).get(Integer.class)).isEqualTo(26);
+    }
+
+    @Test
+    void shouldCompressAboveTheThreshold() {
+        ValueTranscoder transcoder = ValueTranscoder.binary(10);
+        String text = "jnosql".repeat(100);
+        CachedData data = transcoder.encode(text);
+        assertThat(data.getData().length).isLessThan(text.length());
+        assertThat(transcoder.decode(data)).isEqualTo(text);
+        assertThat(transcoder.encode("small").getData()).hasSize("small".length());
+    }
+}
@@ -16,11 +16,13 @@ package org.eclipse.jnosql.databases.riak.communication;
 
 
 import com.basho.riak.client.api.RiakClient;
+import com.basho.riak.client.api.RiakCommand;
 import com.basho.riak.client.api.cap.UnresolvedConflictException;
 import com.basho.riak.client.api.commands.kv.DeleteValue;
 import com.basho.riak.client.api.commands.kv.FetchValue;
 import com.basho.riak.client.api.commands.kv.FetchValue.Response;
 import com.basho.riak.client.api.commands.kv.StoreValue;
+import com.basho.riak.client.core.RiakFuture;
 import com.basho.riak.client.core.query.Namespace;
 import org.eclipse.jnosql.communication.Value;
 import org.eclipse.jnosql.communication.driver.ValueJSON;
@@ -28,13 +30,22 @@ import org.eclipse.jnosql.communication.keyvalue.BucketManager;
 import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
 import java.util.stream.StreamSupport;
 
-import static java.util.stream.Collectors.toList;
-
+/**
+ * The riak implementation to {@link BucketManager}.
+ * The iterable operations issue every command asynchronously, keeping at most the in-flight limit of commands
+ * running at once, and then gather the results, so the keys spread over the ring are served in parallel.
+ */
 public class RiakBucketManager implements BucketManager {
 
     private final RiakClient client;
@@ -43,10 +54,13 @@ public class RiakBucketManager implements BucketManager {
 
     private final String bucketName;
 
-    RiakBucketManager(RiakClient client, Namespace nameSpace, String bucketName) {
+    private final int maxInFlight;
+
+    RiakBucketManager(RiakClient client, Namespace nameSpace, String bucketName, int maxInFlight) {
         this.client = client;
         this.nameSpace = nameSpace;
         this.bucketName = bucketName;
+        this.maxInFlight = maxInFlight;
     }
 
     @Override
@@ -82,14 +96,18 @@ public class RiakBucketManager implements BucketManager {
 
     @Override
     public void put(Iterable<KeyValueEntity> entities) throws NullPointerException {
-        StreamSupport.stream(entities.spliterator(), false).forEach(this::put);
+        put(entities, Duration.ZERO);
     }
 
     @Override
     public void put(Iterable<KeyValueEntity> entities, Duration ttl)
             throws NullPointerException, UnsupportedOperationException {
-
-        StreamSupport.stream(entities.spliterator(), false).forEach(e -> put(e, ttl));
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        List<StoreValue> commands = StreamSupport.stream(entities.spliterator(), false)
+                .map(e -> RiakUtils.createStoreValue(e.key(), e.value(), nameSpace, ttl))
+                .toList();
+        executeAll(commands);
     }
 
     @Override
@@ -101,46 +119,22 @@ public class RiakBucketManager implements BucketManager {
 
         FetchValue fetchValue = RiakUtils.createFetchValue(nameSpace, key);
         try {
-
-            FetchValue.Response response = client.execute(fetchValue);
-
-            String valueFetch = response.getValue(String.class);
-            if (Objects.nonNull(valueFetch) && !valueFetch.isEmpty()) {
-                return Optional.of(ValueJSON.of(valueFetch));
-            }
-
+            return toValue(client.execute(fetchValue));
         } catch (ExecutionException | InterruptedException e) {
             throw new RiakCommunicationException(e.getMessage(), e);
         }
-        return Optional.empty();
     }
 
     @Override
     public <K> Iterable<Value> get(Iterable<K> keys) throws NullPointerException {
-
-        return StreamSupport.stream(keys.spliterator(), false)
-                .map(k -> RiakUtils.createLocation(nameSpace, k))
-                .map(l -> new FetchValue.Builder(l).build())
-                .map(f -> {
-                            try {
-                                return client.execute(f);
-                            } catch (ExecutionException | InterruptedException e) {
-                                throw new RiakCommunicationException(e.getMessage(), e);
-                            }
-                        }
-                )
-                .filter(Response::hasValues)
-                .map(r -> {
-
-                    try {
-                        return r.getValue(String.class);
-                    } catch (UnresolvedConflictException e) {
-                        throw new RiakCommunicationException(e.getMessage(), e);
-                    }
-
-                })
-                .filter(s -> Objects.nonNull(s) && !s.isEmpty()).map(ValueJSON::of)
-                .collect(toList());
+        Objects.requireNonNull(keys, "keys is required");
+        List<FetchValue> commands = StreamSupport.stream(keys.spliterator(), false)
+                .map(k -> RiakUtils.createFetchValue(nameSpace, k))
+                .toList();
+        return executeAll(commands).stream()
+                .map(RiakBucketManager::toValue)
+                .flatMap(Optional::stream)
+                .toList();
     }
 
 
@@ -158,11 +152,123 @@ public class RiakBucketManager implements BucketManager {
 
     @Override
     public <K> void delete(Iterable<K> keys) throws NullPointerException {
-        StreamSupport.stream(keys.spliterator(), false).forEach(this::delete);
+        Objects.requireNonNull(keys, "keys is required");
+        List<DeleteValue> commands = StreamSupport.stream(keys.spliterator(), false)
+                .map(k -> RiakUtils.createDeleteValue(nameSpace, k))
+                .toList();
+        executeAll(commands);
+    }
+
+    /**
+     * Puts the entity without blocking the caller thread
+     *
+     * @param entity the entity
+     * @return a {@link CompletionStage} completed once the entity is stored
+     * @throws NullPointerException when entity is null
+     */
+    public CompletionStage<Void> putAsync(KeyValueEntity entity) {
+        return putAsync(entity, Duration.ZERO);
+    }
+
+    /**
+     * Puts the entity with a timeout without blocking the caller thread
+     *
+     * @param entity the entity
+     * @param ttl    the timeout, as the synchronous put does
+     * @return a {@link CompletionStage} completed once the entity is stored
+     * @throws NullPointerException when either entity or ttl is null
+     */
+    public CompletionStage<Void> putAsync(KeyValueEntity entity, Duration ttl) {
+        Objects.requireNonNull(entity, "entity is required");
+        Objects.requireNonNull(ttl, "ttl is required");
+        return executeAsync(RiakUtils.createStoreValue(entity.key(), entity.value(), nameSpace, ttl))
+                .thenAccept(response -> {
+                });
+    }
+
+    /**
+     * Finds the value of the key without blocking the caller thread
+     *
+     * @param key the key
+     * @param <K> the key type
+     * @return a {@link CompletionStage} completed with the value or {@link Optional#empty()} when there is no value
+     * @throws NullPointerException when key is null
+     */
+    public <K> CompletionStage<Optional<Value>> getAsync(K key) {
+        Objects.requireNonNull(key, "key is required");
+        return executeAsync(RiakUtils.createFetchValue(nameSpace, key))
+                .thenApply(RiakBucketManager::toValue);
+    }
+
+    /**
+     * Removes the key without blocking the caller thread
+     *
+     * @param key the key
+     * @param <K> the key type
+     * @return a {@link CompletionStage} completed once the key is removed
+     * @throws NullPointerException when key is null
+     */
+    public <K> CompletionStage<Void> deleteAsync(K key) {
+        Objects.requireNonNull(key, "key is required");
+        return executeAsync(RiakUtils.createDeleteValue(nameSpace, key));
     }
 
     @Override
     public void close() {
         client.shutdown();
     }
+
+    private <T, S> CompletableFuture<T> executeAsync(RiakCommand<T, S> command) {
+        CompletableFuture<T> stage = new CompletableFuture<>();
+        RiakFuture<T, S> future = client.executeAsync(command);
+        future.addListener(completed -> {
+            if (completed.isSuccess()) {
+                stage.complete(completed.getNow());
+            } else {
+                Throwable cause = completed.cause();
+                stage.completeExceptionally(new RiakCommunicationException(cause.getMessage(), cause));
+            }
+        });
+        return stage;
+    }
+
+    /**
+     * Issues every command asynchronously, waiting for a free slot when the in-flight limit is reached,
+     * and returns the results in the order of the commands.
+     */
+    private <T, S> List<T> executeAll(List<? extends RiakCommand<T, S>> commands) {
+        Semaphore slots = new Semaphore(maxInFlight);
+        List<CompletableFuture<T>> futures = new ArrayList<>(commands.size());
+        try {
+            for (RiakCommand<T, S> command : commands) {
+                slots.acquire();
+                futures.add(executeAsync(command).whenComplete((result, error) -> slots.release()));
+            }
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RiakCommunicationException(e.getMessage(), e);
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RiakCommunicationException cause) {
+                throw cause;
+            }
+            throw new RiakCommunicationException(e.getMessage(), e);
+        }
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    private static Optional<Value> toValue(Response response) {
+        if (!response.hasValues()) {
+            return Optional.empty();
+        }
+        try {
+            String valueFetch = response.getValue(String.class);
+            if (Objects.nonNull(valueFetch) && !valueFetch.isEmpty()) {
+                return Optional.of(ValueJSON.of(valueFetch));
+            }
+            return Optional.empty();
+        } catch (UnresolvedConflictException e) {
+            throw new RiakCommunicationException(e.getMessage(), e);
+        }
+    }
 }
@@ -38,8 +38,11 @@ public class RiakBucketManagerFactory implements BucketManagerFactory {
 
     private final RiakCluster cluster;
 
-    RiakBucketManagerFactory(RiakCluster cluster) {
+    private final int maxInFlight;
+
+    RiakBucketManagerFactory(RiakCluster cluster, int maxInFlight) {
         this.cluster = cluster;
+        this.maxInFlight = maxInFlight;
     }
 
     @Override
@@ -49,7 +52,7 @@ public class RiakBucketManagerFactory implements BucketManagerFactory {
         RiakClient riakClient = new RiakClient(cluster);
         Namespace quotesBucket = new Namespace(bucketName);
 
-        return new RiakBucketManager(riakClient, quotesBucket, bucketName);
+        return new RiakBucketManager(riakClient, quotesBucket, bucketName, maxInFlight);
     }
 
     @Override
@@ -31,12 +31,18 @@ import static java.util.Objects.requireNonNull;
 /**
  * The riak implementation to {@link KeyValueConfiguration} that returns {@link RiakBucketManagerFactory}.
  * <p>riak.host-: The prefix to host. eg: riak.server.host.1= host1</p>
+ * <p>jnosql.riak.max.in.flight: The maximum number of commands running at once on the iterable operations,
+ * the default is 64. eg: jnosql.riak.max.in.flight=128</p>
  */
 public class RiakKeyValueConfiguration implements KeyValueConfiguration {
 
 
     private static final String SERVER_PREFIX = "jnosql.riak.host";
 
+    private static final String MAX_IN_FLIGHT = "jnosql.riak.max.in.flight";
+
+    private static final int DEFAULT_MAX_IN_FLIGHT = 64;
+
     private static final RiakNode DEFAULT_NODE = new RiakNode.Builder()
             .withRemoteAddress("127.0.0.1").build();
 
@@ -83,7 +89,12 @@ public class RiakKeyValueConfiguration implements KeyValueConfiguration {
         RiakCluster cluster = new RiakCluster.Builder(nodes)
                 .build();
 
-        return new RiakBucketManagerFactory(cluster);
+        int maxInFlight = settings.get(MAX_IN_FLIGHT)
+                .map(Object::toString)
+                .map(Integer::parseInt)
+                .filter(value -> value > 0)
+                .orElse(DEFAULT_MAX_IN_FLIGHT);
+        return new RiakBucketManagerFactory(cluster, maxInFlight);
     }
 
     private Function<String, RiakNode> toNode() {
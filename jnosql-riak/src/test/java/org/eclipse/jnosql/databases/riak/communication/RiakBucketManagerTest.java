@@ -16,7 +16,6 @@
 package org.eclipse.jnosql.databases.riak.communication;
 
 import org.eclipse.jnosql.communication.Value;
-import org.eclipse.jnosql.communication.keyvalue.BucketManager;
 import org.eclipse.jnosql.communication.keyvalue.BucketManagerFactory;
 import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
 import org.junit.jupiter.api.BeforeEach;
@@ -41,7 +40,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 @EnabledIfSystemProperty(named = NAMED, matches = MATCHES)
 public class RiakBucketManagerTest {
 
-    private BucketManager keyValueEntityManager;
+    private RiakBucketManager keyValueEntityManager;
 
     private BucketManagerFactory keyValueEntityManagerFactory;
 
@@ -55,7 +54,7 @@ public class RiakBucketManagerTest {
     @BeforeEach
     public void init() {
         keyValueEntityManagerFactory = RiakTestUtils.get();
-        keyValueEntityManager = keyValueEntityManagerFactory.apply("users-entity");
+        keyValueEntityManager = (RiakBucketManager) keyValueEntityManagerFactory.apply("users-entity");
     }
 
     @Test
@@ -119,4 +118,27 @@ public class RiakBucketManagerTest {
         Iterable<Value> users = values;
         assertEquals(0L, StreamSupport.stream(keyValueEntityManager.get(keys).spliterator(), false).count());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldIgnoreMissingKeysAtMultiGet() {
+        keyValueEntityManager.put(asList(keyValueSoro, keyValueOtavio));
+        Iterable<Value> values = keyValueEntityManager.get(asList("soro", "unknown", "otavio"));
+        assertThat(StreamSupport.stream(values.spliterator(), false).map(value -> value.get(User.class))
+                .collect(Collectors.toList())).containsExactly(userSoro, userOtavio);
+    }
+
+    @Test
+    public void shouldPutAndGetAsync() {
+        keyValueEntityManager.putAsync(keyValueOtavio).toCompletableFuture().join();
+        Optional<Value> otavio = keyValueEntityManager.getAsync("otavio").toCompletableFuture().join();
+        assertTrue(otavio.isPresent());
+        assertEquals(userOtavio, otavio.get().get(User.class));
+    }
+
+    @Test
+    public void shouldDeleteAsync() {
+        keyValueEntityManager.put(keyValueOtavio);
+        keyValueEntityManager.deleteAsync("otavio").toCompletableFuture().join();
+        assertFalse(keyValueEntityManager.get("otavio").isPresent());
+    }
+}
@@ -17,16 +17,20 @@ package org.eclipse.jnosql.databases.tinkerpop.communication;
 import jakarta.data.exceptions.EmptyResultException;
 import org.apache.tinkerpop.gremlin.process.traversal.dsl.graph.GraphTraversal;
 import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.T;
 import org.apache.tinkerpop.gremlin.structure.Vertex;
 import org.eclipse.jnosql.communication.CommunicationException;
 import org.eclipse.jnosql.communication.ValueUtil;
 import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
 import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
+import org.eclipse.jnosql.communication.semistructured.Element;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
 
 import java.time.Duration;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import static org.apache.tinkerpop.gremlin.process.traversal.Order.asc;
@@ -40,6 +44,10 @@ import static org.apache.tinkerpop.gremlin.process.traversal.Order.desc;
  * the underlying graph database, execute graph traversals, and perform other graph-related operations.
  * </p>
  * <p>
+ * The iterable insert and update write the elements within the same transaction and commit it every
+ * commit interval elements, instead of after each one. A vertex is added together with its properties.
+ * </p>
+ * <p>
  * Note that this implementation does not support certain operations such as insertions with a duration,
  * as indicated by the UnsupportedOperationException thrown by those methods.
  * </p>
@@ -49,8 +57,11 @@ public class DefaultGraphDatabaseManager implements GraphDatabaseManager {
     public static final String ID_PROPERTY = "_id";
     private final Graph graph;
 
-    DefaultGraphDatabaseManager(Graph graph) {
+    private final int commitInterval;
+
+    DefaultGraphDatabaseManager(Graph graph, int commitInterval) {
         this.graph = graph;
+        this.commitInterval = commitInterval;
     }
 
     @Override
@@ -65,12 +76,7 @@ public class DefaultGraphDatabaseManager implements GraphDatabaseManager {
 
     @Override
     public CommunicationEntity insert(CommunicationEntity entity) {
-
-        Objects.requireNonNull(entity, "entity is required");
-        Vertex vertex = graph.addVertex(entity.name());
-        entity.elements().forEach(e -> vertex.property(e.name(), ValueUtil.convert(e.value())));
-        entity.add(ID_PROPERTY, vertex.id());
-        vertex.property(ID_PROPERTY, vertex.id());
+        addVertex(entity);
         GraphTransactionUtil.transaction(graph);
         return entity;
     }
@@ -83,8 +89,7 @@ public class DefaultGraphDatabaseManager implements GraphDatabaseManager {
     @Override
     public Iterable<CommunicationEntity> insert(Iterable<CommunicationEntity> entities) {
         Objects.requireNonNull(entities, "entities is required");
-        entities.forEach(this::insert);
-        return entities;
+        return batch(entities, this::addVertex);
     }
 
     @Override
@@ -94,15 +99,7 @@ public class DefaultGraphDatabaseManager implements GraphDatabaseManager {
 
     @Override
     public CommunicationEntity update(CommunicationEntity entity) {
-        Objects.requireNonNull(entity, "entity is required");
-        entity.find(ID_PROPERTY).ifPresent(id -> {
-            Iterator<Vertex> vertices = graph.vertices(id.get());
-            if(!vertices.hasNext()) {
-                throw new EmptyResultException("The entity does not exist with the id: " + id);
-            }
-            Vertex vertex = vertices.next();
-            entity.elements().forEach(e -> vertex.property(e.name(), ValueUtil.convert(e.value())));
-        });
+        updateVertex(entity);
         GraphTransactionUtil.transaction(graph);
         return entity;
     }
@@ -110,8 +107,7 @@ public class DefaultGraphDatabaseManager implements GraphDatabaseManager {
     @Override
     public Iterable<CommunicationEntity> update(Iterable<CommunicationEntity> entities) {
         Objects.requireNonNull(entities, "entities is required");
-        Stream.of(entities).forEach(this::update);
-        return entities;
+        return batch(entities, this::updateVertex);
     }
 
     @Override
@@ -167,4 +163,57 @@ public class DefaultGraphDatabaseManager implements GraphDatabaseManager {
             throw new CommunicationException("There is an issue when close the Graph connection", e);
         }
     }
+
+    private void addVertex(CommunicationEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        List<Element> elements = entity.elements();
+        Object[] keyValues = new Object[(elements.size() + 1) * 2];
+        keyValues[0] = T.label;
+        keyValues[1] = entity.name();
+        int index = 2;
+        for (Element element : elements) {
+            keyValues[index++] = element.name();
+            keyValues[index++] = ValueUtil.convert(element.value());
+        }
+        Vertex vertex = graph.addVertex(keyValues);
+        entity.add(ID_PROPERTY, vertex.id());
+        vertex.property(ID_PROPERTY, vertex.id());
+    }
+
+    private void updateVertex(CommunicationEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        entity.find(ID_PROPERTY).ifPresent(id -> {
+            Iterator<Vertex> vertices = graph.vertices(id.get());
+            if(!vertices.hasNext()) {
+                throw new EmptyResultException("The entity does not exist with the id: " + id);
+            }
+            Vertex vertex = vertices.next();
+            entity.elements().forEach(e -> vertex.property(e.name(), ValueUtil.convert(e.value())));
+        });
+    }
+
+    /**
+     * Applies the operation to every entity, committing each {@code commitInterval} elements. When an element
+     * fails, the elements written since the last commit are rolled back, and the former batches stay committed.
+     */
+    private Iterable<CommunicationEntity> batch(Iterable<CommunicationEntity> entities,
+                                                Consumer<CommunicationEntity> operation) {
+        int pending = 0;
+        try {
+            for (CommunicationEntity entity : entities) {
+                operation.accept(entity);
+                if (++pending == commitInterval) {
+                    GraphTransactionUtil.transaction(graph);
+                    pending = 0;
+                }
+            }
+        } catch (RuntimeException exception) {
+            GraphTransactionUtil.rollback(graph);
+            throw exception;
+        }
+        if (pending > 0) {
+            GraphTransactionUtil.transaction(graph);
+        }
+        return entities;
+    }
 }
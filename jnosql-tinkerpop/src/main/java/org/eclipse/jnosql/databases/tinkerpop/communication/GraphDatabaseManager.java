@@ -43,6 +43,24 @@ public interface GraphDatabaseManager extends DatabaseManager, Supplier<Graph> {
      */
     static GraphDatabaseManager of(Graph graph) {
         Objects.requireNonNull(graph, "graph is required");
-        return new DefaultGraphDatabaseManager(graph);
+        return new DefaultGraphDatabaseManager(graph, GraphTransactionUtil.commitInterval());
+    }
+
+    /**
+     * Creates a new instance of DefaultGraphDatabaseManager with the specified TinkerPop Graph,
+     * whose iterable insert and update commit every {@code commitInterval} elements.
+     *
+     * @param graph          the TinkerPop Graph instance to be managed
+     * @param commitInterval the number of elements written between two automatic commits
+     * @return a new DefaultGraphDatabaseManager instance
+     * @throws NullPointerException     if the graph parameter is null
+     * @throws IllegalArgumentException if the commit interval is not positive
+     */
+    static GraphDatabaseManager of(Graph graph, int commitInterval) {
+        Objects.requireNonNull(graph, "graph is required");
+        if (commitInterval <= 0) {
+            throw new IllegalArgumentException("The commit interval must be positive, but it is: " + commitInterval);
+        }
+        return new DefaultGraphDatabaseManager(graph, commitInterval);
     }
 }
@@ -26,9 +26,19 @@ import static org.eclipse.jnosql.mapping.core.config.MappingConfigurations.GRAPH
 /**
  * Utility class providing methods to manage transactions in a graph database.
  * This class offers functionality to lock and unlock transactions, as well as automatic transaction management.
+ * The TinkerPop transactions are bound to the calling thread, so the automatic commit needs no lock, and the
+ * {@code GRAPH_TRANSACTION_AUTOMATIC} setting is read once, on the first use.
  */
 public final class GraphTransactionUtil {
 
+    /**
+     * The number of elements that the iterable insert and update write between two automatic commits,
+     * the default is 1000. E.g.: jnosql.graph.transaction.commit.interval=500
+     */
+    public static final String COMMIT_INTERVAL = "jnosql.graph.transaction.commit.interval";
+
+    private static final int DEFAULT_COMMIT_INTERVAL = 1_000;
+
     private static final Logger LOGGER = Logger.getLogger(GraphTransactionUtil.class.getName());
     private static final ThreadLocal<Transaction> THREAD_LOCAL = new ThreadLocal<>();
 
@@ -57,8 +67,9 @@ public final class GraphTransactionUtil {
      *
      * @param graph the graph instance
      */
-    public synchronized static void transaction(Graph graph) {
-        if (isAutomatic() && isNotLock() && Objects.nonNull(graph)) {
+    public static void transaction(Graph graph) {
+        if (isAutomatic() && isNotLock() && Objects.nonNull(graph)
+                && graph.features().graph().supportsTransactions()) {
             try {
                 Transaction transaction = graph.tx();
                 if (transaction != null) {
@@ -72,15 +83,44 @@ public final class GraphTransactionUtil {
         }
     }
 
+    /**
+     * Automatically rolls back the open transaction if enabled and not locked, discarding the writes that
+     * were not committed yet.
+     *
+     * @param graph the graph instance
+     */
+    public static void rollback(Graph graph) {
+        if (isAutomatic() && isNotLock() && Objects.nonNull(graph)
+                && graph.features().graph().supportsTransactions()) {
+            try {
+                Transaction transaction = graph.tx();
+                if (transaction != null && transaction.isOpen()) {
+                    transaction.rollback();
+                }
+            } catch (Exception exception) {
+                LOGGER.info("Unable to rollback the transaction automatically in the graph, reason: " +
+                        exception.getMessage());
+            }
+        }
+    }
+
     /**
      * Checks if automatic transaction management is enabled.
      *
      * @return true if automatic transaction management is enabled, false otherwise
      */
     public static boolean isAutomatic() {
-        return MicroProfileSettings.INSTANCE.get(GRAPH_TRANSACTION_AUTOMATIC, String.class)
-                .map(Boolean::valueOf)
-                .orElse(true);
+        return Automatic.ENABLED;
+    }
+
+    /**
+     * Returns the number of elements written between two automatic commits by the iterable operations,
+     * read from {@link #COMMIT_INTERVAL} once.
+     *
+     * @return the commit interval
+     */
+    public static int commitInterval() {
+        return CommitInterval.VALUE;
     }
 
     /**
@@ -91,4 +131,20 @@ public final class GraphTransactionUtil {
     private static boolean isNotLock() {
         return THREAD_LOCAL.get() == null;
     }
+
+    private static final class Automatic {
+
+        private static final boolean ENABLED = MicroProfileSettings.INSTANCE
+                .get(GRAPH_TRANSACTION_AUTOMATIC, String.class)
+                .map(Boolean::valueOf)
+                .orElse(true);
+    }
+
+    private static final class CommitInterval {
+
+        private static final int VALUE = MicroProfileSettings.INSTANCE
+                .get(COMMIT_INTERVAL, Integer.class)
+                .filter(interval -> interval > 0)
+                .orElse(DEFAULT_COMMIT_INTERVAL);
+    }
 }
@@ -14,6 +14,7 @@
  */
 package org.eclipse.jnosql.databases.tinkerpop.communication;
 
+import jakarta.data.exceptions.EmptyResultException;
 import net.datafaker.Faker;
 import org.apache.tinkerpop.gremlin.structure.Graph;
 import org.assertj.core.api.Assertions;
@@ -134,6 +135,54 @@ class DefaultGraphDatabaseManagerTest {
         assertEquals(newField, updated.find("newField").orElseThrow());
     }
 
+    @Test
+    void shouldUpdateEntities() {
+        var entities = StreamSupport.stream(entityManager.insert(List.of(getEntity(), getEntity()))
+                .spliterator(), false).toList();
+        entities.forEach(entity -> entity.add("city", "Rio de Janeiro"));
+        entityManager.update(entities);
+
+        SelectQuery query = select().from(COLLECTION_NAME).build();
+        assertThat(entityManager.select(query).toList())
+                .hasSize(2)
+                .allSatisfy(entity -> assertThat(entity.find("city", String.class)).contains("Rio de Janeiro"));
+    }
+
+    @Test
+    void shouldInsertEntitiesInBatches() {
+        var manager = GraphDatabaseManager.of(GraphSupplier.INSTANCE.get(), 2);
+        var entities = List.of(getEntity(), getEntity(), getEntity());
+        manager.insert(entities);
+
+        SelectQuery query = select().from(COLLECTION_NAME).build();
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(entities).allSatisfy(entity ->
+                    assertThat(entity.find(DefaultGraphDatabaseManager.ID_PROPERTY)).isPresent());
+            softly.assertThat(manager.select(query).toList()).hasSize(3);
+        });
+    }
+
+    @Test
+    void shouldRollbackPendingElementsWhenUpdateFails() {
+        var entities = StreamSupport.stream(entityManager.insert(List.of(getEntity(), getEntity()))
+                .spliterator(), false).toList();
+        entities.get(0).add("city", "Rio de Janeiro");
+        entities.get(1).add(DefaultGraphDatabaseManager.ID_PROPERTY, -1L);
+
+        assertThrows(EmptyResultException.class, () -> entityManager.update(entities));
+
+        SelectQuery query = select().from(COLLECTION_NAME).build();
+        assertThat(entityManager.select(query).toList())
+                .hasSize(2)
+                .allSatisfy(entity -> assertThat(entity.find("city")).isEmpty());
+    }
+
+    @Test
+    void shouldReturnErrorWhenCommitIntervalIsNotPositive() {
+        Graph graph = GraphSupplier.INSTANCE.get();
+        assertThrows(IllegalArgumentException.class, () -> GraphDatabaseManager.of(graph, 0));
+    }
+
     @Test
     void shouldRemoveEntity() {
         var documentEntity = entityManager.insert(getEntity());
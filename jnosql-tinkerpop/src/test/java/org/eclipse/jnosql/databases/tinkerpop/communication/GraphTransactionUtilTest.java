@@ -0,0 +1,116 @@
+/*
+ *  Copyright (c) 2022 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.databases.tinkerpop.communication;
+
+import org.apache.tinkerpop.gremlin.structure.Graph;
+import org.apache.tinkerpop.gremlin.structure.Transaction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GraphTransactionUtilTest {
+
+    @AfterEach
+    void tearDown() {
+        GraphTransactionUtil.unlock();
+    }
+
+    @Test
+    void shouldNotOpenTransactionWhenGraphDoesNotSupportIt() {
+        Graph graph = Mockito.mock(Graph.class, Mockito.RETURNS_DEEP_STUBS);
+        when(graph.features().graph().supportsTransactions()).thenReturn(false);
+
+        GraphTransactionUtil.transaction(graph);
+        GraphTransactionUtil.rollback(graph);
+
+        verify(graph, never()).tx();
+    }
+
+    @Test
+    void shouldNotCommitWhenLocked() {
+        Graph graph = Mockito.mock(Graph.class, Mockito.RETURNS_DEEP_STUBS);
+        Transaction transaction = Mockito.mock(Transaction.class);
+        when(graph.features().graph().supportsTransactions()).thenReturn(true);
+        when(graph.tx()).thenReturn(transaction);
+
+        GraphTransactionUtil.lock(transaction);
+        GraphTransactionUtil.transaction(graph);
+
+        verify(transaction, never()).commit();
+    }
+
+    @Test
+    void shouldCommitTheTransactionOfEachThread() throws Exception {
+        Map<Thread, Transaction> transactions = new ConcurrentHashMap<>();
+        Graph graph = Mockito.mock(Graph.class, Mockito.RETURNS_DEEP_STUBS);
+        when(graph.features().graph().supportsTransactions()).thenReturn(true);
+        when(graph.tx()).thenAnswer(invocation -> transactions.computeIfAbsent(Thread.currentThread(),
+                thread -> Mockito.mock(Transaction.class)));
+
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> first = executor.submit(() -> {
+                start.await();
+                GraphTransactionUtil.transaction(graph);
+                return null;
+            });
+            Future<?> second = executor.submit(() -> {
+                start.await();
+                GraphTransactionUtil.transaction(graph);
+                return null;
+            });
+            start.countDown();
+            first.get(10, TimeUnit.SECONDS);
+            second.get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(transactions).hasSize(2);
+        for (Transaction transaction : transactions.values()) {
+            verify(transaction, times(1)).commit();
+        }
+    }
+
+    @Test
+    void shouldNotShareTheLockBetweenThreads() throws Exception {
+        Graph graph = Mockito.mock(Graph.class, Mockito.RETURNS_DEEP_STUBS);
+        Transaction transaction = Mockito.mock(Transaction.class);
+        when(graph.features().graph().supportsTransactions()).thenReturn(true);
+        when(graph.tx()).thenReturn(transaction);
+
+        GraphTransactionUtil.lock(transaction);
+        Thread thread = new Thread(() -> GraphTransactionUtil.transaction(graph));
+        thread.start();
+        thread.join(TimeUnit.SECONDS.toMillis(10));
+
+        verify(transaction, times(1)).commit();
+    }
+}